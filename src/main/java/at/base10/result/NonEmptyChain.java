@@ -0,0 +1,194 @@
+package at.base10.result;
+
+import lombok.NonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A persistent sequence holding at least one element, with constant-time {@link #append(Object)} and
+ * {@link #concat(NonEmptyChain)}.
+ *
+ * <p>A chain is a binary tree whose leaves are its elements: appending or concatenating only allocates a new root
+ * sharing both operands, which stay unchanged. Walking the elements takes linear time and no recursion, however
+ * unbalanced the tree has grown. This makes it the failure side of {@link Validation}, where combining many
+ * validations would otherwise copy the failures collected so far again and again.
+ *
+ * <p>Two chains are equal if they hold equal elements in the same order, regardless of how they were built.
+ *
+ * @param <F> the type of the elements
+ * @see Validation
+ */
+public final class NonEmptyChain<F> implements Iterable<F> {
+    private final F element;
+    private final NonEmptyChain<F> left;
+    private final NonEmptyChain<F> right;
+    private final int size;
+
+    private NonEmptyChain(F element, NonEmptyChain<F> left, NonEmptyChain<F> right, int size) {
+        this.element = element;
+        this.left = left;
+        this.right = right;
+        this.size = size;
+    }
+
+    private static <F> NonEmptyChain<F> node(NonEmptyChain<F> left, NonEmptyChain<F> right) {
+        return new NonEmptyChain<>(null, left, right, left.size + right.size);
+    }
+
+    /**
+     * Creates a chain of a single element.
+     *
+     * @param <F>     the type of the elements
+     * @param element the element
+     * @return a chain holding {@code element}
+     */
+    public static <F> NonEmptyChain<F> of(F element) {
+        return new NonEmptyChain<>(element, null, null, 1);
+    }
+
+    /**
+     * Creates a chain of the elements of a list, in order.
+     *
+     * @param <F>      the type of the elements
+     * @param elements the elements, at least one
+     * @return a chain holding {@code elements}
+     * @throws IllegalArgumentException if {@code elements} is empty
+     */
+    public static <F> NonEmptyChain<F> fromList(@NonNull List<F> elements) {
+        NonEmptyChain<F> chain = of(first(elements));
+        for (F element : elements.subList(1, elements.size())) {
+            chain = chain.append(element);
+        }
+        return chain;
+    }
+
+    private static <F> F first(List<F> elements) {
+        if (elements.isEmpty()) {
+            throw new IllegalArgumentException("a chain needs at least one element");
+        }
+        return elements.get(0);
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the number of elements, at least one
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a chain with {@code element} added at the end, in constant time.
+     *
+     * @param element the element to add
+     * @return a new chain
+     */
+    public NonEmptyChain<F> append(F element) {
+        return node(this, of(element));
+    }
+
+    /**
+     * Returns a chain with the elements of {@code other} added at the end, in constant time.
+     *
+     * @param other the chain to add
+     * @return a new chain
+     */
+    public NonEmptyChain<F> concat(@NonNull NonEmptyChain<F> other) {
+        return node(this, other);
+    }
+
+    /**
+     * Returns a chain of the elements mapped by {@code mapper}, in order.
+     *
+     * @param <F2>   the type of the mapped elements
+     * @param mapper the function applied to every element
+     * @return a new chain
+     */
+    public <F2> NonEmptyChain<F2> map(@NonNull Function<F, F2> mapper) {
+        Iterator<F> elements = iterator();
+        NonEmptyChain<F2> chain = of(mapper.apply(elements.next()));
+        while (elements.hasNext()) {
+            chain = chain.append(mapper.apply(elements.next()));
+        }
+        return chain;
+    }
+
+    /**
+     * Returns the elements as an unmodifiable list, in order.
+     *
+     * @return the elements
+     */
+    public List<F> toList() {
+        List<F> elements = new ArrayList<>(size);
+        forEach(elements::add);
+        return Collections.unmodifiableList(elements);
+    }
+
+    /**
+     * Returns an iterator over the elements, in order.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<F> iterator() {
+        return new Elements<>(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof NonEmptyChain<?> other && toList().equals(other.toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return toList().hashCode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    /**
+     * Walks the leaves left to right, keeping the subtrees still to visit on a heap-allocated stack.
+     */
+    private static final class Elements<F> implements Iterator<F> {
+        private final Deque<NonEmptyChain<F>> pending = new ArrayDeque<>();
+
+        private Elements(NonEmptyChain<F> chain) {
+            pending.push(chain);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public F next() {
+            // pop throws the NoSuchElementException required once the elements are exhausted
+            NonEmptyChain<F> node = pending.pop();
+            while (node.left != null) {
+                pending.push(node.right);
+                node = node.left;
+            }
+            return node.element;
+        }
+    }
+}
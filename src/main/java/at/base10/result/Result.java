@@ -1,8 +1,18 @@
 package at.base10.result;
 
+import at.base10.result.function.Function3;
+import at.base10.result.function.Function4;
+import at.base10.result.function.Function5;
+import at.base10.result.function.Function6;
+import at.base10.result.function.Function7;
+import at.base10.result.function.Function8;
+
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -20,6 +30,10 @@ import java.util.stream.Stream;
  * <p>Typical usage involves calling one of the factory methods such as {@link #success(Object)} or {@link #failure(Object)}
  * to construct an instance and then processing it using various transformation and mapping methods.
  *
+ * <p>Up to eight results are combined with {@link #zip(Result, Result, BiFunction)}, which stops at the first failure,
+ * or {@link #zipApplicative(Result, Result, BiFunction)}, which reports the failures of all of them. Both pass the
+ * success values straight to the combining function, without collecting them into a tuple or list first.
+ *
  * @param <S> the type representing a successful result
  * @param <F> the type representing a failure result
  * @see Success
@@ -154,6 +168,395 @@ public sealed interface Result<S, F> permits Success, Failure {
         return value ? success(true) : failure(false);
     }
 
+    /**
+     * Combines two results with {@code combiner}, stopping at the first failure.
+     *
+     * @param <S1>     the success type of the first result
+     * @param <S2>     the success type of the second result
+     * @param <R>      the type of the combined value
+     * @param <F>      the type representing a failure result
+     * @param r1       the first result
+     * @param r2       the second result
+     * @param combiner combines the success values
+     * @return the combined value if every result is a success, otherwise the first failure
+     */
+    static <S1, S2, R, F> Result<R, F> zip(Result<S1, F> r1, Result<S2, F> r2, BiFunction<S1, S2, R> combiner) {
+        Result<R, F> failed = firstFailure(r1, r2);
+        return failed == null ? success(combiner.apply(r1.value(), r2.value())) : failed;
+    }
+
+    /**
+     * Combines three results with {@code combiner}, stopping at the first failure.
+     *
+     * @param <S1>     the success type of the first result
+     * @param <S2>     the success type of the second result
+     * @param <S3>     the success type of the third result
+     * @param <R>      the type of the combined value
+     * @param <F>      the type representing a failure result
+     * @param r1       the first result
+     * @param r2       the second result
+     * @param r3       the third result
+     * @param combiner combines the success values
+     * @return the combined value if every result is a success, otherwise the first failure
+     */
+    static <S1, S2, S3, R, F> Result<R, F> zip(Result<S1, F> r1, Result<S2, F> r2, Result<S3, F> r3, Function3<S1, S2, S3, R> combiner) {
+        Result<R, F> failed = firstFailure(r1, r2, r3);
+        return failed == null ? success(combiner.apply(r1.value(), r2.value(), r3.value())) : failed;
+    }
+
+    /**
+     * Combines four results with {@code combiner}, stopping at the first failure.
+     *
+     * @param <S1>     the success type of the first result
+     * @param <S2>     the success type of the second result
+     * @param <S3>     the success type of the third result
+     * @param <S4>     the success type of the fourth result
+     * @param <R>      the type of the combined value
+     * @param <F>      the type representing a failure result
+     * @param r1       the first result
+     * @param r2       the second result
+     * @param r3       the third result
+     * @param r4       the fourth result
+     * @param combiner combines the success values
+     * @return the combined value if every result is a success, otherwise the first failure
+     */
+    static <S1, S2, S3, S4, R, F> Result<R, F> zip(Result<S1, F> r1, Result<S2, F> r2, Result<S3, F> r3, Result<S4, F> r4,
+                                                   Function4<S1, S2, S3, S4, R> combiner) {
+        Result<R, F> failed = firstFailure(r1, r2, r3, r4);
+        return failed == null ? success(combiner.apply(r1.value(), r2.value(), r3.value(), r4.value())) : failed;
+    }
+
+    /**
+     * Combines five results with {@code combiner}, stopping at the first failure.
+     *
+     * @param <S1>     the success type of the first result
+     * @param <S2>     the success type of the second result
+     * @param <S3>     the success type of the third result
+     * @param <S4>     the success type of the fourth result
+     * @param <S5>     the success type of the fifth result
+     * @param <R>      the type of the combined value
+     * @param <F>      the type representing a failure result
+     * @param r1       the first result
+     * @param r2       the second result
+     * @param r3       the third result
+     * @param r4       the fourth result
+     * @param r5       the fifth result
+     * @param combiner combines the success values
+     * @return the combined value if every result is a success, otherwise the first failure
+     */
+    static <S1, S2, S3, S4, S5, R, F> Result<R, F> zip(Result<S1, F> r1, Result<S2, F> r2, Result<S3, F> r3, Result<S4, F> r4,
+                                                       Result<S5, F> r5, Function5<S1, S2, S3, S4, S5, R> combiner) {
+        Result<R, F> failed = firstFailure(r1, r2, r3, r4, r5);
+        return failed == null ? success(combiner.apply(r1.value(), r2.value(), r3.value(), r4.value(), r5.value())) : failed;
+    }
+
+    /**
+     * Combines six results with {@code combiner}, stopping at the first failure.
+     *
+     * @param <S1>     the success type of the first result
+     * @param <S2>     the success type of the second result
+     * @param <S3>     the success type of the third result
+     * @param <S4>     the success type of the fourth result
+     * @param <S5>     the success type of the fifth result
+     * @param <S6>     the success type of the sixth result
+     * @param <R>      the type of the combined value
+     * @param <F>      the type representing a failure result
+     * @param r1       the first result
+     * @param r2       the second result
+     * @param r3       the third result
+     * @param r4       the fourth result
+     * @param r5       the fifth result
+     * @param r6       the sixth result
+     * @param combiner combines the success values
+     * @return the combined value if every result is a success, otherwise the first failure
+     */
+    static <S1, S2, S3, S4, S5, S6, R, F> Result<R, F> zip(Result<S1, F> r1, Result<S2, F> r2, Result<S3, F> r3, Result<S4, F> r4,
+                                                           Result<S5, F> r5, Result<S6, F> r6, Function6<S1, S2, S3, S4, S5, S6, R> combiner) {
+        Result<R, F> failed = firstFailure(r1, r2, r3, r4, r5, r6);
+        return failed == null ? success(combiner.apply(r1.value(), r2.value(), r3.value(), r4.value(), r5.value(), r6.value())) : failed;
+    }
+
+    /**
+     * Combines seven results with {@code combiner}, stopping at the first failure.
+     *
+     * @param <S1>     the success type of the first result
+     * @param <S2>     the success type of the second result
+     * @param <S3>     the success type of the third result
+     * @param <S4>     the success type of the fourth result
+     * @param <S5>     the success type of the fifth result
+     * @param <S6>     the success type of the sixth result
+     * @param <S7>     the success type of the seventh result
+     * @param <R>      the type of the combined value
+     * @param <F>      the type representing a failure result
+     * @param r1       the first result
+     * @param r2       the second result
+     * @param r3       the third result
+     * @param r4       the fourth result
+     * @param r5       the fifth result
+     * @param r6       the sixth result
+     * @param r7       the seventh result
+     * @param combiner combines the success values
+     * @return the combined value if every result is a success, otherwise the first failure
+     */
+    static <S1, S2, S3, S4, S5, S6, S7, R, F> Result<R, F> zip(Result<S1, F> r1, Result<S2, F> r2, Result<S3, F> r3, Result<S4, F> r4,
+                                                               Result<S5, F> r5, Result<S6, F> r6, Result<S7, F> r7, Function7<S1, S2, S3, S4, S5, S6, S7, R> combiner) {
+        Result<R, F> failed = firstFailure(r1, r2, r3, r4, r5, r6, r7);
+        return failed == null ? success(combiner.apply(r1.value(), r2.value(), r3.value(), r4.value(), r5.value(), r6.value(), r7.value())) : failed;
+    }
+
+    /**
+     * Combines eight results with {@code combiner}, stopping at the first failure.
+     *
+     * @param <S1>     the success type of the first result
+     * @param <S2>     the success type of the second result
+     * @param <S3>     the success type of the third result
+     * @param <S4>     the success type of the fourth result
+     * @param <S5>     the success type of the fifth result
+     * @param <S6>     the success type of the sixth result
+     * @param <S7>     the success type of the seventh result
+     * @param <S8>     the success type of the eighth result
+     * @param <R>      the type of the combined value
+     * @param <F>      the type representing a failure result
+     * @param r1       the first result
+     * @param r2       the second result
+     * @param r3       the third result
+     * @param r4       the fourth result
+     * @param r5       the fifth result
+     * @param r6       the sixth result
+     * @param r7       the seventh result
+     * @param r8       the eighth result
+     * @param combiner combines the success values
+     * @return the combined value if every result is a success, otherwise the first failure
+     */
+    static <S1, S2, S3, S4, S5, S6, S7, S8, R, F> Result<R, F> zip(Result<S1, F> r1, Result<S2, F> r2, Result<S3, F> r3, Result<S4, F> r4,
+                                                                   Result<S5, F> r5, Result<S6, F> r6, Result<S7, F> r7, Result<S8, F> r8,
+                                                                   Function8<S1, S2, S3, S4, S5, S6, S7, S8, R> combiner) {
+        Result<R, F> failed = firstFailure(r1, r2, r3, r4, r5, r6, r7, r8);
+        return failed == null
+                ? success(combiner.apply(r1.value(), r2.value(), r3.value(), r4.value(), r5.value(), r6.value(), r7.value(), r8.value()))
+                : failed;
+    }
+
+    /**
+     * Combines two results with {@code combiner}, accumulating the failures of all of them.
+     *
+     * @param <S1>     the success type of the first result
+     * @param <S2>     the success type of the second result
+     * @param <R>      the type of the combined value
+     * @param <F>      the type representing a failure result
+     * @param r1       the first result
+     * @param r2       the second result
+     * @param combiner combines the success values
+     * @return the combined value if every result is a success, otherwise an unmodifiable list of all failures in order
+     */
+    static <S1, S2, R, F> Result<R, List<F>> zipApplicative(Result<S1, F> r1, Result<S2, F> r2, BiFunction<S1, S2, R> combiner) {
+        return firstFailure(r1, r2) == null ? success(combiner.apply(r1.value(), r2.value())) : failure(failures(r1, r2));
+    }
+
+    /**
+     * Combines three results with {@code combiner}, accumulating the failures of all of them.
+     *
+     * @param <S1>     the success type of the first result
+     * @param <S2>     the success type of the second result
+     * @param <S3>     the success type of the third result
+     * @param <R>      the type of the combined value
+     * @param <F>      the type representing a failure result
+     * @param r1       the first result
+     * @param r2       the second result
+     * @param r3       the third result
+     * @param combiner combines the success values
+     * @return the combined value if every result is a success, otherwise an unmodifiable list of all failures in order
+     */
+    static <S1, S2, S3, R, F> Result<R, List<F>> zipApplicative(Result<S1, F> r1, Result<S2, F> r2, Result<S3, F> r3, Function3<S1, S2, S3, R> combiner) {
+        return firstFailure(r1, r2, r3) == null ? success(combiner.apply(r1.value(), r2.value(), r3.value())) : failure(failures(r1, r2, r3));
+    }
+
+    /**
+     * Combines four results with {@code combiner}, accumulating the failures of all of them.
+     *
+     * @param <S1>     the success type of the first result
+     * @param <S2>     the success type of the second result
+     * @param <S3>     the success type of the third result
+     * @param <S4>     the success type of the fourth result
+     * @param <R>      the type of the combined value
+     * @param <F>      the type representing a failure result
+     * @param r1       the first result
+     * @param r2       the second result
+     * @param r3       the third result
+     * @param r4       the fourth result
+     * @param combiner combines the success values
+     * @return the combined value if every result is a success, otherwise an unmodifiable list of all failures in order
+     */
+    static <S1, S2, S3, S4, R, F> Result<R, List<F>> zipApplicative(Result<S1, F> r1, Result<S2, F> r2, Result<S3, F> r3, Result<S4, F> r4,
+                                                                    Function4<S1, S2, S3, S4, R> combiner) {
+        return firstFailure(r1, r2, r3, r4) == null
+                ? success(combiner.apply(r1.value(), r2.value(), r3.value(), r4.value()))
+                : failure(failures(r1, r2, r3, r4));
+    }
+
+    /**
+     * Combines five results with {@code combiner}, accumulating the failures of all of them.
+     *
+     * @param <S1>     the success type of the first result
+     * @param <S2>     the success type of the second result
+     * @param <S3>     the success type of the third result
+     * @param <S4>     the success type of the fourth result
+     * @param <S5>     the success type of the fifth result
+     * @param <R>      the type of the combined value
+     * @param <F>      the type representing a failure result
+     * @param r1       the first result
+     * @param r2       the second result
+     * @param r3       the third result
+     * @param r4       the fourth result
+     * @param r5       the fifth result
+     * @param combiner combines the success values
+     * @return the combined value if every result is a success, otherwise an unmodifiable list of all failures in order
+     */
+    static <S1, S2, S3, S4, S5, R, F> Result<R, List<F>> zipApplicative(Result<S1, F> r1, Result<S2, F> r2, Result<S3, F> r3, Result<S4, F> r4,
+                                                                        Result<S5, F> r5, Function5<S1, S2, S3, S4, S5, R> combiner) {
+        return firstFailure(r1, r2, r3, r4, r5) == null
+                ? success(combiner.apply(r1.value(), r2.value(), r3.value(), r4.value(), r5.value()))
+                : failure(failures(r1, r2, r3, r4, r5));
+    }
+
+    /**
+     * Combines six results with {@code combiner}, accumulating the failures of all of them.
+     *
+     * @param <S1>     the success type of the first result
+     * @param <S2>     the success type of the second result
+     * @param <S3>     the success type of the third result
+     * @param <S4>     the success type of the fourth result
+     * @param <S5>     the success type of the fifth result
+     * @param <S6>     the success type of the sixth result
+     * @param <R>      the type of the combined value
+     * @param <F>      the type representing a failure result
+     * @param r1       the first result
+     * @param r2       the second result
+     * @param r3       the third result
+     * @param r4       the fourth result
+     * @param r5       the fifth result
+     * @param r6       the sixth result
+     * @param combiner combines the success values
+     * @return the combined value if every result is a success, otherwise an unmodifiable list of all failures in order
+     */
+    static <S1, S2, S3, S4, S5, S6, R, F> Result<R, List<F>> zipApplicative(Result<S1, F> r1, Result<S2, F> r2, Result<S3, F> r3, Result<S4, F> r4,
+                                                                            Result<S5, F> r5, Result<S6, F> r6, Function6<S1, S2, S3, S4, S5, S6, R> combiner) {
+        return firstFailure(r1, r2, r3, r4, r5, r6) == null
+                ? success(combiner.apply(r1.value(), r2.value(), r3.value(), r4.value(), r5.value(), r6.value()))
+                : failure(failures(r1, r2, r3, r4, r5, r6));
+    }
+
+    /**
+     * Combines seven results with {@code combiner}, accumulating the failures of all of them.
+     *
+     * @param <S1>     the success type of the first result
+     * @param <S2>     the success type of the second result
+     * @param <S3>     the success type of the third result
+     * @param <S4>     the success type of the fourth result
+     * @param <S5>     the success type of the fifth result
+     * @param <S6>     the success type of the sixth result
+     * @param <S7>     the success type of the seventh result
+     * @param <R>      the type of the combined value
+     * @param <F>      the type representing a failure result
+     * @param r1       the first result
+     * @param r2       the second result
+     * @param r3       the third result
+     * @param r4       the fourth result
+     * @param r5       the fifth result
+     * @param r6       the sixth result
+     * @param r7       the seventh result
+     * @param combiner combines the success values
+     * @return the combined value if every result is a success, otherwise an unmodifiable list of all failures in order
+     */
+    static <S1, S2, S3, S4, S5, S6, S7, R, F> Result<R, List<F>> zipApplicative(Result<S1, F> r1, Result<S2, F> r2, Result<S3, F> r3, Result<S4, F> r4,
+                                                                                Result<S5, F> r5, Result<S6, F> r6, Result<S7, F> r7, Function7<S1, S2, S3, S4, S5, S6, S7, R> combiner) {
+        return firstFailure(r1, r2, r3, r4, r5, r6, r7) == null
+                ? success(combiner.apply(r1.value(), r2.value(), r3.value(), r4.value(), r5.value(), r6.value(), r7.value()))
+                : failure(failures(r1, r2, r3, r4, r5, r6, r7));
+    }
+
+    /**
+     * Combines eight results with {@code combiner}, accumulating the failures of all of them.
+     *
+     * @param <S1>     the success type of the first result
+     * @param <S2>     the success type of the second result
+     * @param <S3>     the success type of the third result
+     * @param <S4>     the success type of the fourth result
+     * @param <S5>     the success type of the fifth result
+     * @param <S6>     the success type of the sixth result
+     * @param <S7>     the success type of the seventh result
+     * @param <S8>     the success type of the eighth result
+     * @param <R>      the type of the combined value
+     * @param <F>      the type representing a failure result
+     * @param r1       the first result
+     * @param r2       the second result
+     * @param r3       the third result
+     * @param r4       the fourth result
+     * @param r5       the fifth result
+     * @param r6       the sixth result
+     * @param r7       the seventh result
+     * @param r8       the eighth result
+     * @param combiner combines the success values
+     * @return the combined value if every result is a success, otherwise an unmodifiable list of all failures in order
+     */
+    static <S1, S2, S3, S4, S5, S6, S7, S8, R, F> Result<R, List<F>> zipApplicative(Result<S1, F> r1, Result<S2, F> r2, Result<S3, F> r3, Result<S4, F> r4,
+                                                                                    Result<S5, F> r5, Result<S6, F> r6, Result<S7, F> r7, Result<S8, F> r8,
+                                                                                    Function8<S1, S2, S3, S4, S5, S6, S7, S8, R> combiner) {
+        return firstFailure(r1, r2, r3, r4, r5, r6, r7, r8) == null
+                ? success(combiner.apply(r1.value(), r2.value(), r3.value(), r4.value(), r5.value(), r6.value(), r7.value(), r8.value()))
+                : failure(failures(r1, r2, r3, r4, r5, r6, r7, r8));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R, F> Result<R, F> firstFailure(Result<?, F> r1, Result<?, F> r2) {
+        if (r1.isFailure()) {
+            return (Result<R, F>) r1;
+        }
+        return r2.isFailure() ? (Result<R, F>) r2 : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R, F> Result<R, F> firstFailure(Result<?, F> r1, Result<?, F> r2, Result<?, F> r3) {
+        return r1.isFailure() ? (Result<R, F>) r1 : firstFailure(r2, r3);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R, F> Result<R, F> firstFailure(Result<?, F> r1, Result<?, F> r2, Result<?, F> r3, Result<?, F> r4) {
+        return r1.isFailure() ? (Result<R, F>) r1 : firstFailure(r2, r3, r4);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R, F> Result<R, F> firstFailure(Result<?, F> r1, Result<?, F> r2, Result<?, F> r3, Result<?, F> r4, Result<?, F> r5) {
+        return r1.isFailure() ? (Result<R, F>) r1 : firstFailure(r2, r3, r4, r5);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R, F> Result<R, F> firstFailure(Result<?, F> r1, Result<?, F> r2, Result<?, F> r3, Result<?, F> r4,
+                                                    Result<?, F> r5, Result<?, F> r6) {
+        return r1.isFailure() ? (Result<R, F>) r1 : firstFailure(r2, r3, r4, r5, r6);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R, F> Result<R, F> firstFailure(Result<?, F> r1, Result<?, F> r2, Result<?, F> r3, Result<?, F> r4,
+                                                    Result<?, F> r5, Result<?, F> r6, Result<?, F> r7) {
+        return r1.isFailure() ? (Result<R, F>) r1 : firstFailure(r2, r3, r4, r5, r6, r7);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R, F> Result<R, F> firstFailure(Result<?, F> r1, Result<?, F> r2, Result<?, F> r3, Result<?, F> r4,
+                                                    Result<?, F> r5, Result<?, F> r6, Result<?, F> r7, Result<?, F> r8) {
+        return r1.isFailure() ? (Result<R, F>) r1 : firstFailure(r2, r3, r4, r5, r6, r7, r8);
+    }
+
+    @SafeVarargs
+    private static <F> List<F> failures(Result<?, F>... results) {
+        List<F> failures = new ArrayList<>(results.length);
+        for (Result<?, F> result : results) {
+            result.peekFailure(failures::add);
+        }
+        return Collections.unmodifiableList(failures);
+    }
+
     /**
      * Checks if the Result is successful.
      *
@@ -0,0 +1,344 @@
+package at.base10.result;
+
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A companion to {@link Result} for validations that report every failure instead of stopping at the first one.
+ *
+ * <p>A {@code Validation} is either {@link Valid} with a value, or {@link Invalid} with a {@link NonEmptyChain} of
+ * failures. Combining two invalid validations concatenates their chains in constant time, so validating a wide
+ * record field by field, or a large batch with {@link #sequence(Iterable)}, takes linear time in the number of
+ * validations, where concatenating lists or streams would be quadratic.
+ *
+ * <p>Use {@link #of(Result)} and {@link #fromResult(Result)} to start from results and {@link #toResult()} to go
+ * back.
+ *
+ * <p><b>Usage Example:</b></p>
+ *
+ * <blockquote><pre>{@code
+ * Validation<Customer, String> customer = Validation.of(Name.parse(row[0]))
+ *     .zip(Validation.of(Email.parse(row[1])), Customer::new);
+ *
+ * Result<List<Customer>, List<String>> batch = Validation.sequence(customers).toResult();
+ * }</pre></blockquote>
+ *
+ * @param <S> the type of the value of a valid validation
+ * @param <F> the type of the failures of an invalid validation
+ * @see NonEmptyChain
+ */
+public sealed interface Validation<S, F> {
+
+    /**
+     * Creates a valid validation.
+     *
+     * @param <S>   the type of the value
+     * @param <F>   the type of the failures
+     * @param value the value
+     * @return a valid validation of {@code value}
+     */
+    static <S, F> Validation<S, F> valid(S value) {
+        return new Valid<>(value);
+    }
+
+    /**
+     * Creates an invalid validation with a single failure.
+     *
+     * @param <S>     the type of the value
+     * @param <F>     the type of the failures
+     * @param failure the failure
+     * @return an invalid validation of {@code failure}
+     */
+    static <S, F> Validation<S, F> invalid(F failure) {
+        return new Invalid<>(NonEmptyChain.of(failure));
+    }
+
+    /**
+     * Creates an invalid validation.
+     *
+     * @param <S>      the type of the value
+     * @param <F>      the type of the failures
+     * @param failures the failures
+     * @return an invalid validation of {@code failures}
+     */
+    static <S, F> Validation<S, F> invalidAll(NonEmptyChain<F> failures) {
+        return new Invalid<>(failures);
+    }
+
+    /**
+     * Converts a result with a single failure.
+     *
+     * @param <S>    the type of the value
+     * @param <F>    the type of the failures
+     * @param result the result
+     * @return a valid validation of the value, or an invalid validation of the failure
+     */
+    static <S, F> Validation<S, F> of(@NonNull Result<S, F> result) {
+        return result.either(Validation::valid, Validation::invalid);
+    }
+
+    /**
+     * Converts a result with a list of failures, such as one returned by an applicative traversal.
+     *
+     * @param <S>    the type of the value
+     * @param <F>    the type of the failures
+     * @param result the result
+     * @return a valid validation of the value, or an invalid validation of the failures
+     * @throws IllegalArgumentException if {@code result} is a failure of an empty list
+     */
+    static <S, F> Validation<S, F> fromResult(@NonNull Result<S, List<F>> result) {
+        return result.either(Validation::valid, failures -> invalidAll(NonEmptyChain.fromList(failures)));
+    }
+
+    /**
+     * Combines validations in one pass.
+     *
+     * @param <S>         the type of the values
+     * @param <F>         the type of the failures
+     * @param validations the validations to combine
+     * @return a valid validation of an unmodifiable list of all values if every validation is valid,
+     * otherwise an invalid validation of all failures, in order
+     */
+    static <S, F> Validation<List<S>, F> sequence(@NonNull Iterable<Validation<S, F>> validations) {
+        Validation<List<S>, F> combined = valid(new ArrayList<>());
+        for (Validation<S, F> validation : validations) {
+            combined = combined.zip(validation, (values, value) -> {
+                values.add(value);
+                return values;
+            });
+        }
+        return combined.map(Collections::unmodifiableList);
+    }
+
+    /**
+     * Returns whether the validation is valid.
+     *
+     * @return {@code true} if valid, {@code false} if invalid
+     */
+    boolean isValid();
+
+    /**
+     * Returns the value of a valid validation.
+     *
+     * @return the value
+     * @throws NoSuchElementException if the validation is invalid
+     */
+    S value();
+
+    /**
+     * Returns the failures of an invalid validation.
+     *
+     * @return the failures
+     * @throws NoSuchElementException if the validation is valid
+     */
+    NonEmptyChain<F> failures();
+
+    /**
+     * Maps the value of a valid validation.
+     *
+     * @param <S2>   the type of the mapped value
+     * @param mapper the function applied to the value
+     * @return a validation of the mapped value, or this validation's failures
+     */
+    <S2> Validation<S2, F> map(Function<S, S2> mapper);
+
+    /**
+     * Maps every failure of an invalid validation.
+     *
+     * @param <F2>   the type of the mapped failures
+     * @param mapper the function applied to every failure
+     * @return a validation of the mapped failures, or this validation's value
+     */
+    <F2> Validation<S, F2> mapFailure(Function<F, F2> mapper);
+
+    /**
+     * Continues with a validation depending on the value, stopping at this validation's failures.
+     *
+     * @param <S2>    the type of the value of the next validation
+     * @param binding the function producing the next validation
+     * @return the next validation, or this validation's failures
+     */
+    <S2> Validation<S2, F> flatMap(Function<S, Validation<S2, F>> binding);
+
+    /**
+     * Combines this validation with {@code other}, keeping the failures of both.
+     *
+     * @param <U>      the type of the value of {@code other}
+     * @param <R>      the type of the combined value
+     * @param other    the validation to combine with
+     * @param combiner combines both values if both validations are valid
+     * @return a validation of the combined value, or of the failures of this and then {@code other}
+     */
+    <U, R> Validation<R, F> zip(Validation<U, F> other, BiFunction<S, U, R> combiner);
+
+    /**
+     * Reduces the validation to a single value.
+     *
+     * @param <R>       the type of the reduced value
+     * @param valid     applied to the value of a valid validation
+     * @param invalid   applied to the failures of an invalid validation
+     * @return the reduced value
+     */
+    <R> R fold(Function<S, R> valid, Function<NonEmptyChain<F>, R> invalid);
+
+    /**
+     * Converts the validation into a result.
+     *
+     * @return a success of the value, or a failure of an unmodifiable list of the failures
+     */
+    Result<S, List<F>> toResult();
+
+    /**
+     * A valid validation.
+     *
+     * @param value the value
+     * @param <S>   the type of the value
+     * @param <F>   the type of the failures
+     */
+    record Valid<S, F>(S value) implements Validation<S, F> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public NonEmptyChain<F> failures() {
+            throw new NoSuchElementException("No failures present");
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <S2> Validation<S2, F> map(@NonNull Function<S, S2> mapper) {
+            return new Valid<>(mapper.apply(value));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <F2> Validation<S, F2> mapFailure(@NonNull Function<F, F2> mapper) {
+            return new Valid<>(value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <S2> Validation<S2, F> flatMap(@NonNull Function<S, Validation<S2, F>> binding) {
+            return binding.apply(value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <U, R> Validation<R, F> zip(@NonNull Validation<U, F> other, @NonNull BiFunction<S, U, R> combiner) {
+            return other.map(otherValue -> combiner.apply(value, otherValue));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <R> R fold(@NonNull Function<S, R> valid, @NonNull Function<NonEmptyChain<F>, R> invalid) {
+            return valid.apply(value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Result<S, List<F>> toResult() {
+            return Result.success(value);
+        }
+    }
+
+    /**
+     * An invalid validation.
+     *
+     * @param failures the failures
+     * @param <S>      the type of the value
+     * @param <F>      the type of the failures
+     */
+    record Invalid<S, F>(@NonNull NonEmptyChain<F> failures) implements Validation<S, F> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isValid() {
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public S value() {
+            throw new NoSuchElementException("No value present");
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <S2> Validation<S2, F> map(@NonNull Function<S, S2> mapper) {
+            return new Invalid<>(failures);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <F2> Validation<S, F2> mapFailure(@NonNull Function<F, F2> mapper) {
+            return new Invalid<>(failures.map(mapper));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <S2> Validation<S2, F> flatMap(@NonNull Function<S, Validation<S2, F>> binding) {
+            return new Invalid<>(failures);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <U, R> Validation<R, F> zip(@NonNull Validation<U, F> other, @NonNull BiFunction<S, U, R> combiner) {
+            return new Invalid<>(other.fold(otherValue -> failures, failures::concat));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <R> R fold(@NonNull Function<S, R> valid, @NonNull Function<NonEmptyChain<F>, R> invalid) {
+            return invalid.apply(failures);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Result<S, List<F>> toResult() {
+            return Result.failure(failures.toList());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package at.base10.result.concurrent;
+
+import lombok.NonNull;
+
+import java.time.Duration;
+
+/**
+ * The settings of an {@link AdaptiveLimiter}.
+ *
+ * <p>The concurrency limit starts at {@code initialLimit} and moves between {@code minLimit} and {@code maxLimit}:
+ * it grows by one for every healthy call completed while the limiter is at least half utilized, and is multiplied
+ * by {@code backoffRatio} for every call that fails or takes longer than {@code latencyThreshold}.
+ *
+ * @param initialLimit     the limit before any call completed
+ * @param minLimit         the lowest limit the limiter backs off to
+ * @param maxLimit         the highest limit the limiter grows to
+ * @param latencyThreshold the latency above which a call is treated as a sign of overload
+ * @param backoffRatio     the factor (greater than {@code 0}, less than {@code 1}) applied to the limit on overload
+ */
+public record AdaptiveLimit(int initialLimit, int minLimit, int maxLimit, @NonNull Duration latencyThreshold, double backoffRatio) {
+
+    /**
+     * Validates the settings.
+     *
+     * @param initialLimit     the limit before any call completed
+     * @param minLimit         the lowest limit the limiter backs off to
+     * @param maxLimit         the highest limit the limiter grows to
+     * @param latencyThreshold the latency above which a call is treated as a sign of overload
+     * @param backoffRatio     the factor applied to the limit on overload
+     * @throws IllegalArgumentException unless {@code 1 <= minLimit <= initialLimit <= maxLimit}
+     *                                  and {@code 0 < backoffRatio < 1}
+     */
+    public AdaptiveLimit {
+        requireLimits(initialLimit, minLimit, maxLimit);
+        requireRatio(backoffRatio);
+    }
+
+    private static void requireLimits(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || !ordered(minLimit, initialLimit, maxLimit)) {
+            throw new IllegalArgumentException("limits must satisfy 1 <= " + minLimit + " <= " + initialLimit + " <= " + maxLimit);
+        }
+    }
+
+    private static boolean ordered(int low, int middle, int high) {
+        return low <= middle && middle <= high;
+    }
+
+    private static void requireRatio(double backoffRatio) {
+        if (!(backoffRatio > 0 && backoffRatio < 1)) {
+            throw new IllegalArgumentException("backoffRatio must be in (0, 1) but was " + backoffRatio);
+        }
+    }
+
+    /**
+     * Creates settings backing off to {@code 90%} of the limit on overload, never below a single call.
+     *
+     * @param initialLimit     the limit before any call completed
+     * @param maxLimit         the highest limit the limiter grows to
+     * @param latencyThreshold the latency above which a call is treated as a sign of overload
+     * @return new settings
+     */
+    public static AdaptiveLimit of(int initialLimit, int maxLimit, Duration latencyThreshold) {
+        return new AdaptiveLimit(initialLimit, 1, maxLimit, latencyThreshold, 0.9);
+    }
+
+    /**
+     * Returns a copy never backing off below {@code minLimit}.
+     *
+     * @param minLimit the lowest limit
+     * @return new settings
+     */
+    public AdaptiveLimit withMinLimit(int minLimit) {
+        return new AdaptiveLimit(initialLimit, minLimit, maxLimit, latencyThreshold, backoffRatio);
+    }
+
+    /**
+     * Returns a copy multiplying the limit by {@code backoffRatio} on overload.
+     *
+     * @param backoffRatio the factor applied to the limit on overload
+     * @return new settings
+     */
+    public AdaptiveLimit withBackoffRatio(double backoffRatio) {
+        return new AdaptiveLimit(initialLimit, minLimit, maxLimit, latencyThreshold, backoffRatio);
+    }
+}
@@ -0,0 +1,178 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Result;
+import lombok.NonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of concurrent calls to a dependency with a limit that adapts to how the dependency behaves.
+ *
+ * <p>The limit follows the additive-increase/multiplicative-decrease scheme: every call that succeeds within
+ * the latency threshold while the limiter is at least half utilized raises the limit by one, every call that
+ * fails, throws, returns {@code null} or exceeds the threshold multiplies it by the backoff ratio. Calls above the limit are not made
+ * and the configured failure is returned immediately.
+ *
+ * <p>All state is kept in atomic counters; admitting and completing a call never blocks.
+ *
+ * <p><b>Usage Example:</b></p>
+ *
+ * <blockquote><pre>{@code
+ * AdaptiveLimiter<String> limiter = AdaptiveLimiter.of(AdaptiveLimit.of(10, 200, Duration.ofMillis(50)),
+ *     () -> "search backend overloaded");
+ *
+ * Function<Query, CompletableFuture<Result<Hits, String>>> search = limiter.decorateAsync(backend::search);
+ * }</pre></blockquote>
+ *
+ * @param <F> the type representing a failure result
+ * @see AdaptiveLimit
+ * @see Bulkhead
+ */
+public final class AdaptiveLimiter<F> {
+    private final AdaptiveLimit settings;
+    private final long thresholdNanos;
+    private final Supplier<F> rejectedFailure;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejections = new LongAdder();
+
+    AdaptiveLimiter(AdaptiveLimit settings, Supplier<F> rejectedFailure, LongSupplier nanoClock) {
+        this.settings = settings;
+        this.thresholdNanos = settings.latencyThreshold().toNanos();
+        this.rejectedFailure = rejectedFailure;
+        this.nanoClock = nanoClock;
+        this.limit = new AtomicInteger(settings.initialLimit());
+    }
+
+    /**
+     * Creates an adaptive limiter using {@link System#nanoTime()} to measure latency.
+     *
+     * @param <F>             the type representing a failure result
+     * @param settings        the bounds and tuning of the limit
+     * @param rejectedFailure supplies the failure returned for rejected calls
+     * @return a new adaptive limiter
+     */
+    public static <F> AdaptiveLimiter<F> of(@NonNull AdaptiveLimit settings, @NonNull Supplier<F> rejectedFailure) {
+        return new AdaptiveLimiter<>(settings, rejectedFailure, System::nanoTime);
+    }
+
+    /**
+     * Returns the current concurrency limit.
+     *
+     * @return the number of calls currently allowed to run at the same time
+     */
+    public int limit() {
+        return limit.get();
+    }
+
+    /**
+     * Returns the number of calls currently running.
+     *
+     * @return the number of admitted calls that have not completed yet
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Returns the number of calls rejected since the limiter was created.
+     *
+     * @return the number of rejected calls
+     */
+    public long rejections() {
+        return rejections.sum();
+    }
+
+    /**
+     * Wraps a function so that at most {@link #limit()} invocations run at the same time.
+     *
+     * @param <K>      the type of the input value
+     * @param <S>      the type representing a successful result
+     * @param function the limited function
+     * @return a function returning the configured failure instead of calling {@code function} above the limit
+     */
+    public <K, S> Function<K, Result<S, F>> decorate(@NonNull Function<K, Result<S, F>> function) {
+        return key -> {
+            if (!tryAcquire()) {
+                return rejected();
+            }
+            long start = nanoClock.getAsLong();
+            boolean failed = true;
+            try {
+                Result<S, F> result = function.apply(key);
+                failed = failed(result);
+                return result;
+            } finally {
+                release(start, failed);
+            }
+        };
+    }
+
+    /**
+     * Wraps an asynchronous function so that at most {@link #limit()} futures are pending at the same time.
+     * Latency is measured until the future completes.
+     *
+     * @param <K>      the type of the input value
+     * @param <S>      the type representing a successful result
+     * @param function the limited function
+     * @return a function returning an already completed future holding the configured failure
+     * instead of calling {@code function} above the limit
+     */
+    public <K, S> Function<K, CompletableFuture<Result<S, F>>> decorateAsync(@NonNull Function<K, CompletableFuture<Result<S, F>>> function) {
+        return key -> {
+            if (!tryAcquire()) {
+                return CompletableFuture.completedFuture(rejected());
+            }
+            long start = nanoClock.getAsLong();
+            boolean started = false;
+            try {
+                // an exceptionally completed future passes a null result
+                CompletableFuture<Result<S, F>> released = function.apply(key)
+                        .whenComplete((result, error) -> release(start, failed(result)));
+                started = true;
+                return released;
+            } finally {
+                abandon(start, started);
+            }
+        };
+    }
+
+    private static boolean failed(Result<?, ?> result) {
+        return result == null || result.isFailure();
+    }
+
+    private void abandon(long start, boolean started) {
+        if (!started) {
+            release(start, true);
+        }
+    }
+
+    private boolean tryAcquire() {
+        int max = limit.get();
+        return inFlight.getAndUpdate(running -> running < max ? running + 1 : running) < max;
+    }
+
+    private void release(long start, boolean failed) {
+        int running = inFlight.getAndDecrement();
+        if (failed || nanoClock.getAsLong() - start > thresholdNanos) {
+            limit.updateAndGet(current -> Math.max(settings.minLimit(), (int) (current * settings.backoffRatio())));
+        } else {
+            limit.updateAndGet(current -> grow(current, running));
+        }
+    }
+
+    private int grow(int current, int running) {
+        return running * 2 >= current ? Math.min(settings.maxLimit(), current + 1) : current;
+    }
+
+    private <S> Result<S, F> rejected() {
+        rejections.increment();
+        return Result.failure(rejectedFailure.get());
+    }
+}
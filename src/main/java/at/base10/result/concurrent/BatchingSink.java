@@ -0,0 +1,235 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Result;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A write-behind sink grouping the successes submitted by many threads into batches for a batch writer.
+ *
+ * <p>Every successful value is queued and written together with others as soon as {@code maxBatchSize} values are
+ * queued, or once the first of them has waited {@code maxDelay}. The writer receives the values of a batch and
+ * returns one outcome per value, in the same order, so a batch may partly succeed. Each submitter gets the outcome
+ * of its own value; a submitted failure is returned as it is without being written. If the writer throws, every
+ * value of the batch fails with the mapped exception, and if it returns the wrong number of outcomes every value
+ * fails with the mapped {@link IllegalStateException}.
+ *
+ * <p>At most {@code capacity} values are held - queued or being written - at any time. While the sink is full a
+ * submitter waits up to {@code maxWait} for room and is then rejected with the mapped
+ * {@link RejectedExecutionException}, so a writer falling behind slows down or sheds the producers instead of
+ * growing the queue.
+ *
+ * <p>Batches are written on the executor; batches may be written concurrently when a batch fills while
+ * another is being written. If the executor rejects writing a full batch, the value that filled it is withdrawn
+ * and fails with the mapped {@link RejectedExecutionException}; if it rejects writing after {@code maxDelay},
+ * every queued value fails that way. Should the writer throw an {@link Error}, or the exception mapper throw,
+ * the outcomes of the batch complete exceptionally with that exception.
+ *
+ * <p><b>Usage Example:</b></p>
+ *
+ * <blockquote><pre>{@code
+ * BatchingSink<Order, Long, String> orders = BatchingSink.of(BatchingSinkConfig.of(500, Duration.ofMillis(20), 10_000), pool)
+ *     .writing(repository::insertAll, RuntimeException::getMessage);
+ *
+ * CompletableFuture<Result<Long, String>> id = orders.submit(Order.parse(row));
+ * }</pre></blockquote>
+ *
+ * @param <S> the type of the values written
+ * @param <R> the type of the per-value outcome of a successful write
+ * @param <F> the type representing a failure result
+ * @see BatchingSinkConfig
+ */
+public final class BatchingSink<S, R, F> {
+    private final BatchingSinkConfig config;
+    private final Function<List<S>, List<Result<R, F>>> writer;
+    private final Function<RuntimeException, F> exceptionMapper;
+    private final Executor executor;
+    private final Executor delayed;
+    private final Semaphore permits;
+    private final Queue<Pending<S, R, F>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private BatchingSink(BatchingSinkConfig config, Executor executor, Function<List<S>, List<Result<R, F>>> writer, Function<RuntimeException, F> exceptionMapper) {
+        this.config = config;
+        this.writer = writer;
+        this.exceptionMapper = exceptionMapper;
+        this.executor = executor;
+        this.delayed = CompletableFuture.delayedExecutor(config.maxDelay().toNanos(), TimeUnit.NANOSECONDS, this::flushLater);
+        this.permits = new Semaphore(config.capacity());
+    }
+
+    /**
+     * Starts creating a batching sink; {@link Unwritten#writing(Function, Function)} completes it.
+     *
+     * @param config   the settings of the sink
+     * @param executor the executor running the writer
+     * @return the sink still missing its writer
+     */
+    public static Unwritten of(@NonNull BatchingSinkConfig config, @NonNull Executor executor) {
+        return new Unwritten(config, executor);
+    }
+
+    /**
+     * Returns the number of values accepted but not yet written.
+     *
+     * @return the number of values queued or being written
+     */
+    public int pending() {
+        return config.capacity() - permits.availablePermits();
+    }
+
+    /**
+     * Submits a result. A success is queued for writing, a failure is returned without being written.
+     *
+     * @param result the result to write
+     * @return a future completed with the outcome of writing the value, the submitted failure,
+     * or the mapped {@link RejectedExecutionException} if the sink had no room
+     */
+    public CompletableFuture<Result<R, F>> submit(@NonNull Result<S, F> result) {
+        return result.either(this::enqueue, failure -> CompletableFuture.completedFuture(Result.failure(failure)));
+    }
+
+    /**
+     * Writes every queued value on the calling thread, in batches of at most {@code maxBatchSize}.
+     */
+    public void flush() {
+        drain(this::outcomes);
+    }
+
+    private CompletableFuture<Result<R, F>> enqueue(S value) {
+        if (!acquire()) {
+            return CompletableFuture.completedFuture(Result.failure(exceptionMapper.apply(new RejectedExecutionException("sink is at capacity"))));
+        }
+        Pending<S, R, F> pending = new Pending<>(value, new CompletableFuture<>());
+        queue.add(pending);
+        try {
+            schedule(queued.incrementAndGet());
+        } catch (RejectedExecutionException e) {
+            withdraw(pending, e);
+        }
+        return pending.outcome();
+    }
+
+    private void withdraw(Pending<S, R, F> pending, RejectedExecutionException e) {
+        if (queue.remove(pending)) {
+            queued.decrementAndGet();
+            permits.release();
+            pending.outcome().complete(Result.failure(exceptionMapper.apply(e)));
+        }
+    }
+
+    private boolean acquire() {
+        try {
+            return permits.tryAcquire(config.maxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void schedule(int size) {
+        if (size == 1) {
+            delayed.execute(this::flush);
+        }
+        if (size == config.maxBatchSize()) {
+            executor.execute(this::flush);
+        }
+    }
+
+    private void flushLater(Runnable flush) {
+        try {
+            executor.execute(flush);
+        } catch (RejectedExecutionException e) {
+            drain(batch -> Collections.nCopies(batch.size(), Result.failure(exceptionMapper.apply(e))));
+        }
+    }
+
+    private void drain(Function<List<Pending<S, R, F>>, List<Result<R, F>>> outcomes) {
+        List<Pending<S, R, F>> batch = take();
+        while (!batch.isEmpty()) {
+            write(batch, outcomes);
+            batch = take();
+        }
+    }
+
+    private List<Pending<S, R, F>> take() {
+        List<Pending<S, R, F>> batch = new ArrayList<>();
+        Pending<S, R, F> next;
+        while (batch.size() < config.maxBatchSize() && (next = queue.poll()) != null) {
+            batch.add(next);
+        }
+        queued.addAndGet(-batch.size());
+        return batch;
+    }
+
+    private void write(List<Pending<S, R, F>> batch, Function<List<Pending<S, R, F>>, List<Result<R, F>>> outcomes) {
+        try {
+            Iterator<Result<R, F>> written = outcomes.apply(batch).iterator();
+            batch.forEach(pending -> pending.outcome().complete(written.next()));
+        } catch (Throwable e) {
+            batch.forEach(pending -> pending.outcome().completeExceptionally(e));
+        } finally {
+            permits.release(batch.size());
+        }
+    }
+
+    private List<Result<R, F>> outcomes(List<Pending<S, R, F>> batch) {
+        try {
+            return checked(writer.apply(batch.stream().map(Pending::value).toList()), batch.size());
+        } catch (RuntimeException e) {
+            return Collections.nCopies(batch.size(), Result.failure(exceptionMapper.apply(e)));
+        }
+    }
+
+    private static <T> List<T> checked(List<T> outcomes, int size) {
+        if (outcomes.size() != size) {
+            throw new IllegalStateException("writer returned " + outcomes.size() + " outcomes for " + size + " values");
+        }
+        return outcomes;
+    }
+
+    /**
+     * A {@link BatchingSink} whose settings and executor are known but not yet its writer.
+     */
+    public static final class Unwritten {
+        private final BatchingSinkConfig config;
+        private final Executor executor;
+
+        private Unwritten(BatchingSinkConfig config, Executor executor) {
+            this.config = config;
+            this.executor = executor;
+        }
+
+        /**
+         * Creates the sink.
+         *
+         * @param <S>             the type of the values written
+         * @param <R>             the type of the per-value outcome of a successful write
+         * @param <F>             the type representing a failure result
+         * @param writer          writes a batch and returns one outcome per value, in order
+         * @param exceptionMapper turns an exception thrown by the writer into the failure of every value of the batch,
+         *                        and the {@link RejectedExecutionException} of a full sink into the failure of the
+         *                        rejected value
+         * @return a new batching sink
+         */
+        public <S, R, F> BatchingSink<S, R, F> writing(@NonNull Function<List<S>, List<Result<R, F>>> writer, @NonNull Function<RuntimeException, F> exceptionMapper) {
+            return new BatchingSink<>(config, executor, writer, exceptionMapper);
+        }
+    }
+
+    private record Pending<S, R, F>(S value, CompletableFuture<Result<R, F>> outcome) {
+    }
+}
@@ -0,0 +1,70 @@
+package at.base10.result.concurrent;
+
+import lombok.NonNull;
+
+import java.time.Duration;
+
+/**
+ * The settings of a {@link BatchingSink}.
+ *
+ * <p>Use {@link #of(int, Duration, int)} for the common case and {@link #withMaxWait(Duration)}
+ * to let submitters wait for room instead of being rejected right away.
+ *
+ * @param maxBatchSize the number of values that triggers a write
+ * @param maxDelay     how long a value may wait for its batch to fill before it is written anyway
+ * @param capacity     the number of values accepted but not yet written, at least {@code maxBatchSize}
+ * @param maxWait      how long a submitter may wait for room while the sink is at capacity
+ */
+public record BatchingSinkConfig(int maxBatchSize,
+                                 @NonNull Duration maxDelay,
+                                 int capacity,
+                                 @NonNull Duration maxWait) {
+
+    /**
+     * Validates the settings.
+     *
+     * @param maxBatchSize the number of values that triggers a write
+     * @param maxDelay     how long a value may wait for its batch to fill before it is written anyway
+     * @param capacity     the number of values accepted but not yet written, at least {@code maxBatchSize}
+     * @param maxWait      how long a submitter may wait for room while the sink is at capacity
+     * @throws IllegalArgumentException if a numeric setting or a duration is out of range
+     */
+    public BatchingSinkConfig {
+        requireSizes(maxBatchSize, capacity);
+        requireDurations(maxDelay, maxWait);
+    }
+
+    private static void requireSizes(int maxBatchSize, int capacity) {
+        if (maxBatchSize < 1 || capacity < maxBatchSize) {
+            throw new IllegalArgumentException("maxBatchSize must be positive and at most capacity but was " + maxBatchSize + " of " + capacity);
+        }
+    }
+
+    private static void requireDurations(Duration maxDelay, Duration maxWait) {
+        if (maxDelay.toNanos() < 1 || maxWait.isNegative()) {
+            throw new IllegalArgumentException("maxDelay must be positive and maxWait not negative but were " + maxDelay + " and " + maxWait);
+        }
+    }
+
+    /**
+     * Creates a configuration rejecting values immediately while the sink is at capacity.
+     *
+     * @param maxBatchSize the number of values that triggers a write
+     * @param maxDelay     how long a value may wait for its batch to fill before it is written anyway
+     * @param capacity     the number of values accepted but not yet written
+     * @return a new configuration
+     */
+    public static BatchingSinkConfig of(int maxBatchSize, Duration maxDelay, int capacity) {
+        return new BatchingSinkConfig(maxBatchSize, maxDelay, capacity, Duration.ZERO);
+    }
+
+    /**
+     * Returns a copy letting submitters wait up to {@code maxWait} for room while the sink is at capacity.
+     *
+     * @param maxWait how long a submitter may wait
+     * @return a new configuration
+     */
+    public BatchingSinkConfig withMaxWait(Duration maxWait) {
+        return new BatchingSinkConfig(maxBatchSize, maxDelay, capacity, maxWait);
+    }
+}
@@ -0,0 +1,19 @@
+package at.base10.result.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Holds the executor behind {@link ResultExecutors#blocking()}, created on first use.
+ */
+interface BlockingExecutor {
+    ExecutorService INSTANCE = VirtualThreads.executor().orElseGet(BlockingExecutor::platformThreads);
+
+    static ExecutorService platformThreads() {
+        return Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "result-blocking");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,168 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Result;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of concurrent calls to a dependency.
+ *
+ * <p>Each call takes a permit from a non-blocking counter and returns it when the call - or, for asynchronous
+ * calls, its future - completes. When no permit is left the call is not made and the configured failure is
+ * returned, either immediately or after waiting at most {@code maxWait} for a permit to become free.
+ *
+ * <p><b>Usage Example:</b></p>
+ *
+ * <blockquote><pre>{@code
+ * Bulkhead<String> bulkhead = Bulkhead.of(20, () -> "too many concurrent inventory lookups");
+ *
+ * Function<String, CompletableFuture<Result<Item, String>>> lookup = bulkhead.decorateAsync(inventory::lookupAsync);
+ * }</pre></blockquote>
+ *
+ * @param <F> the type representing a failure result
+ */
+public final class Bulkhead<F> {
+    private final int maxConcurrentCalls;
+    private final long maxWaitNanos;
+    private final Supplier<F> rejectedFailure;
+    private final Semaphore permits;
+    private final LongAdder rejections = new LongAdder();
+
+    private Bulkhead(int maxConcurrentCalls, Duration maxWait, Supplier<F> rejectedFailure) {
+        if (maxConcurrentCalls < 1 || maxWait.isNegative()) {
+            throw new IllegalArgumentException("invalid bulkhead of " + maxConcurrentCalls + " calls waiting " + maxWait);
+        }
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.rejectedFailure = rejectedFailure;
+        this.permits = new Semaphore(maxConcurrentCalls);
+    }
+
+    /**
+     * Creates a bulkhead that rejects calls immediately when saturated.
+     *
+     * @param <F>                the type representing a failure result
+     * @param maxConcurrentCalls the number of calls allowed to run at the same time
+     * @param rejectedFailure    supplies the failure returned for rejected calls
+     * @return a new bulkhead
+     * @throws IllegalArgumentException if {@code maxConcurrentCalls} is not positive
+     */
+    public static <F> Bulkhead<F> of(int maxConcurrentCalls, @NonNull Supplier<F> rejectedFailure) {
+        return new Bulkhead<>(maxConcurrentCalls, Duration.ZERO, rejectedFailure);
+    }
+
+    /**
+     * Creates a bulkhead that lets calls wait up to {@code maxWait} for a permit when saturated.
+     *
+     * @param <F>                the type representing a failure result
+     * @param maxConcurrentCalls the number of calls allowed to run at the same time
+     * @param maxWait            how long a call may wait for a permit
+     * @param rejectedFailure    supplies the failure returned for rejected calls
+     * @return a new bulkhead
+     * @throws IllegalArgumentException if {@code maxConcurrentCalls} is not positive or {@code maxWait} is negative
+     */
+    public static <F> Bulkhead<F> of(int maxConcurrentCalls, @NonNull Duration maxWait, @NonNull Supplier<F> rejectedFailure) {
+        return new Bulkhead<>(maxConcurrentCalls, maxWait, rejectedFailure);
+    }
+
+    /**
+     * Returns the number of calls allowed to run at the same time.
+     *
+     * @return the configured number of permits
+     */
+    public int maxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    /**
+     * Returns the number of calls currently running.
+     *
+     * @return the number of permits taken
+     */
+    public int inFlight() {
+        return maxConcurrentCalls - permits.availablePermits();
+    }
+
+    /**
+     * Returns the number of calls rejected since the bulkhead was created.
+     *
+     * @return the number of rejected calls
+     */
+    public long rejections() {
+        return rejections.sum();
+    }
+
+    /**
+     * Wraps a function so that at most {@link #maxConcurrentCalls()} invocations run at the same time.
+     *
+     * @param <K>      the type of the input value
+     * @param <S>      the type representing a successful result
+     * @param function the guarded function
+     * @return a function returning the configured failure instead of calling {@code function} while the bulkhead is saturated
+     */
+    public <K, S> Function<K, Result<S, F>> decorate(@NonNull Function<K, Result<S, F>> function) {
+        return key -> {
+            if (!acquire()) {
+                return rejected();
+            }
+            try {
+                return function.apply(key);
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    /**
+     * Wraps an asynchronous function so that at most {@link #maxConcurrentCalls()} futures are pending at the same time.
+     * The permit is returned when the future completes.
+     *
+     * @param <K>      the type of the input value
+     * @param <S>      the type representing a successful result
+     * @param function the guarded function
+     * @return a function returning an already completed future holding the configured failure
+     * instead of calling {@code function} while the bulkhead is saturated
+     */
+    public <K, S> Function<K, CompletableFuture<Result<S, F>>> decorateAsync(@NonNull Function<K, CompletableFuture<Result<S, F>>> function) {
+        return key -> {
+            if (!acquire()) {
+                return CompletableFuture.completedFuture(rejected());
+            }
+            boolean started = false;
+            try {
+                CompletableFuture<Result<S, F>> released = function.apply(key).whenComplete((result, error) -> permits.release());
+                started = true;
+                return released;
+            } finally {
+                abandon(started);
+            }
+        };
+    }
+
+    private void abandon(boolean started) {
+        if (!started) {
+            permits.release();
+        }
+    }
+
+    private boolean acquire() {
+        try {
+            return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private <S> Result<S, F> rejected() {
+        rejections.increment();
+        return Result.failure(rejectedFailure.get());
+    }
+}
@@ -0,0 +1,235 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Result;
+import lombok.NonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A circuit breaker for {@code Result} returning calls.
+ *
+ * <p>While the breaker is {@link State#CLOSED CLOSED} every call is passed through and its outcome is recorded
+ * in a {@link SlidingWindow} of its own, created from the configuration. Once the window holds enough calls and the failure rate reaches the threshold the
+ * breaker {@link State#OPEN opens}: calls are no longer made and the configured failure is returned immediately.
+ * After the open duration the breaker turns {@link State#HALF_OPEN HALF_OPEN} and lets a limited number of trial
+ * calls through; a failing trial opens it again, enough successful trials close it.
+ *
+ * <p>The state machine is lock-free: every transition is a single compare-and-set on an immutable phase,
+ * so concurrent callers never block each other and each transition happens exactly once.
+ *
+ * <p>A call counts as failed if it returns a {@code Failure}, throws, or - for asynchronous calls - its future
+ * completes exceptionally. Exceptions are recorded and passed on unchanged.
+ *
+ * <p><b>Usage Example:</b></p>
+ *
+ * <blockquote><pre>{@code
+ * CircuitBreaker<String> breaker = CircuitBreaker.of(
+ *     CircuitBreakerConfig.of(() -> SlidingWindow.ofCalls(100), 0.5, Duration.ofSeconds(30)).withMinimumCalls(20),
+ *     () -> "inventory service unavailable");
+ *
+ * Function<String, Result<Item, String>> lookup = breaker.decorate(inventory::lookup);
+ * }</pre></blockquote>
+ *
+ * @param <F> the type representing a failure result
+ * @see CircuitBreakerConfig
+ */
+public final class CircuitBreaker<F> {
+
+    /**
+     * The states of a {@link CircuitBreaker}.
+     */
+    public enum State {
+        /**
+         * Calls are passed through and recorded.
+         */
+        CLOSED,
+        /**
+         * Calls are rejected.
+         */
+        OPEN,
+        /**
+         * A limited number of trial calls is passed through.
+         */
+        HALF_OPEN
+    }
+
+    private final CircuitBreakerConfig config;
+    private final SlidingWindow window;
+    private final Supplier<F> openFailure;
+    private final LongSupplier nanoClock;
+    private final AtomicReference<Phase> phase;
+
+    CircuitBreaker(CircuitBreakerConfig config, Supplier<F> openFailure, LongSupplier nanoClock) {
+        this.config = config;
+        this.window = config.windowFactory().get();
+        this.openFailure = openFailure;
+        this.nanoClock = nanoClock;
+        this.phase = new AtomicReference<>(phase(State.CLOSED));
+    }
+
+    /**
+     * Creates a closed circuit breaker using {@link System#nanoTime()} as clock.
+     *
+     * @param <F>         the type representing a failure result
+     * @param config      the settings of the breaker
+     * @param openFailure supplies the failure returned for rejected calls
+     * @return a new circuit breaker
+     */
+    public static <F> CircuitBreaker<F> of(@NonNull CircuitBreakerConfig config, @NonNull Supplier<F> openFailure) {
+        return new CircuitBreaker<>(config, openFailure, System::nanoTime);
+    }
+
+    /**
+     * Returns the current state, moving from {@code OPEN} to {@code HALF_OPEN} if the open duration has elapsed.
+     *
+     * @return the current state
+     */
+    public State state() {
+        return current().state;
+    }
+
+    /**
+     * Returns the totals of the underlying sliding window.
+     *
+     * @return the number of calls and failures currently in the window
+     */
+    public SlidingWindow.Snapshot snapshot() {
+        return window.snapshot(nanoClock.getAsLong());
+    }
+
+    /**
+     * Wraps a function so that it is only called while the breaker permits it.
+     *
+     * @param <K>      the type of the input value
+     * @param <S>      the type representing a successful result
+     * @param function the guarded function
+     * @return a function returning the configured failure instead of calling {@code function} while the breaker is open
+     */
+    public <K, S> Function<K, Result<S, F>> decorate(@NonNull Function<K, Result<S, F>> function) {
+        return key -> {
+            Phase permit = acquire();
+            if (permit == null) {
+                return rejected();
+            }
+            boolean failed = true;
+            try {
+                Result<S, F> result = function.apply(key);
+                failed = result.isFailure();
+                return result;
+            } finally {
+                complete(permit, failed);
+            }
+        };
+    }
+
+    /**
+     * Wraps an asynchronous function so that it is only called while the breaker permits it.
+     * The outcome is recorded when the returned future completes.
+     *
+     * @param <K>      the type of the input value
+     * @param <S>      the type representing a successful result
+     * @param function the guarded function
+     * @return a function returning an already completed future holding the configured failure
+     * instead of calling {@code function} while the breaker is open
+     */
+    public <K, S> Function<K, CompletableFuture<Result<S, F>>> decorateAsync(@NonNull Function<K, CompletableFuture<Result<S, F>>> function) {
+        return key -> {
+            Phase permit = acquire();
+            if (permit == null) {
+                return CompletableFuture.completedFuture(rejected());
+            }
+            boolean started = false;
+            try {
+                CompletableFuture<Result<S, F>> recorded = function.apply(key)
+                        .whenComplete((result, error) -> complete(permit, error != null || result.isFailure()));
+                started = true;
+                return recorded;
+            } finally {
+                abandon(permit, started);
+            }
+        };
+    }
+
+    private void abandon(Phase permit, boolean started) {
+        if (!started) {
+            complete(permit, true);
+        }
+    }
+
+    private <S> Result<S, F> rejected() {
+        return Result.failure(openFailure.get());
+    }
+
+    private Phase current() {
+        Phase seen = phase.get();
+        if (seen.state == State.OPEN && nanoClock.getAsLong() - seen.since >= config.openDuration().toNanos()) {
+            transition(seen, State.HALF_OPEN);
+            return phase.get();
+        }
+        return seen;
+    }
+
+    private Phase acquire() {
+        Phase seen = current();
+        if (seen.state == State.HALF_OPEN) {
+            return seen.trial();
+        }
+        return seen.state == State.CLOSED ? seen : null;
+    }
+
+    private void complete(Phase permit, boolean failed) {
+        if (permit.state == State.HALF_OPEN) {
+            trial(permit, failed);
+        } else if (phase.get() == permit) {
+            record(permit, failed);
+        }
+    }
+
+    private void record(Phase permit, boolean failed) {
+        long now = nanoClock.getAsLong();
+        window.record(failed, now);
+        SlidingWindow.Snapshot snapshot = window.snapshot(now);
+        if (snapshot.calls() >= config.minimumCalls() && snapshot.failureRate() >= config.failureRateThreshold()) {
+            transition(permit, State.OPEN);
+        }
+    }
+
+    private void trial(Phase permit, boolean failed) {
+        if (failed) {
+            transition(permit, State.OPEN);
+        } else if (permit.successes.incrementAndGet() == config.halfOpenCalls()) {
+            window.reset();
+            transition(permit, State.CLOSED);
+        }
+    }
+
+    private void transition(Phase from, State to) {
+        phase.compareAndSet(from, phase(to));
+    }
+
+    private Phase phase(State state) {
+        return new Phase(state, nanoClock.getAsLong(), config.halfOpenCalls());
+    }
+
+    private static final class Phase {
+        private final State state;
+        private final long since;
+        private final AtomicInteger trials;
+        private final AtomicInteger successes = new AtomicInteger();
+
+        private Phase(State state, long since, int trials) {
+            this.state = state;
+            this.since = since;
+            this.trials = new AtomicInteger(trials);
+        }
+
+        private Phase trial() {
+            return trials.getAndDecrement() > 0 ? this : null;
+        }
+    }
+}
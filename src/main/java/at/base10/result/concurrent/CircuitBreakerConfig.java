@@ -0,0 +1,88 @@
+package at.base10.result.concurrent;
+
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * The settings of a {@link CircuitBreaker}.
+ *
+ * <p>Use {@link #of(Supplier, double, Duration)} for the common case and the {@code with...}
+ * methods to adjust the remaining settings.
+ *
+ * <p>A configuration holds no state of its own: it creates a new window for every breaker built from it, so
+ * breakers sharing a configuration, or copies of it, never pool their outcomes.
+ *
+ * @param windowFactory        creates the window of recent outcomes the failure rate is computed from
+ * @param failureRateThreshold the failure rate (greater than {@code 0}, at most {@code 1}) at which the breaker opens
+ * @param minimumCalls         the number of calls the window must hold before the failure rate is considered
+ * @param openDuration         how long the breaker rejects calls before letting trial calls through
+ * @param halfOpenCalls        the number of trial calls that must succeed to close the breaker again
+ */
+public record CircuitBreakerConfig(@NonNull Supplier<SlidingWindow> windowFactory,
+                                   double failureRateThreshold,
+                                   int minimumCalls,
+                                   @NonNull Duration openDuration,
+                                   int halfOpenCalls) {
+
+    /**
+     * Validates the settings.
+     *
+     * @param windowFactory        creates the window of recent outcomes the failure rate is computed from
+     * @param failureRateThreshold the failure rate (greater than {@code 0}, at most {@code 1}) at which the breaker opens
+     * @param minimumCalls         the number of calls the window must hold before the failure rate is considered
+     * @param openDuration         how long the breaker rejects calls before letting trial calls through
+     * @param halfOpenCalls        the number of trial calls that must succeed to close the breaker again
+     * @throws IllegalArgumentException if a numeric setting is out of range
+     */
+    public CircuitBreakerConfig {
+        requireRate(failureRateThreshold);
+        requirePositive(minimumCalls, halfOpenCalls);
+    }
+
+    private static void requireRate(double failureRateThreshold) {
+        if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+            throw new IllegalArgumentException("failureRateThreshold must be in (0, 1] but was " + failureRateThreshold);
+        }
+    }
+
+    private static void requirePositive(int minimumCalls, int halfOpenCalls) {
+        if (minimumCalls < 1 || halfOpenCalls < 1) {
+            throw new IllegalArgumentException("minimumCalls and halfOpenCalls must be positive");
+        }
+    }
+
+    /**
+     * Creates a configuration that opens as soon as a single call fails at the given rate
+     * and closes after one successful trial call.
+     *
+     * @param windowFactory        creates the window of recent outcomes the failure rate is computed from
+     * @param failureRateThreshold the failure rate at which the breaker opens
+     * @param openDuration         how long the breaker rejects calls before letting a trial call through
+     * @return a new configuration
+     */
+    public static CircuitBreakerConfig of(Supplier<SlidingWindow> windowFactory, double failureRateThreshold, Duration openDuration) {
+        return new CircuitBreakerConfig(windowFactory, failureRateThreshold, 1, openDuration, 1);
+    }
+
+    /**
+     * Returns a copy requiring at least {@code minimumCalls} recorded calls before the breaker may open.
+     *
+     * @param minimumCalls the number of calls the window must hold
+     * @return a new configuration
+     */
+    public CircuitBreakerConfig withMinimumCalls(int minimumCalls) {
+        return new CircuitBreakerConfig(windowFactory, failureRateThreshold, minimumCalls, openDuration, halfOpenCalls);
+    }
+
+    /**
+     * Returns a copy requiring {@code halfOpenCalls} successful trial calls to close the breaker.
+     *
+     * @param halfOpenCalls the number of trial calls
+     * @return a new configuration
+     */
+    public CircuitBreakerConfig withHalfOpenCalls(int halfOpenCalls) {
+        return new CircuitBreakerConfig(windowFactory, failureRateThreshold, minimumCalls, openDuration, halfOpenCalls);
+    }
+}
@@ -0,0 +1,59 @@
+package at.base10.result.concurrent;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link SlidingWindow} over the last {@code size} calls.
+ * Outcomes are written into a ring of slots; the totals are adjusted by the difference between the
+ * overwritten and the new slot, so they always agree with the slots once concurrent writers are done.
+ */
+final class CountWindow implements SlidingWindow {
+    private static final int EMPTY = 0;
+    private static final int SUCCESS = 1;
+    private static final int FAILURE = 2;
+
+    private final AtomicIntegerArray slots;
+    private final AtomicLong cursor = new AtomicLong();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    CountWindow(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be positive but was " + size);
+        }
+        this.slots = new AtomicIntegerArray(size);
+    }
+
+    @Override
+    public void record(boolean failed, long nanoTime) {
+        replace((int) (cursor.getAndIncrement() % slots.length()), failed ? FAILURE : SUCCESS);
+    }
+
+    @Override
+    public Snapshot snapshot(long nanoTime) {
+        return new Snapshot(calls.sum(), failures.sum());
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < slots.length(); i++) {
+            replace(i, EMPTY);
+        }
+    }
+
+    private void replace(int index, int outcome) {
+        int previous = slots.getAndSet(index, outcome);
+        calls.add(occupied(outcome) - occupied(previous));
+        failures.add(failed(outcome) - failed(previous));
+    }
+
+    private static int occupied(int outcome) {
+        return outcome == EMPTY ? 0 : 1;
+    }
+
+    private static int failed(int outcome) {
+        return outcome == FAILURE ? 1 : 0;
+    }
+}
@@ -0,0 +1,100 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Result;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits the rate of {@code Result} returning calls separately for every key.
+ *
+ * <p>Every key gets its own lock-free token bucket, created on first use. Buckets of keys that have been idle
+ * long enough to be full again carry no information and can be dropped with {@link #evictIdle()}.
+ *
+ * <p><b>Usage Example:</b></p>
+ *
+ * <blockquote><pre>{@code
+ * KeyedRateLimiter<String, String> perTenant = KeyedRateLimiter.of(RateLimit.of(10, Duration.ofSeconds(1)),
+ *     retryAfter -> "tenant rate limited, retry in " + retryAfter.toMillis() + "ms");
+ *
+ * Function<String, Result<Report, String>> report = perTenant.decorate(reports::forTenant);
+ * }</pre></blockquote>
+ *
+ * @param <K> the type of the keys the budget is tracked for
+ * @param <F> the type representing a failure result
+ * @see RateLimiter
+ */
+public final class KeyedRateLimiter<K, F> {
+    private final RateLimit limit;
+    private final Function<Duration, F> limitedFailure;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<K, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    KeyedRateLimiter(RateLimit limit, Function<Duration, F> limitedFailure, LongSupplier nanoClock) {
+        this.limit = limit;
+        this.limitedFailure = limitedFailure;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Creates a keyed rate limiter using {@link System#nanoTime()} as clock.
+     *
+     * @param <K>            the type of the keys the budget is tracked for
+     * @param <F>            the type representing a failure result
+     * @param limit          the budget of every key
+     * @param limitedFailure creates the failure returned for limited calls from the time until the next permit
+     * @return a new keyed rate limiter
+     */
+    public static <K, F> KeyedRateLimiter<K, F> of(@NonNull RateLimit limit, @NonNull Function<Duration, F> limitedFailure) {
+        return new KeyedRateLimiter<>(limit, limitedFailure, System::nanoTime);
+    }
+
+    /**
+     * Returns the number of keys currently tracked.
+     *
+     * @return the number of token buckets
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    /**
+     * Drops the buckets of keys whose budget is completely unused.
+     * A key that is used again afterwards starts with a full budget, exactly as if it had been kept.
+     */
+    public void evictIdle() {
+        long now = nanoClock.getAsLong();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    /**
+     * Wraps a function so that it is only called while the budget of its input permits it.
+     *
+     * @param <S>      the type representing a successful result
+     * @param function the limited function
+     * @return a function returning the limited failure instead of calling {@code function} when the budget of the key is exhausted
+     */
+    public <S> Function<K, Result<S, F>> decorate(@NonNull Function<K, Result<S, F>> function) {
+        return key -> {
+            long now = nanoClock.getAsLong();
+            long delay = buckets.computeIfAbsent(key, k -> limit.bucket(now)).acquire(now);
+            return delay > 0 ? Result.failure(limitedFailure.apply(Duration.ofNanos(delay))) : function.apply(key);
+        };
+    }
+
+    /**
+     * Wraps an asynchronous function so that it is only called while the budget of its input permits it.
+     *
+     * @param <S>      the type representing a successful result
+     * @param function the limited function
+     * @return a function returning an already completed future holding the limited failure
+     * instead of calling {@code function} when the budget of the key is exhausted
+     */
+    public <S> Function<K, CompletableFuture<Result<S, F>>> decorateAsync(@NonNull Function<K, CompletableFuture<Result<S, F>>> function) {
+        return decorate(function.andThen(Result::<CompletableFuture<Result<S, F>>, F>success)).andThen(RateLimiter::orCompleted);
+    }
+}
@@ -0,0 +1,170 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Result;
+import lombok.NonNull;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs {@code Result} returning tasks one at a time per key, and tasks of different keys concurrently.
+ *
+ * <p>Every key with pending work owns a lane: a queue of its tasks that is handed to the executor one task at
+ * a time, so a busy key never holds a thread while other keys wait. A lane exists only while it has pending
+ * tasks; it is created by the first task for an idle key and dropped when its last task finishes.
+ *
+ * <p>The lanes are not lock-free: a lane's queue is only touched inside {@link ConcurrentHashMap#compute}
+ * for its key, which locks the map bin holding the key. No global lock is taken, and keys only contend when
+ * they share a bin, for as long as it takes to add or take a single task.
+ *
+ * <p>When the executor rejects a lane, the lane is dropped and the futures of its pending tasks are completed
+ * exceptionally with the {@link RejectedExecutionException}; later tasks of the key start a new lane.
+ * Exceptions thrown by a task complete its future exceptionally and do not affect later tasks of the key.
+ *
+ * <p><b>Usage Example:</b></p>
+ *
+ * <blockquote><pre>{@code
+ * KeyedSerialExecutor<String> perCustomer = KeyedSerialExecutor.of(pool);
+ *
+ * Function<Update, CompletableFuture<Result<Customer, String>>> apply =
+ *     perCustomer.decorate(Update::customerId, customers::apply);
+ * }</pre></blockquote>
+ *
+ * @param <K> the type of the keys
+ */
+public final class KeyedSerialExecutor<K> {
+    private final Executor executor;
+    private final ConcurrentHashMap<K, Lane> lanes = new ConcurrentHashMap<>();
+
+    private KeyedSerialExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Creates a keyed serial executor.
+     *
+     * @param <K>      the type of the keys
+     * @param executor the executor running the tasks
+     * @return a new keyed serial executor
+     */
+    public static <K> KeyedSerialExecutor<K> of(@NonNull Executor executor) {
+        return new KeyedSerialExecutor<>(executor);
+    }
+
+    /**
+     * Returns the number of keys with pending tasks.
+     *
+     * @return the number of lanes
+     */
+    public int activeKeys() {
+        return lanes.size();
+    }
+
+    /**
+     * Submits a task to run after every task previously submitted for the same key.
+     *
+     * @param <S>  the type representing a successful result
+     * @param <F>  the type representing a failure result
+     * @param key  the key the task is ordered by
+     * @param task the task to run
+     * @return a future completed with the result of the task, or exceptionally if the task threw or the executor
+     * rejected it
+     */
+    public <S, F> CompletableFuture<Result<S, F>> submit(@NonNull K key, @NonNull Supplier<Result<S, F>> task) {
+        CompletableFuture<Result<S, F>> result = new CompletableFuture<>();
+        enqueue(key, new Task<>(result, task));
+        return result;
+    }
+
+    /**
+     * Wraps a function so that invocations for the same key run one at a time, in invocation order.
+     *
+     * @param <V>      the type of the input value
+     * @param <S>      the type representing a successful result
+     * @param <F>      the type representing a failure result
+     * @param keyOf    extracts the key from the input value
+     * @param function the function to run
+     * @return a function submitting {@code function} under the key of its input
+     */
+    public <V, S, F> Function<V, CompletableFuture<Result<S, F>>> decorate(@NonNull Function<V, K> keyOf, @NonNull Function<V, Result<S, F>> function) {
+        return value -> submit(keyOf.apply(value), () -> function.apply(value));
+    }
+
+    private void enqueue(K key, Task<?, ?> task) {
+        Lane lane = lanes.compute(key, (k, current) -> current == null ? new Lane(k, task) : current.enqueue(task));
+        if (lane.first == task) {
+            dispatch(lane);
+        }
+    }
+
+    private void dispatch(Lane lane) {
+        try {
+            executor.execute(lane);
+        } catch (RejectedExecutionException e) {
+            lane.retire(e);
+        }
+    }
+
+    private record Task<S, F>(CompletableFuture<Result<S, F>> result, Supplier<Result<S, F>> supplier) implements Runnable {
+        @Override
+        public void run() {
+            try {
+                result.complete(supplier.get());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        private void reject(RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private final class Lane implements Runnable {
+        private final K key;
+        // identifies the submission that created the lane and therefore has to start it
+        private final Task<?, ?> first;
+        // only accessed inside lanes.compute for this key, which serializes admission and retirement
+        private final ArrayDeque<Task<?, ?>> waiting = new ArrayDeque<>();
+        private Task<?, ?> next;
+
+        private Lane(K key, Task<?, ?> first) {
+            this.key = key;
+            this.first = first;
+            this.next = first;
+        }
+
+        private Lane enqueue(Task<?, ?> task) {
+            waiting.add(task);
+            return this;
+        }
+
+        @Override
+        public void run() {
+            try {
+                next.run();
+            } finally {
+                if (lanes.compute(key, (k, lane) -> advance()) != null) {
+                    dispatch(this);
+                }
+            }
+        }
+
+        private Lane advance() {
+            next = waiting.poll();
+            return next == null ? null : this;
+        }
+
+        private void retire(RejectedExecutionException e) {
+            // once removed no submission can reach the lane, so its queue is no longer shared
+            lanes.remove(key, this);
+            next.reject(e);
+            waiting.forEach(task -> task.reject(e));
+        }
+    }
+}
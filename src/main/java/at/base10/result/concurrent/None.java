@@ -0,0 +1,6 @@
+package at.base10.result.concurrent;
+
+final class None implements ResultExecutors, VirtualThreads {
+    None() {
+    }
+}
@@ -0,0 +1,65 @@
+package at.base10.result.concurrent;
+
+import lombok.NonNull;
+
+import java.time.Duration;
+
+/**
+ * The budget of a {@link RateLimiter} or {@link KeyedRateLimiter}: {@code permits} calls per {@code period},
+ * with up to {@code burst} calls allowed back to back after a quiet phase.
+ *
+ * @param permits the number of calls allowed per period
+ * @param period  the period the permits are spread over
+ * @param burst   the number of calls that may be made at once when the budget is unused
+ */
+public record RateLimit(int permits, @NonNull Duration period, int burst) {
+
+    /**
+     * Validates the budget.
+     *
+     * @param permits the number of calls allowed per period
+     * @param period  the period the permits are spread over
+     * @param burst   the number of calls that may be made at once when the budget is unused
+     * @throws IllegalArgumentException if {@code permits} or {@code burst} is not positive
+     *                                  or the period is shorter than a nanosecond per permit
+     */
+    public RateLimit {
+        if (!valid(permits, period, burst)) {
+            throw new IllegalArgumentException("invalid rate limit of " + permits + " per " + period + " with burst " + burst);
+        }
+    }
+
+    private static boolean valid(int permits, Duration period, int burst) {
+        return positive(permits, burst) && period.toNanos() >= permits;
+    }
+
+    private static boolean positive(int permits, int burst) {
+        return permits > 0 && burst > 0;
+    }
+
+    /**
+     * Creates a budget of {@code permits} calls per {@code period} allowing all of them in a single burst.
+     *
+     * @param permits the number of calls allowed per period
+     * @param period  the period the permits are spread over
+     * @return a new budget
+     */
+    public static RateLimit of(int permits, Duration period) {
+        return new RateLimit(permits, period, permits);
+    }
+
+    /**
+     * Returns a copy allowing {@code burst} calls back to back.
+     *
+     * @param burst the number of calls that may be made at once
+     * @return a new budget
+     */
+    public RateLimit withBurst(int burst) {
+        return new RateLimit(permits, period, burst);
+    }
+
+    TokenBucket bucket(long nanoTime) {
+        long intervalNanos = period.toNanos() / permits;
+        return new TokenBucket(intervalNanos, intervalNanos * burst, nanoTime);
+    }
+}
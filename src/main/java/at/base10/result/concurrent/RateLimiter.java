@@ -0,0 +1,84 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Result;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits the rate of {@code Result} returning calls.
+ *
+ * <p>The budget is kept in a lock-free token bucket that is refilled arithmetically from the clock, so there is
+ * no background thread and taking a permit is a single atomic update. When the budget is exhausted the call is
+ * not made and a failure carrying the time until the next permit becomes available is returned; callers never block.
+ *
+ * <p><b>Usage Example:</b></p>
+ *
+ * <blockquote><pre>{@code
+ * RateLimiter<String> limiter = RateLimiter.of(RateLimit.of(100, Duration.ofSeconds(1)),
+ *     retryAfter -> "rate limited, retry in " + retryAfter.toMillis() + "ms");
+ *
+ * Function<Order, Result<Receipt, String>> submit = limiter.decorate(payments::submit);
+ * }</pre></blockquote>
+ *
+ * @param <F> the type representing a failure result
+ * @see KeyedRateLimiter
+ */
+public final class RateLimiter<F> {
+    private final TokenBucket bucket;
+    private final Function<Duration, F> limitedFailure;
+    private final LongSupplier nanoClock;
+
+    RateLimiter(RateLimit limit, Function<Duration, F> limitedFailure, LongSupplier nanoClock) {
+        this.bucket = limit.bucket(nanoClock.getAsLong());
+        this.limitedFailure = limitedFailure;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Creates a rate limiter using {@link System#nanoTime()} as clock.
+     *
+     * @param <F>            the type representing a failure result
+     * @param limit          the budget
+     * @param limitedFailure creates the failure returned for limited calls from the time until the next permit
+     * @return a new rate limiter with its full burst available
+     */
+    public static <F> RateLimiter<F> of(@NonNull RateLimit limit, @NonNull Function<Duration, F> limitedFailure) {
+        return new RateLimiter<>(limit, limitedFailure, System::nanoTime);
+    }
+
+    /**
+     * Wraps a function so that it is only called while the budget permits it.
+     *
+     * @param <K>      the type of the input value
+     * @param <S>      the type representing a successful result
+     * @param function the limited function
+     * @return a function returning the limited failure instead of calling {@code function} when the budget is exhausted
+     */
+    public <K, S> Function<K, Result<S, F>> decorate(@NonNull Function<K, Result<S, F>> function) {
+        return key -> {
+            long delay = bucket.acquire(nanoClock.getAsLong());
+            return delay > 0 ? Result.failure(limitedFailure.apply(Duration.ofNanos(delay))) : function.apply(key);
+        };
+    }
+
+    /**
+     * Wraps an asynchronous function so that it is only called while the budget permits it.
+     *
+     * @param <K>      the type of the input value
+     * @param <S>      the type representing a successful result
+     * @param function the limited function
+     * @return a function returning an already completed future holding the limited failure
+     * instead of calling {@code function} when the budget is exhausted
+     */
+    public <K, S> Function<K, CompletableFuture<Result<S, F>>> decorateAsync(@NonNull Function<K, CompletableFuture<Result<S, F>>> function) {
+        return decorate(function.andThen(Result::<CompletableFuture<Result<S, F>>, F>success)).andThen(RateLimiter::orCompleted);
+    }
+
+    static <S, F> CompletableFuture<Result<S, F>> orCompleted(Result<CompletableFuture<Result<S, F>>, F> result) {
+        return result.either(future -> future, failure -> CompletableFuture.completedFuture(Result.failure(failure)));
+    }
+}
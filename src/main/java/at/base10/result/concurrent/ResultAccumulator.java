@@ -0,0 +1,133 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Result;
+import at.base10.result.interop.ResultCollectors;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A summary of results that many threads report into at the same time without locking.
+ *
+ * <p>The numbers of successes and failures are kept in striped counters ({@link LongAdder}) and the results in a
+ * buffer owned by the reporting thread, so reporting threads never wait for each other. {@link #snapshot()} and
+ * {@link #drain()} combine the buffers of all threads while the threads keep reporting: a result reported meanwhile
+ * is either included or left for a later call, and {@link #drain()} never returns a value twice.
+ *
+ * <p>The values reported by one thread keep their order; the order between threads is unspecified. The buffer of a
+ * thread that has ended is dropped by the next {@link #drain()}, so short-lived threads such as virtual threads
+ * do not pile up buffers.
+ *
+ * <p><b>Usage Example:</b></p>
+ *
+ * <blockquote><pre>{@code
+ * ResultAccumulator<Order, String> imported = ResultAccumulator.create();
+ * rows.parallelStream().map(Order::parse).forEach(imported::add);
+ *
+ * log.info("{} imported, {} rejected", imported.successCount(), imported.failureCount());
+ * ResultCollectors.Partition<List<Order>, List<String>> batch = imported.drain();
+ * }</pre></blockquote>
+ *
+ * @param <S> the type representing a successful result
+ * @param <F> the type representing a failure result
+ */
+public final class ResultAccumulator<S, F> {
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final Queue<Buffer<S, F>> buffers = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Buffer<S, F>> local = ThreadLocal.withInitial(this::register);
+
+    private ResultAccumulator() {
+    }
+
+    /**
+     * Creates an empty accumulator.
+     *
+     * @param <S> the type representing a successful result
+     * @param <F> the type representing a failure result
+     * @return a new accumulator
+     */
+    public static <S, F> ResultAccumulator<S, F> create() {
+        return new ResultAccumulator<>();
+    }
+
+    /**
+     * Reports a result. Its value may be {@code null}.
+     *
+     * @param result the result to add
+     */
+    public void add(@NonNull Result<S, F> result) {
+        local.get().results().add(result);
+        result.peekEither(value -> successes.increment(), failure -> failures.increment());
+    }
+
+    /**
+     * Returns the number of successes reported since the accumulator was created, including drained ones.
+     *
+     * @return the number of successes
+     */
+    public long successCount() {
+        return successes.sum();
+    }
+
+    /**
+     * Returns the number of failures reported since the accumulator was created, including drained ones.
+     *
+     * @return the number of failures
+     */
+    public long failureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * Combines the values reported and not drained so far without removing them.
+     *
+     * @return a success of all successes if no failure was reported, otherwise a failure of all failures
+     */
+    public Result<List<S>, List<F>> snapshot() {
+        List<S> successValues = new ArrayList<>();
+        List<F> failureValues = new ArrayList<>();
+        for (Buffer<S, F> buffer : buffers) {
+            buffer.results().forEach(result -> result.peekEither(successValues::add, failureValues::add));
+        }
+        return failureValues.isEmpty() ? Result.success(Collections.unmodifiableList(successValues)) : Result.failure(Collections.unmodifiableList(failureValues));
+    }
+
+    /**
+     * Removes the values reported so far and returns all of them, the successes as well as the failures.
+     *
+     * @return the removed success values and the removed failure values
+     */
+    public ResultCollectors.Partition<List<S>, List<F>> drain() {
+        List<S> successValues = new ArrayList<>();
+        List<F> failureValues = new ArrayList<>();
+        buffers.removeIf(buffer -> moveAll(buffer, successValues, failureValues));
+        return new ResultCollectors.Partition<>(Collections.unmodifiableList(successValues), Collections.unmodifiableList(failureValues));
+    }
+
+    int bufferCount() {
+        return buffers.size();
+    }
+
+    private Buffer<S, F> register() {
+        Buffer<S, F> buffer = new Buffer<>(Thread.currentThread(), new ConcurrentLinkedQueue<>());
+        buffers.add(buffer);
+        return buffer;
+    }
+
+    private static <S, F> boolean moveAll(Buffer<S, F> buffer, List<S> successes, List<F> failures) {
+        boolean ended = !buffer.owner().isAlive();
+        for (Result<S, F> result = buffer.results().poll(); result != null; result = buffer.results().poll()) {
+            result.peekEither(successes::add, failures::add);
+        }
+        return ended;
+    }
+
+    private record Buffer<S, F>(Thread owner, Queue<Result<S, F>> results) {
+    }
+}
@@ -0,0 +1,152 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Result;
+import at.base10.result.interop.ResultList;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Submits {@code Result} returning tasks to an executor, typically an {@link java.util.concurrent.ExecutorService}.
+ *
+ * <p>The returned futures always complete with a {@code Result}: an exception thrown by a task, or the
+ * {@link RejectedExecutionException} of an executor refusing it, is turned into a {@code Failure} by the
+ * exception mapper instead of surfacing as an {@link java.util.concurrent.ExecutionException}. The lifecycle of
+ * the executor stays with its owner.
+ *
+ * <p>Queue depth and the time tasks spend queued and running are tracked in striped counters, so the
+ * bookkeeping adds no contention between workers.
+ *
+ * <p><b>Usage Example:</b></p>
+ *
+ * <blockquote><pre>{@code
+ * ResultExecutor<String> workers = ResultExecutor.of(pool, e -> "import failed: " + e.getMessage());
+ *
+ * CompletableFuture<Result<List<Row>, List<String>>> rows = workers.submitAll(files.stream()
+ *     .map(file -> (Supplier<Result<Row, String>>) () -> parse(file))
+ *     .toList());
+ * }</pre></blockquote>
+ *
+ * @param <F> the type representing a failure result
+ */
+public final class ResultExecutor<F> {
+    private final Executor executor;
+    private final Function<RuntimeException, F> exceptionMapper;
+    private final LongSupplier nanoClock;
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder queueNanos = new LongAdder();
+    private final LongAdder runNanos = new LongAdder();
+
+    ResultExecutor(Executor executor, Function<RuntimeException, F> exceptionMapper, LongSupplier nanoClock) {
+        this.executor = executor;
+        this.exceptionMapper = exceptionMapper;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Creates a result executor using {@link System#nanoTime()} to measure latency.
+     *
+     * @param <F>             the type representing a failure result
+     * @param executor        the executor running the tasks
+     * @param exceptionMapper turns exceptions of tasks and rejections into failures
+     * @return a new result executor
+     */
+    public static <F> ResultExecutor<F> of(@NonNull Executor executor, @NonNull Function<RuntimeException, F> exceptionMapper) {
+        return new ResultExecutor<>(executor, exceptionMapper, System::nanoTime);
+    }
+
+    /**
+     * Submits a task.
+     *
+     * @param <S>  the type representing a successful result
+     * @param task the task to run
+     * @return a future completed with the result of the task, or with the mapped failure if it threw or was rejected
+     */
+    public <S> CompletableFuture<Result<S, F>> submit(@NonNull Supplier<Result<S, F>> task) {
+        long submittedAt = nanoClock.getAsLong();
+        queued.increment();
+        try {
+            return CompletableFuture.supplyAsync(() -> run(task, submittedAt), executor);
+        } catch (RejectedExecutionException e) {
+            queued.decrement();
+            return CompletableFuture.completedFuture(Result.failure(exceptionMapper.apply(e)));
+        }
+    }
+
+    /**
+     * Submits several tasks and combines their results once all of them are done.
+     *
+     * @param <S>   the type representing a successful result
+     * @param tasks the tasks to run
+     * @return a future completed with every success value, or every failure, in the order of {@code tasks}
+     */
+    public <S> CompletableFuture<Result<List<S>, List<F>>> submitAll(@NonNull List<Supplier<Result<S, F>>> tasks) {
+        return ResultList.<Supplier<Result<S, F>>, S, F>traverseApplicativeAsync(this::submit).apply(tasks);
+    }
+
+    /**
+     * Returns the number of submitted tasks that have not started yet.
+     *
+     * @return the current queue depth
+     */
+    public long queueDepth() {
+        return queued.sum();
+    }
+
+    /**
+     * Returns the number of tasks that have run to completion, including those that threw.
+     *
+     * @return the number of completed tasks
+     */
+    public long completedTasks() {
+        return completed.sum();
+    }
+
+    /**
+     * Returns the mean time tasks waited between submission and start.
+     *
+     * @return the mean queueing time, or zero if no task has started
+     */
+    public Duration meanQueueTime() {
+        return mean(queueNanos, started);
+    }
+
+    /**
+     * Returns the mean time tasks took to run.
+     *
+     * @return the mean running time, or zero if no task has completed
+     */
+    public Duration meanRunTime() {
+        return mean(runNanos, completed);
+    }
+
+    private static Duration mean(LongAdder totalNanos, LongAdder count) {
+        long n = count.sum();
+        return n == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos.sum() / n);
+    }
+
+    private <S> Result<S, F> run(Supplier<Result<S, F>> task, long submittedAt) {
+        long startedAt = nanoClock.getAsLong();
+        queued.decrement();
+        queueNanos.add(startedAt - submittedAt);
+        started.increment();
+        try {
+            return task.get();
+        } catch (RuntimeException e) {
+            return Result.failure(exceptionMapper.apply(e));
+        } finally {
+            runNanos.add(nanoClock.getAsLong() - startedAt);
+            completed.increment();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Result;
+import lombok.NonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Runs blocking {@code Result} returning calls asynchronously, for use with the async {@code Operator} helpers
+ * and async traversals.
+ *
+ * <p>The library is packaged as a multi-release JAR. On JDK 21 and later {@link #blocking()} starts a virtual
+ * thread per call, so a large number of concurrent blocking calls - file or network reads, JDBC lookups - costs
+ * little more than their stacks. On older JDKs it falls back to a cached pool of daemon platform threads.
+ *
+ * <p><b>Usage Example:</b></p>
+ *
+ * <blockquote><pre>{@code
+ * Function<String, CompletableFuture<Result<Customer, String>>> find = ResultExecutors.async(repository::find);
+ *
+ * CompletableFuture<Result<Invoice, String>> invoice = find.apply(id)
+ *     .thenCompose(Operator.bindAsync(ResultExecutors.async(billing::invoiceFor)));
+ * }</pre></blockquote>
+ */
+public sealed interface ResultExecutors permits None {
+
+    /**
+     * Returns the shared executor for blocking calls.
+     *
+     * @return a virtual thread per task executor on JDK 21 and later, a cached pool of daemon threads otherwise
+     */
+    static Executor blocking() {
+        return BlockingExecutor.INSTANCE;
+    }
+
+    /**
+     * Turns a blocking function into an asynchronous one running on {@link #blocking()}.
+     *
+     * @param <V>      the type of the input value
+     * @param <S>      the type representing a successful result
+     * @param <F>      the type representing a failure result
+     * @param function the blocking function
+     * @return a function returning a future completed with the result of {@code function},
+     * or exceptionally if it threw
+     */
+    static <V, S, F> Function<V, CompletableFuture<Result<S, F>>> async(@NonNull Function<V, Result<S, F>> function) {
+        return async(function, blocking());
+    }
+
+    /**
+     * Turns a blocking function into an asynchronous one running on {@code executor}.
+     *
+     * @param <V>      the type of the input value
+     * @param <S>      the type representing a successful result
+     * @param <F>      the type representing a failure result
+     * @param function the blocking function
+     * @param executor the executor running {@code function}
+     * @return a function returning a future completed with the result of {@code function},
+     * or exceptionally if it threw
+     */
+    static <V, S, F> Function<V, CompletableFuture<Result<S, F>>> async(@NonNull Function<V, Result<S, F>> function, @NonNull Executor executor) {
+        return value -> CompletableFuture.supplyAsync(() -> function.apply(value), executor);
+    }
+}
@@ -0,0 +1,285 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Result;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A staged pipeline passing {@code Result} values between threads through a preallocated ring buffer.
+ *
+ * <p>A single producer {@link #offer(Result) offers} results into the ring. Every stage - a function such as
+ * those produced by {@link at.base10.result.Operator} - follows the one before it around the ring, replacing each
+ * result with its own output in place, and a single consumer {@link #drain(Consumer) drains} the results behind
+ * the last stage. Each stage and the consumer keep their own cursor into the ring, so the ring is never locked
+ * and nothing is copied between stages. Failures bypass every remaining stage unchanged, and an exception
+ * thrown by a stage is turned into a failure by the exception mapper. Should the exception mapper throw as well,
+ * or a stage throw an {@link Error}, that exception takes the place of the result, bypasses the remaining stages
+ * and is thrown by {@link #drain(Consumer)} when the result would have been passed to the consumer.
+ *
+ * <p>Stages work in batches: a stage processes everything its predecessor has released and then publishes its
+ * progress with a single ordered write, so the cost of the memory barriers is shared by the whole batch. A stage
+ * only occupies a thread of the executor while it has work; it is scheduled again when new results reach it.
+ *
+ * <p>{@link #offer(Result)} must only be called by one thread at a time, and so must {@link #drain(Consumer)}.
+ * If the executor rejects a stage, the next call of {@link #drain(Consumer)} throws the rejection; the stage is
+ * scheduled again, and catches up with its results, the next time a result reaches it.
+ *
+ * <p>Every stage is the single consumer of the stage before it, which keeps results in the order they were offered
+ * and lets a stage advance its cursor without compare-and-set. Work is spread across threads by running the stages
+ * concurrently, not by competing consumers on one stage; a stage needing more threads can fan out itself, and
+ * independent streams of results can use one pipeline each.
+ *
+ * <p><b>Usage Example:</b></p>
+ *
+ * <blockquote><pre>{@code
+ * ResultPipeline<Row, Order, String> ingest = ResultPipeline.<Row, String>stages()
+ *     .then(Operator.bind(Order::parse))
+ *     .then(Operator.map(pricing::apply))
+ *     .build(1024, pool, RuntimeException::getMessage);
+ *
+ * while (!ingest.offer(Result.success(row))) {
+ *     Thread.onSpinWait();
+ * }
+ * ingest.drain(writer::write);
+ * }</pre></blockquote>
+ *
+ * @param <I> the type of the successful results offered to the pipeline
+ * @param <S> the type of the successful results leaving the pipeline
+ * @param <F> the type representing a failure result
+ */
+public final class ResultPipeline<I, S, F> {
+    private final Object[] ring;
+    private final int mask;
+    private final Function<RuntimeException, F> exceptionMapper;
+    private final Executor executor;
+    private final AtomicLong[] cursors;
+    private final Stage[] stages;
+    private final AtomicLong consumed = new AtomicLong(-1);
+    private final AtomicReference<RuntimeException> rejected = new AtomicReference<>();
+
+    private ResultPipeline(List<Function<Result<Object, F>, Result<Object, F>>> functions, int ringSize, Executor executor, Function<RuntimeException, F> exceptionMapper) {
+        this.ring = new Object[powerOfTwo(ringSize)];
+        this.mask = ringSize - 1;
+        this.executor = executor;
+        this.exceptionMapper = exceptionMapper;
+        this.cursors = new AtomicLong[functions.size() + 1];
+        this.stages = new ResultPipeline.Stage[functions.size()];
+        cursors[0] = new AtomicLong(-1);
+        for (int i = 0; i < stages.length; i++) {
+            stages[i] = new Stage(i, functions.get(i));
+            cursors[i + 1] = stages[i].cursor;
+        }
+    }
+
+    private static int powerOfTwo(int ringSize) {
+        if (ringSize < 1 || (ringSize & ringSize - 1) != 0) {
+            throw new IllegalArgumentException("ring size must be a positive power of two but was " + ringSize);
+        }
+        return ringSize;
+    }
+
+    /**
+     * Starts describing a pipeline with no stages.
+     *
+     * @param <I> the type of the successful results offered to the pipeline
+     * @param <F> the type representing a failure result
+     * @return the stages of an empty pipeline
+     */
+    public static <I, F> Stages<I, I, F> stages() {
+        return new Stages<>(List.of());
+    }
+
+    /**
+     * Offers a result to the first stage without blocking. Must only be called by one thread at a time.
+     *
+     * @param result the result to process
+     * @return {@code true} if the result was accepted, {@code false} if the ring is full
+     */
+    public boolean offer(@NonNull Result<I, F> result) {
+        long sequence = cursors[0].get() + 1;
+        if (sequence - consumed.get() > ring.length) {
+            return false;
+        }
+        ring[index(sequence)] = result;
+        cursors[0].lazySet(sequence);
+        scheduleStage(0);
+        return true;
+    }
+
+    /**
+     * Passes every result that went through all stages to {@code consumer}, in the order they were offered,
+     * and frees their slots in the ring. Must only be called by one thread at a time.
+     *
+     * <p>An exception thrown by {@code consumer} is passed on; the result it was thrown for counts as consumed.
+     * The same holds for an exception thrown by the exception mapper, which is thrown in place of its result.
+     * A rejection of a stage by the executor is thrown before any result is passed on.
+     *
+     * @param consumer receives the results
+     * @return the number of results passed to {@code consumer}
+     */
+    public int drain(@NonNull Consumer<? super Result<S, F>> consumer) {
+        throwRejection();
+        long from = consumed.get();
+        long available = cursors[stages.length].get();
+        long sequence = from;
+        try {
+            while (sequence < available) {
+                sequence++;
+                consumer.accept(delivered(ring[index(sequence)]));
+            }
+        } finally {
+            consumed.lazySet(sequence);
+        }
+        return (int) (sequence - from);
+    }
+
+    private void throwRejection() {
+        RuntimeException rejection = rejected.getAndSet(null);
+        if (rejection != null) {
+            throw rejection;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Result<S, F> delivered(Object slot) {
+        if (slot instanceof Unmapped unmapped) {
+            throw unmapped.rethrown();
+        }
+        return (Result<S, F>) slot;
+    }
+
+    private int index(long sequence) {
+        return (int) sequence & mask;
+    }
+
+    private void scheduleStage(int stage) {
+        if (stage < stages.length) {
+            stages[stage].schedule();
+        }
+    }
+
+    /**
+     * The stages of a {@link ResultPipeline} under construction.
+     *
+     * @param <I> the type of the successful results offered to the pipeline
+     * @param <S> the type of the successful results produced by the last stage
+     * @param <F> the type representing a failure result
+     */
+    public static final class Stages<I, S, F> {
+        private final List<Function<Result<Object, F>, Result<Object, F>>> functions;
+
+        private Stages(List<Function<Result<Object, F>, Result<Object, F>>> functions) {
+            this.functions = functions;
+        }
+
+        /**
+         * Appends a stage. Only successful results are passed to it.
+         *
+         * @param <S2>  the type of the successful results produced by the stage
+         * @param stage the function applied to every successful result
+         * @return the stages including {@code stage}
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public <S2> Stages<I, S2, F> then(@NonNull Function<Result<S, F>, Result<S2, F>> stage) {
+            List<Function<Result<Object, F>, Result<Object, F>>> appended = new ArrayList<>(functions);
+            appended.add((Function) stage);
+            return new Stages<>(List.copyOf(appended));
+        }
+
+        /**
+         * Creates the pipeline.
+         *
+         * @param ringSize        the number of results the pipeline holds, a power of two
+         * @param executor        the executor running the stages
+         * @param exceptionMapper turns an exception thrown by a stage into a failure
+         * @return a new pipeline
+         * @throws IllegalArgumentException if {@code ringSize} is not a positive power of two
+         */
+        public ResultPipeline<I, S, F> build(int ringSize, @NonNull Executor executor, @NonNull Function<RuntimeException, F> exceptionMapper) {
+            return new ResultPipeline<>(functions, ringSize, executor, exceptionMapper);
+        }
+    }
+
+    private record Unmapped(Throwable exception) {
+        private RuntimeException rethrown() {
+            if (exception instanceof Error error) {
+                throw error;
+            }
+            return (RuntimeException) exception;
+        }
+    }
+
+    private final class Stage implements Runnable {
+        private final int index;
+        private final Function<Result<Object, F>, Result<Object, F>> function;
+        private final AtomicLong cursor = new AtomicLong(-1);
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private Stage(int index, Function<Result<Object, F>, Result<Object, F>> function) {
+            this.index = index;
+            this.function = function;
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                execute();
+            }
+        }
+
+        private void execute() {
+            try {
+                executor.execute(this);
+            } catch (RuntimeException e) {
+                wip.set(0);
+                rejected.set(e);
+            }
+        }
+
+        @Override
+        public void run() {
+            do {
+                advance(cursors[index].get());
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        private void advance(long available) {
+            for (long sequence = cursor.get() + 1; sequence <= available; sequence++) {
+                ring[index(sequence)] = apply(ring[index(sequence)]);
+            }
+            cursor.lazySet(available);
+            scheduleStage(index + 1);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object apply(Object slot) {
+            return slot instanceof Result<?, ?> result && result.isSuccess() ? process((Result<Object, F>) result) : slot;
+        }
+
+        private Object process(Result<Object, F> result) {
+            try {
+                return function.apply(result);
+            } catch (RuntimeException e) {
+                return mapped(e);
+            } catch (Error e) {
+                return new Unmapped(e);
+            }
+        }
+
+        private Object mapped(RuntimeException exception) {
+            try {
+                return Result.failure(exceptionMapper.apply(exception));
+            } catch (RuntimeException | Error e) {
+                e.addSuppressed(exception);
+                return new Unmapped(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Result;
+import at.base10.result.interop.ResultList;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+
+/**
+ * A scope for running {@code Result} returning subtasks concurrently and joining their outcomes.
+ *
+ * <p>Subtasks are started with {@link #fork(Supplier)} and combined either with {@link #joinApplicative()},
+ * which waits for all of them and collects every failure, or with {@link #joinFailFast()}, which returns as soon
+ * as the first failure arrives and cancels the remaining subtasks. Closing the scope cancels every unfinished
+ * subtask and waits until those already running have exited, so no forked work outlives the scope.
+ *
+ * <p>On JDK 21 and later every subtask runs on its own virtual thread; on older JDKs the executor passed to
+ * {@link #open(Executor)} is used. A scope is meant to be used by the thread that opened it: forking, joining
+ * and closing must not be called concurrently.
+ *
+ * <p>A subtask that throws makes the joins throw a {@link java.util.concurrent.CompletionException}
+ * holding the exception.
+ *
+ * <p><b>Usage Example:</b></p>
+ *
+ * <blockquote><pre>{@code
+ * try (ResultScope<Object, String> scope = ResultScope.open(pool)) {
+ *     CompletableFuture<Result<Object, String>> customer = scope.fork(() -> customers.find(id));
+ *     CompletableFuture<Result<Object, String>> orders = scope.fork(() -> orders.findFor(id));
+ *     Result<List<Object>, List<String>> both = scope.joinApplicative();
+ * }
+ * }</pre></blockquote>
+ *
+ * @param <S> the type representing a successful result of the subtasks
+ * @param <F> the type representing a failure result of the subtasks
+ */
+public final class ResultScope<S, F> implements AutoCloseable {
+    private final Optional<ExecutorService> owned;
+    private final Executor executor;
+    private final List<Fork<S, F>> forks = new ArrayList<>();
+    private final CompletableFuture<F> firstFailure = new CompletableFuture<>();
+    private boolean closed;
+
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    ResultScope(Optional<ExecutorService> owned, Executor fallback) {
+        this.owned = owned;
+        this.executor = owned.isPresent() ? owned.get() : fallback;
+    }
+
+    /**
+     * Opens a scope running its subtasks on virtual threads, or on {@code fallback} if the JDK has none.
+     *
+     * @param <S>      the type representing a successful result of the subtasks
+     * @param <F>      the type representing a failure result of the subtasks
+     * @param fallback the executor used on JDKs without virtual threads
+     * @return a new scope
+     */
+    public static <S, F> ResultScope<S, F> open(@NonNull Executor fallback) {
+        return new ResultScope<>(VirtualThreads.executor(), fallback);
+    }
+
+    /**
+     * Starts a subtask.
+     *
+     * @param task the subtask
+     * @return a future completed with the outcome of the subtask; completing it has no effect on the scope
+     * @throws IllegalStateException                           if the scope is closed
+     * @throws java.util.concurrent.RejectedExecutionException if the executor rejects the subtask,
+     *                                                         which is then not part of the scope
+     */
+    public CompletableFuture<Result<S, F>> fork(@NonNull Supplier<Result<S, F>> task) {
+        if (closed) {
+            throw new IllegalStateException("scope is closed");
+        }
+        Fork<S, F> fork = new Fork<>(task, firstFailure);
+        executor.execute(fork);
+        forks.add(fork);
+        return fork.result.copy();
+    }
+
+    /**
+     * Waits for every subtask and combines their outcomes, keeping the order in which they were forked.
+     *
+     * @return a {@code Success} holding every success value, or a {@code Failure} holding every failure value
+     */
+    public Result<List<S>, List<F>> joinApplicative() {
+        return ResultList.sequenceApplicative(results());
+    }
+
+    /**
+     * Waits until every subtask succeeded or one of them failed. On failure, the remaining subtasks are cancelled.
+     *
+     * @return a {@code Success} holding every success value in fork order, or the failure that arrived first
+     */
+    public Result<List<S>, F> joinFailFast() {
+        CompletableFuture<Void> settled = CompletableFuture.allOf(forks.stream().map(fork -> fork.result).toArray(CompletableFuture[]::new));
+        firstFailure.whenComplete((failure, error) -> settled.complete(null));
+        settled.join();
+        if (firstFailure.isDone()) {
+            forks.forEach(fork -> fork.cancel(true));
+            return Result.failure(firstFailure.join());
+        }
+        return ResultList.sequenceMonadic(results());
+    }
+
+    /**
+     * Cancels every unfinished subtask and waits until the running ones have exited.
+     * If the waiting thread is interrupted it stops waiting and keeps its interrupt status.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        forks.forEach(fork -> fork.cancel(true));
+        try {
+            for (Fork<S, F> fork : forks) {
+                fork.awaitExit();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        owned.ifPresent(ExecutorService::shutdown);
+    }
+
+    private List<Result<S, F>> results() {
+        return forks.stream().map(fork -> fork.result.join()).toList();
+    }
+
+    private static final class Fork<S, F> extends FutureTask<Result<S, F>> {
+        private final CompletableFuture<F> firstFailure;
+        private final CompletableFuture<Result<S, F>> result = new CompletableFuture<>();
+        private final CountDownLatch exited = new CountDownLatch(1);
+        private volatile boolean started;
+        private Result<S, F> value;
+        private Throwable error;
+
+        private Fork(Supplier<Result<S, F>> task, CompletableFuture<F> firstFailure) {
+            super(task::get);
+            this.firstFailure = firstFailure;
+        }
+
+        @Override
+        public void run() {
+            started = true;
+            try {
+                super.run();
+            } finally {
+                exited.countDown();
+            }
+        }
+
+        @Override
+        protected void set(Result<S, F> value) {
+            this.value = value;
+            super.set(value);
+        }
+
+        @Override
+        protected void setException(Throwable error) {
+            this.error = error;
+            super.setException(error);
+        }
+
+        // publishes once the outcome is final, so a task returning after it was cancelled cannot overtake the cancellation
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                result.completeExceptionally(new CancellationException());
+            } else if (error != null) {
+                firstFailure.completeExceptionally(error);
+                result.completeExceptionally(error);
+            } else {
+                result.complete(value.peekFailure(firstFailure::complete));
+            }
+        }
+
+        private void awaitExit() throws InterruptedException {
+            // a fork cancelled before it started never calls the task, so there is nothing to wait for
+            if (started) {
+                exited.await();
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Result;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Runs {@code Result} producing tasks on an executor and sheds them when its queue stands still.
+ *
+ * <p>The time every task spent queued is measured when it is dequeued. Following the CoDel scheme a short spike
+ * is tolerated: only when the queueing delay stays above {@code target} for a whole {@code interval} the executor
+ * is considered overloaded, and from then on dequeued tasks are completed with the overloaded failure instead of
+ * being run - until a task is dequeued within {@code target} again. This drains a standing queue quickly and keeps
+ * the latency of the tasks that do run bounded.
+ *
+ * <p><b>Usage Example:</b></p>
+ *
+ * <blockquote><pre>{@code
+ * SheddingExecutor<String> workers = SheddingExecutor.of(pool, Duration.ofMillis(5), Duration.ofMillis(100),
+ *     () -> "ingest overloaded");
+ *
+ * CompletableFuture<Result<Receipt, String>> receipt = workers.submit(() -> ingest(batch));
+ * }</pre></blockquote>
+ *
+ * @param <F> the type representing a failure result
+ */
+public final class SheddingExecutor<F> {
+    private static final long BELOW_TARGET = Long.MIN_VALUE;
+
+    private final Executor executor;
+    private final long targetNanos;
+    private final long intervalNanos;
+    private final Supplier<F> overloadedFailure;
+    private final LongSupplier nanoClock;
+    private final AtomicLong shedFrom = new AtomicLong(BELOW_TARGET);
+    private final LongAdder shed = new LongAdder();
+
+    SheddingExecutor(Executor executor, Duration target, Duration interval, Supplier<F> overloadedFailure, LongSupplier nanoClock) {
+        if (target.toNanos() < 1 || interval.toNanos() < 1) {
+            throw new IllegalArgumentException("target and interval must be positive but were " + target + " and " + interval);
+        }
+        this.executor = executor;
+        this.targetNanos = target.toNanos();
+        this.intervalNanos = interval.toNanos();
+        this.overloadedFailure = overloadedFailure;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Creates a shedding executor using {@link System#nanoTime()} to measure queueing delay.
+     *
+     * @param <F>               the type representing a failure result
+     * @param executor          the executor running the tasks
+     * @param target            the acceptable queueing delay
+     * @param interval          how long the delay must stay above {@code target} before tasks are shed
+     * @param overloadedFailure supplies the failure shed tasks are completed with
+     * @return a new shedding executor
+     * @throws IllegalArgumentException if {@code target} or {@code interval} is not positive
+     */
+    public static <F> SheddingExecutor<F> of(@NonNull Executor executor, Duration target, Duration interval, @NonNull Supplier<F> overloadedFailure) {
+        return new SheddingExecutor<>(executor, target, interval, overloadedFailure, System::nanoTime);
+    }
+
+    /**
+     * Returns the number of tasks shed since the executor was created.
+     *
+     * @return the number of tasks completed with the overloaded failure
+     */
+    public long shed() {
+        return shed.sum();
+    }
+
+    /**
+     * Submits a task.
+     *
+     * @param <S>  the type representing a successful result
+     * @param task the task to run
+     * @return a future completed with the result of the task, with the overloaded failure if the task was shed,
+     * or exceptionally if the task threw
+     */
+    public <S> CompletableFuture<Result<S, F>> submit(@NonNull Supplier<Result<S, F>> task) {
+        long enqueuedAt = nanoClock.getAsLong();
+        return CompletableFuture.supplyAsync(() -> shouldShed(enqueuedAt) ? overloaded() : task.get(), executor);
+    }
+
+    /**
+     * Wraps a function so that every invocation is submitted as a task.
+     *
+     * @param <K>      the type of the input value
+     * @param <S>      the type representing a successful result
+     * @param function the function to run on the executor
+     * @return a function submitting {@code function} and returning the future of its result
+     */
+    public <K, S> Function<K, CompletableFuture<Result<S, F>>> decorate(@NonNull Function<K, Result<S, F>> function) {
+        return key -> submit(() -> function.apply(key));
+    }
+
+    private boolean shouldShed(long enqueuedAt) {
+        long now = nanoClock.getAsLong();
+        if (now - enqueuedAt < targetNanos) {
+            shedFrom.set(BELOW_TARGET);
+            return false;
+        }
+        return aboveTargetForInterval(now);
+    }
+
+    private boolean aboveTargetForInterval(long now) {
+        long from = shedFrom.get();
+        if (from == BELOW_TARGET) {
+            shedFrom.compareAndSet(BELOW_TARGET, now + intervalNanos);
+            return false;
+        }
+        return now - from >= 0;
+    }
+
+    private <S> Result<S, F> overloaded() {
+        shed.increment();
+        return Result.failure(overloadedFailure.get());
+    }
+}
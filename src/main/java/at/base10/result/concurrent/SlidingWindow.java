@@ -0,0 +1,81 @@
+package at.base10.result.concurrent;
+
+import java.time.Duration;
+
+/**
+ * A lock-free window of recent call outcomes used to decide whether a dependency is healthy.
+ *
+ * <p>Implementations keep their totals in striped counters ({@link java.util.concurrent.atomic.LongAdder}),
+ * so recording an outcome never blocks and reading a {@link Snapshot} is cheap even under heavy contention.
+ * Snapshots taken while other threads record are approximate but never negative.
+ *
+ * <p>A window is stateful: every {@link CircuitBreaker} creates its own instance from
+ * {@link CircuitBreakerConfig#windowFactory()}.
+ *
+ * @see CircuitBreaker
+ */
+public sealed interface SlidingWindow permits CountWindow, TimeWindow {
+
+    /**
+     * Creates a window holding the outcomes of the last {@code size} calls.
+     *
+     * @param size the number of calls kept in the window
+     * @return a count based window
+     * @throws IllegalArgumentException if {@code size} is not positive
+     */
+    static SlidingWindow ofCalls(int size) {
+        return new CountWindow(size);
+    }
+
+    /**
+     * Creates a window holding the outcomes of the calls recorded during the last {@code window}.
+     * The window is divided into {@code buckets} slices which expire one at a time.
+     *
+     * @param window  the time span covered by the window
+     * @param buckets the number of slices the window is divided into
+     * @return a time based window
+     * @throws IllegalArgumentException if {@code buckets} is not positive or the slices would be shorter than a nanosecond
+     */
+    static SlidingWindow ofTime(Duration window, int buckets) {
+        return new TimeWindow(window.toNanos(), buckets);
+    }
+
+    /**
+     * Records the outcome of a call.
+     *
+     * @param failed   whether the call failed
+     * @param nanoTime the time the call completed, as reported by the breaker's clock
+     */
+    void record(boolean failed, long nanoTime);
+
+    /**
+     * Returns the totals currently held by the window.
+     *
+     * @param nanoTime the current time, as reported by the breaker's clock
+     * @return the number of calls and failures in the window
+     */
+    Snapshot snapshot(long nanoTime);
+
+    /**
+     * Forgets every recorded outcome.
+     */
+    void reset();
+
+    /**
+     * The totals of a {@link SlidingWindow} at a point in time.
+     *
+     * @param calls    the number of recorded calls
+     * @param failures the number of recorded calls that failed
+     */
+    record Snapshot(long calls, long failures) {
+
+        /**
+         * Returns the share of failed calls.
+         *
+         * @return the failure rate between {@code 0} and {@code 1}, or {@code 0} if no call was recorded
+         */
+        public double failureRate() {
+            return calls == 0 ? 0 : (double) failures / calls;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package at.base10.result.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * A {@link SlidingWindow} over the calls of the last {@code windowNanos}.
+ * The window is split into buckets of equal length; a bucket is recycled by the first writer that
+ * observes it belongs to an expired slice. Writes racing with a recycle may be lost, which only
+ * makes the window briefly more optimistic.
+ */
+final class TimeWindow implements SlidingWindow {
+    private final long bucketNanos;
+    private final Bucket[] buckets;
+
+    TimeWindow(long windowNanos, int buckets) {
+        if (buckets < 1 || windowNanos < buckets) {
+            throw new IllegalArgumentException("cannot split " + windowNanos + "ns into " + buckets + " buckets");
+        }
+        this.bucketNanos = windowNanos / buckets;
+        this.buckets = Stream.generate(Bucket::new).limit(buckets).toArray(Bucket[]::new);
+        reset();
+    }
+
+    @Override
+    public void record(boolean failed, long nanoTime) {
+        long epoch = epoch(nanoTime);
+        Bucket bucket = buckets[(int) Math.floorMod(epoch, (long) buckets.length)];
+        bucket.roll(epoch);
+        bucket.calls.increment();
+        if (failed) {
+            bucket.failures.increment();
+        }
+    }
+
+    @Override
+    public Snapshot snapshot(long nanoTime) {
+        long oldest = epoch(nanoTime) - buckets.length;
+        long calls = 0;
+        long failures = 0;
+        for (Bucket bucket : buckets) {
+            if (bucket.epoch.get() > oldest) {
+                calls += bucket.calls.sum();
+                failures += bucket.failures.sum();
+            }
+        }
+        return new Snapshot(calls, failures);
+    }
+
+    @Override
+    public void reset() {
+        for (Bucket bucket : buckets) {
+            bucket.epoch.set(Long.MIN_VALUE);
+        }
+    }
+
+    private long epoch(long nanoTime) {
+        return Math.floorDiv(nanoTime, bucketNanos);
+    }
+
+    private static final class Bucket {
+        private final AtomicLong epoch = new AtomicLong();
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        private void roll(long current) {
+            if (epoch.getAndAccumulate(current, Math::max) < current) {
+                calls.reset();
+                failures.reset();
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package at.base10.result.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket in its "theoretical arrival time" form: instead of a token count refilled by a
+ * background task, it stores the time at which the bucket would be full again. Taking a token moves that time
+ * one interval into the future; a token is available as long as the time stays within the burst allowance.
+ */
+final class TokenBucket {
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    TokenBucket(long intervalNanos, long burstNanos, long nanoTime) {
+        this.intervalNanos = intervalNanos;
+        this.burstNanos = burstNanos;
+        this.fullAt = new AtomicLong(nanoTime);
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @return {@code 0} or less if a token was taken, otherwise the nanoseconds until the next token is available
+     */
+    long acquire(long nanoTime) {
+        return delay(fullAt.getAndUpdate(seen -> delay(seen, nanoTime) > 0 ? seen : take(seen, nanoTime)), nanoTime);
+    }
+
+    boolean isFull(long nanoTime) {
+        return fullAt.get() <= nanoTime;
+    }
+
+    private long take(long seen, long nanoTime) {
+        return Math.max(seen, nanoTime) + intervalNanos;
+    }
+
+    private long delay(long seen, long nanoTime) {
+        return take(seen, nanoTime) - nanoTime - burstNanos;
+    }
+}
@@ -0,0 +1,20 @@
+package at.base10.result.concurrent;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Access to virtual threads. This is the Java 17 variant; the Java 21 layer of the multi-release JAR
+ * ({@code src/main/java21}) replaces it with one that returns a virtual thread executor.
+ */
+sealed interface VirtualThreads permits None {
+
+    /**
+     * Creates an executor starting a new virtual thread for each task.
+     *
+     * @return the executor, or empty if the running JDK has no virtual threads
+     */
+    static Optional<ExecutorService> executor() {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,83 @@
+package at.base10.result.interop;
+
+import at.base10.result.Result;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static at.base10.result.Result.failure;
+import static at.base10.result.Result.success;
+
+/**
+ * Collects the outcomes of asynchronous computations into slots indexed by input position and completes once
+ * the last one arrives. A single counter replaces {@code CompletableFuture.allOf} and per-element continuations:
+ * every completion stores its outcome and counts down, and the thread bringing the counter to zero assembles
+ * the result in one pass.
+ *
+ * <p>The computations belong to the caller and are never completed or cancelled here; an aborted traversal only
+ * completes its own future exceptionally.
+ *
+ * @param <S> the success type of the computations
+ * @param <F> the failure type of the computations
+ */
+final class ApplicativeAggregator<S, F> {
+    private final Result<S, F>[] outcomes;
+    private final AtomicInteger pending;
+    private final CompletableFuture<Result<List<S>, List<F>>> result = new CompletableFuture<>();
+
+    @SuppressWarnings("unchecked")
+    ApplicativeAggregator(int size) {
+        this.outcomes = (Result<S, F>[]) new Result[size];
+        // one extra count held while the computations are started, so an empty input completes as well
+        this.pending = new AtomicInteger(size + 1);
+    }
+
+    <V> CompletableFuture<Result<List<S>, List<F>>> start(List<V> values, Function<V, CompletableFuture<Result<S, F>>> mapping) {
+        int slot = 0;
+        try {
+            for (V value : values) {
+                watch(slot, mapping.apply(value));
+                slot++;
+            }
+            countDown();
+        } catch (RuntimeException e) {
+            // a mapping that throws part way leaves nothing to wait for; the computations already started run on
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private void watch(int slot, CompletableFuture<Result<S, F>> computation) {
+        computation.whenComplete((outcome, error) -> arrive(slot, outcome, error));
+    }
+
+    private void arrive(int slot, Result<S, F> outcome, Throwable error) {
+        if (error != null) {
+            result.completeExceptionally(error);
+        } else if (outcome == null) {
+            result.completeExceptionally(new NullPointerException("computation " + slot + " completed with a null result"));
+        } else {
+            outcomes[slot] = outcome;
+            countDown();
+        }
+    }
+
+    private void countDown() {
+        if (pending.decrementAndGet() == 0) {
+            result.complete(assemble());
+        }
+    }
+
+    private Result<List<S>, List<F>> assemble() {
+        List<S> successes = new ArrayList<>(outcomes.length);
+        List<F> failures = new ArrayList<>();
+        for (Result<S, F> outcome : outcomes) {
+            outcome.peekEither(successes::add, failures::add);
+        }
+        return failures.isEmpty() ? success(Collections.unmodifiableList(successes)) : failure(Collections.unmodifiableList(failures));
+    }
+}
@@ -0,0 +1,71 @@
+package at.base10.result.interop;
+
+import at.base10.result.Result;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The single pass behind the applicative traversals of {@link ResultStream} and {@link ResultList}: successes are
+ * appended to one list until the first failure, after which they are dropped and every failure goes to the
+ * {@link FailureAccumulation.Accumulator}. The input is consumed only while the accumulator wants more failures.
+ * If the traversal fails with an exception or an error, the accumulator is
+ * {@link FailureAccumulation.Accumulator#abandon() abandoned}.
+ *
+ * @param <S> the success type of the traversal
+ * @param <F> the failure type of the elements
+ * @param <A> the type of the accumulated failure
+ */
+final class ApplicativeTraversal<S, F, A> {
+    private final FailureAccumulation.Accumulator<F, A> failures;
+    // null once a failure was met
+    private List<S> successes = new ArrayList<>();
+    private boolean open = true;
+
+    private ApplicativeTraversal(FailureAccumulation.Accumulator<F, A> failures) {
+        this.failures = failures;
+    }
+
+    static <V, S, F, A> Result<List<S>, A> traverse(Iterator<V> values, Function<V, Result<S, F>> mapping, FailureAccumulation<F, A> accumulation) {
+        ApplicativeTraversal<S, F, A> traversal = new ApplicativeTraversal<>(accumulation.start());
+        try {
+            return traversal.run(values, mapping);
+        } catch (Throwable e) {
+            traversal.abandon(e);
+            throw e;
+        }
+    }
+
+    private <V> Result<List<S>, A> run(Iterator<V> values, Function<V, Result<S, F>> mapping) {
+        while (open && values.hasNext()) {
+            mapping.apply(values.next()).peekEither(this::succeed, this::fail);
+        }
+        return result();
+    }
+
+    private void abandon(Throwable cause) {
+        try {
+            failures.abandon();
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private void succeed(S value) {
+        if (successes != null) {
+            successes.add(value);
+        }
+    }
+
+    private void fail(F failure) {
+        successes = null;
+        open = failures.add(failure);
+    }
+
+    private Result<List<S>, A> result() {
+        return successes == null ? Result.failure(failures.result()) : Result.success(Collections.unmodifiableList(successes));
+    }
+}
@@ -0,0 +1,154 @@
+package at.base10.result.interop;
+
+import at.base10.result.Result;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * The loops behind {@link ResultArrays}. Each element type has its own plain index loop writing into an array of
+ * exactly the input's length, so nothing is boxed beyond what the mapping itself returns and the JIT sees a simple
+ * counted loop. The primitive loops taking a predicate, an operator and a rejection box nothing at all.
+ */
+final class ArrayTraversal {
+    private ArrayTraversal() {
+    }
+
+    static <V, S, F> Result<S[], List<F>> applicative(V[] values, Function<V, Result<S, F>> mapping, IntFunction<S[]> generator) {
+        S[] successes = generator.apply(values.length);
+        List<F> failures = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            Result<S, F> result = mapping.apply(values[i]);
+            if (result.isSuccess()) {
+                successes[i] = result.value();
+            } else {
+                failures.add(result.failure());
+            }
+        }
+        return outcome(successes, failures);
+    }
+
+    static <V, S, F> Result<S[], F> monadic(V[] values, Function<V, Result<S, F>> mapping, IntFunction<S[]> generator) {
+        S[] successes = generator.apply(values.length);
+        for (int i = 0; i < values.length; i++) {
+            Result<S, F> result = mapping.apply(values[i]);
+            if (result.isFailure()) {
+                return Result.failure(result.failure());
+            }
+            successes[i] = result.value();
+        }
+        return Result.success(successes);
+    }
+
+    static <F> Result<int[], List<F>> intsApplicative(int[] values, IntFunction<Result<Integer, F>> mapping) {
+        int[] successes = new int[values.length];
+        List<F> failures = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            Result<Integer, F> result = mapping.apply(values[i]);
+            if (result.isSuccess()) {
+                successes[i] = result.value();
+            } else {
+                failures.add(result.failure());
+            }
+        }
+        return outcome(successes, failures);
+    }
+
+    static <F> Result<int[], F> intsMonadic(int[] values, IntFunction<Result<Integer, F>> mapping) {
+        int[] successes = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            Result<Integer, F> result = mapping.apply(values[i]);
+            if (result.isFailure()) {
+                return Result.failure(result.failure());
+            }
+            successes[i] = result.value();
+        }
+        return Result.success(successes);
+    }
+
+    static <F> Result<int[], List<F>> intsApplicative(int[] values, IntPredicate accepts, IntUnaryOperator mapping, IntFunction<F> rejection) {
+        int[] successes = new int[values.length];
+        List<F> failures = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            if (accepts.test(values[i])) {
+                successes[i] = mapping.applyAsInt(values[i]);
+            } else {
+                failures.add(rejection.apply(values[i]));
+            }
+        }
+        return outcome(successes, failures);
+    }
+
+    static <F> Result<int[], F> intsMonadic(int[] values, IntPredicate accepts, IntUnaryOperator mapping, IntFunction<F> rejection) {
+        int[] successes = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (!accepts.test(values[i])) {
+                return Result.failure(rejection.apply(values[i]));
+            }
+            successes[i] = mapping.applyAsInt(values[i]);
+        }
+        return Result.success(successes);
+    }
+
+    static <F> Result<long[], List<F>> longsApplicative(long[] values, LongFunction<Result<Long, F>> mapping) {
+        long[] successes = new long[values.length];
+        List<F> failures = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            Result<Long, F> result = mapping.apply(values[i]);
+            if (result.isSuccess()) {
+                successes[i] = result.value();
+            } else {
+                failures.add(result.failure());
+            }
+        }
+        return outcome(successes, failures);
+    }
+
+    static <F> Result<long[], F> longsMonadic(long[] values, LongFunction<Result<Long, F>> mapping) {
+        long[] successes = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            Result<Long, F> result = mapping.apply(values[i]);
+            if (result.isFailure()) {
+                return Result.failure(result.failure());
+            }
+            successes[i] = result.value();
+        }
+        return Result.success(successes);
+    }
+
+    static <F> Result<long[], List<F>> longsApplicative(long[] values, LongPredicate accepts, LongUnaryOperator mapping, LongFunction<F> rejection) {
+        long[] successes = new long[values.length];
+        List<F> failures = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            if (accepts.test(values[i])) {
+                successes[i] = mapping.applyAsLong(values[i]);
+            } else {
+                failures.add(rejection.apply(values[i]));
+            }
+        }
+        return outcome(successes, failures);
+    }
+
+    static <F> Result<long[], F> longsMonadic(long[] values, LongPredicate accepts, LongUnaryOperator mapping, LongFunction<F> rejection) {
+        long[] successes = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (!accepts.test(values[i])) {
+                return Result.failure(rejection.apply(values[i]));
+            }
+            successes[i] = mapping.applyAsLong(values[i]);
+        }
+        return Result.success(successes);
+    }
+
+    private static <A, F> Result<A, List<F>> outcome(A successes, List<F> failures) {
+        return failures.isEmpty() ? Result.success(successes) : Result.failure(Collections.unmodifiableList(failures));
+    }
+}
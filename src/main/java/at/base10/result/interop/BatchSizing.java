@@ -0,0 +1,80 @@
+package at.base10.result.interop;
+
+import lombok.NonNull;
+
+import java.time.Duration;
+
+/**
+ * Decides how many elements a batched traversal hands to its mapping at once.
+ *
+ * <p>Every traversal {@link #start() starts} a fresh {@link Sizer}, asks it for the size of each batch and reports
+ * how long the mapping took for it. {@link #fixed(int)} always uses the same size; {@link #adaptive(int, int, Duration)}
+ * grows the batches while the mapping answers within a target latency and shrinks them in proportion when it does not.
+ *
+ * <p><b>Usage Example:</b></p>
+ *
+ * <blockquote><pre>{@code
+ * Result<List<Customer>, String> customers = ResultList.traverseBatchedMonadic(
+ *     BatchSizing.adaptive(50, 1000, Duration.ofMillis(20)), repository::findAll
+ * ).apply(ids);
+ * }</pre></blockquote>
+ *
+ * @see ResultList#traverseBatchedApplicative(BatchSizing, java.util.function.Function)
+ * @see ResultStream#traverseBatchedApplicative(BatchSizing, java.util.function.Function)
+ */
+public sealed interface BatchSizing permits BatchSizings.Fixed, BatchSizings.Adaptive {
+
+    /**
+     * Starts sizing the batches of one traversal.
+     *
+     * @return a new sizer
+     */
+    Sizer start();
+
+    /**
+     * The mutable state sizing the batches of a single traversal.
+     */
+    interface Sizer {
+
+        /**
+         * Returns the size of the next batch. The last batch of a traversal may be smaller.
+         *
+         * @return the number of elements of the next batch, at least one
+         */
+        int size();
+
+        /**
+         * Reports how long the mapping took for the last batch.
+         *
+         * @param nanos the latency of the last batch in nanoseconds
+         */
+        void completed(long nanos);
+    }
+
+    /**
+     * Uses batches of {@code size} elements.
+     *
+     * @param size the number of elements of a batch
+     * @return a fixed sizing
+     * @throws IllegalArgumentException if {@code size} is not positive
+     */
+    static BatchSizing fixed(int size) {
+        FailureAccumulations.requirePositive("batchSize", size);
+        return new BatchSizings.Fixed(size);
+    }
+
+    /**
+     * Starts with batches of {@code minSize} elements, doubles the size after every batch the mapping answered within
+     * {@code targetLatency} and scales it down by {@code targetLatency / latency} after every slower one, always
+     * staying between {@code minSize} and {@code maxSize}.
+     *
+     * @param minSize       the size of the first batch and the smallest size
+     * @param maxSize       the largest size
+     * @param targetLatency the latency a batch should not exceed
+     * @return an adaptive sizing
+     * @throws IllegalArgumentException unless {@code 1 <= minSize <= maxSize} and {@code targetLatency} is positive
+     */
+    static BatchSizing adaptive(int minSize, int maxSize, @NonNull Duration targetLatency) {
+        return new BatchSizings.Adaptive(minSize, maxSize, targetLatency.toNanos());
+    }
+}
@@ -0,0 +1,75 @@
+package at.base10.result.interop;
+
+/**
+ * The strategies created by {@link BatchSizing}.
+ */
+final class BatchSizings {
+    private BatchSizings() {
+    }
+
+    /**
+     * Always the same size; being stateless, it is its own sizer.
+     */
+    record Fixed(int size) implements BatchSizing, BatchSizing.Sizer {
+        @Override
+        public BatchSizing.Sizer start() {
+            return this;
+        }
+
+        @Override
+        public void completed(long nanos) {
+            // the size does not depend on the latency
+        }
+    }
+
+    /**
+     * Doubles the size while batches are fast enough and scales it down in proportion to a slow batch's latency.
+     */
+    record Adaptive(int minSize, int maxSize, long targetNanos) implements BatchSizing {
+        Adaptive {
+            if (minSize < 1 || maxSize < minSize) {
+                throw new IllegalArgumentException("sizes must satisfy 1 <= " + minSize + " <= " + maxSize);
+            }
+            requirePositive(targetNanos);
+        }
+
+        private static void requirePositive(long targetNanos) {
+            if (targetNanos < 1) {
+                throw new IllegalArgumentException("targetLatency must be positive but was " + targetNanos + "ns");
+            }
+        }
+
+        @Override
+        public BatchSizing.Sizer start() {
+            return new Adaptation(this);
+        }
+    }
+
+    private static final class Adaptation implements BatchSizing.Sizer {
+        private final Adaptive settings;
+        private int size;
+
+        private Adaptation(Adaptive settings) {
+            this.settings = settings;
+            this.size = settings.minSize();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void completed(long nanos) {
+            size = nanos <= settings.targetNanos() ? grown() : shrunk(nanos);
+        }
+
+        private int grown() {
+            return (int) Math.min(settings.maxSize(), 2L * size);
+        }
+
+        private int shrunk(long nanos) {
+            return (int) Math.max(settings.minSize(), (long) (size * ((double) settings.targetNanos() / nanos)));
+        }
+    }
+}
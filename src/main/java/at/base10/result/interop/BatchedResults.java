@@ -0,0 +1,83 @@
+package at.base10.result.interop;
+
+import at.base10.result.Result;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * The results of a batched traversal, produced lazily: the next batch of values is taken from the input and mapped
+ * only once the results of the previous batch have been consumed, so a traversal that stops early maps no further
+ * batches. Results come out in input order.
+ *
+ * @param <V> the type of the values mapped
+ * @param <S> the success type of the results
+ * @param <F> the failure type of the results
+ */
+final class BatchedResults<V, S, F> implements Iterator<Result<S, F>> {
+    private final Iterator<V> values;
+    private final BatchSizing.Sizer sizer;
+    private final Function<List<V>, List<Result<S, F>>> mapping;
+    private final LongSupplier clock;
+    private Iterator<Result<S, F>> batch = Collections.emptyIterator();
+
+    BatchedResults(Iterator<V> values, BatchSizing sizing, Function<List<V>, List<Result<S, F>>> mapping, LongSupplier clock) {
+        this.values = values;
+        this.sizer = sizing.start();
+        this.mapping = mapping;
+        this.clock = clock;
+    }
+
+    static <V, S, F> Iterator<Result<S, F>> of(Iterator<V> values, BatchSizing sizing, Function<List<V>, List<Result<S, F>>> mapping) {
+        return new BatchedResults<>(values, sizing, mapping, System::nanoTime);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return batch.hasNext() || more();
+    }
+
+    private boolean more() {
+        boolean more = values.hasNext();
+        if (more) {
+            map(take());
+        }
+        return more;
+    }
+
+    @Override
+    public Result<S, F> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more results");
+        }
+        return batch.next();
+    }
+
+    private List<V> take() {
+        int size = sizer.size();
+        List<V> taken = new ArrayList<>(size);
+        while (taken.size() < size && values.hasNext()) {
+            taken.add(values.next());
+        }
+        return taken;
+    }
+
+    private void map(List<V> taken) {
+        long start = clock.getAsLong();
+        List<Result<S, F>> results = mapping.apply(taken);
+        sizer.completed(clock.getAsLong() - start);
+        batch = checked(results, taken.size()).iterator();
+    }
+
+    private static <T> List<T> checked(List<T> results, int size) {
+        if (results.size() != size) {
+            throw new IllegalStateException("mapping returned " + results.size() + " results for " + size + " values");
+        }
+        return results;
+    }
+}
@@ -0,0 +1,262 @@
+package at.base10.result.interop;
+
+import lombok.NonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Describes how an applicative traversal combines the failures it meets, in the spirit of a
+ * {@link java.util.stream.Collector} for failures.
+ *
+ * <p>Every traversal {@link #start() starts} a fresh {@link Accumulator} and passes it each failure in input order.
+ * An accumulator may stop the traversal early by declining further failures; no more input is consumed then.
+ * Successes are kept only until the first failure, so a traversal of a large, mostly failing input needs no more
+ * memory than its accumulator.
+ *
+ * <p>{@link #all()} keeps every failure and is what {@link ResultStream#traverseApplicative(Function)} and
+ * {@link ResultList#traverseApplicative(Function)} use. The other strategies bound the memory a traversal needs:
+ *
+ * <ul>
+ *     <li>{@link #first(int)} keeps the first failures and stops once the error budget is spent,</li>
+ *     <li>{@link #counting()} keeps only the number of failures,</li>
+ *     <li>{@link #distinct()} keeps each distinct failure once, with the number of its occurrences,</li>
+ *     <li>{@link #sample(int)} keeps a uniform random sample of the failures (reservoir sampling),</li>
+ *     <li>{@link #combining(BinaryOperator)} folds the failures into one with an associative operator,</li>
+ *     <li>{@link #spilling(int, FailureCodec)} keeps every failure but holds only the first ones in memory and
+ *     spills the rest to a temporary file.</li>
+ * </ul>
+ *
+ * <p><b>Usage Example:</b></p>
+ *
+ * <blockquote><pre>{@code
+ * Result<List<Order>, Map<String, Long>> orders = ResultList.traverseApplicative(
+ *     Order::parse, FailureAccumulation.<String>distinct()
+ * ).apply(rows);
+ *
+ * // Expected Output for a file with the same bad column in every row: Failure({"missing price": 1000000})
+ * }</pre></blockquote>
+ *
+ * @param <F> the type of the failures accumulated
+ * @param <A> the type of the accumulated failure of a traversal
+ * @see ResultStream
+ * @see ResultList
+ */
+public interface FailureAccumulation<F, A> {
+
+    /**
+     * Starts accumulating the failures of one traversal.
+     *
+     * @return a new, empty accumulator
+     */
+    Accumulator<F, A> start();
+
+    /**
+     * The mutable state accumulating the failures of a single traversal.
+     *
+     * @param <F> the type of the failures accumulated
+     * @param <A> the type of the accumulated failure
+     */
+    interface Accumulator<F, A> {
+
+        /**
+         * Adds the next failure.
+         *
+         * @param failure the failure to add
+         * @return {@code true} if the traversal should go on, {@code false} if no more failures are wanted
+         */
+        boolean add(F failure);
+
+        /**
+         * Returns the accumulated failure. Only called after at least one failure was added.
+         *
+         * @return the accumulated failure
+         */
+        A result();
+
+        /**
+         * Releases what the accumulator holds outside the heap. Called instead of {@link #result()} when the
+         * traversal fails with an exception; does nothing by default.
+         */
+        default void abandon() {
+        }
+    }
+
+    /**
+     * Returns a strategy accumulating like this one and transforming the accumulated failure with {@code finisher},
+     * like {@link java.util.stream.Collectors#collectingAndThen}.
+     *
+     * @param <B>      the type of the transformed failure
+     * @param finisher transforms the accumulated failure
+     * @return a new strategy
+     */
+    default <B> FailureAccumulation<F, B> andThen(@NonNull Function<? super A, ? extends B> finisher) {
+        return new FailureAccumulations.Finished<>(this, finisher);
+    }
+
+    /**
+     * Creates a strategy from a mutable state that is the accumulated failure itself.
+     *
+     * @param <F>         the type of the failures accumulated
+     * @param <T>         the type of the mutable state
+     * @param state       creates the state of a traversal
+     * @param accumulator adds a failure to the state and tells whether the traversal should go on
+     * @return a new strategy
+     */
+    static <F, T> FailureAccumulation<F, T> of(@NonNull Supplier<T> state, @NonNull BiPredicate<T, F> accumulator) {
+        return new FailureAccumulations.Stateful<>(state, accumulator);
+    }
+
+    /**
+     * Creates a strategy from a mutable state, like {@link java.util.stream.Collector#of}.
+     *
+     * @param <F>         the type of the failures accumulated
+     * @param <T>         the type of the mutable state
+     * @param <A>         the type of the accumulated failure
+     * @param state       creates the state of a traversal
+     * @param accumulator adds a failure to the state and tells whether the traversal should go on
+     * @param finisher    turns the state into the accumulated failure
+     * @return a new strategy
+     */
+    static <F, T, A> FailureAccumulation<F, A> of(Supplier<T> state, BiPredicate<T, F> accumulator, Function<T, A> finisher) {
+        return FailureAccumulation.<F, T>of(state, accumulator).andThen(finisher);
+    }
+
+    /**
+     * Keeps every failure, in input order. This is the strategy of the traversals without one.
+     *
+     * @param <F> the type of the failures accumulated
+     * @return a strategy collecting all failures into an unmodifiable list
+     */
+    static <F> FailureAccumulation<F, List<F>> all() {
+        return of(ArrayList<F>::new, List::add, Collections::unmodifiableList);
+    }
+
+    /**
+     * Keeps the first {@code limit} failures and stops the traversal once it met that many.
+     *
+     * @param <F>   the type of the failures accumulated
+     * @param limit the error budget, the number of failures after which the traversal stops
+     * @return a strategy collecting the first failures into an unmodifiable list
+     * @throws IllegalArgumentException if {@code limit} is not positive
+     */
+    static <F> FailureAccumulation<F, List<F>> first(int limit) {
+        FailureAccumulations.requirePositive("limit", limit);
+        return of(ArrayList<F>::new, (failures, failure) -> {
+            failures.add(failure);
+            return failures.size() < limit;
+        }, Collections::unmodifiableList);
+    }
+
+    /**
+     * Keeps only the number of failures.
+     *
+     * @param <F> the type of the failures accumulated
+     * @return a strategy counting the failures
+     */
+    static <F> FailureAccumulation<F, Long> counting() {
+        return of(() -> new long[1], (count, failure) -> {
+            count[0]++;
+            return true;
+        }, count -> count[0]);
+    }
+
+    /**
+     * Keeps each distinct failure once, with the number of times it occurred, in order of first occurrence.
+     *
+     * @param <F> the type of the failures accumulated
+     * @return a strategy counting the occurrences of each distinct failure into an unmodifiable map
+     */
+    static <F> FailureAccumulation<F, Map<F, Long>> distinct() {
+        return of(LinkedHashMap<F, Long>::new, (counts, failure) -> {
+            counts.merge(failure, 1L, Long::sum);
+            return true;
+        }, Collections::unmodifiableMap);
+    }
+
+    /**
+     * Keeps a uniform random sample of at most {@code size} failures, using the random generator of the thread
+     * running the traversal.
+     *
+     * @param <F>  the type of the failures accumulated
+     * @param size the maximal number of failures kept
+     * @return a strategy sampling the failures into an unmodifiable list
+     * @throws IllegalArgumentException if {@code size} is not positive
+     */
+    static <F> FailureAccumulation<F, List<F>> sample(int size) {
+        FailureAccumulations.requirePositive("size", size);
+        return of(() -> new FailureAccumulations.Reservoir<F>(size, ThreadLocalRandom.current()),
+                FailureAccumulations.Reservoir::add, FailureAccumulations.Reservoir::sample);
+    }
+
+    /**
+     * Keeps a uniform random sample of at most {@code size} failures, drawing from {@code random}. Every failure
+     * has the same chance of being kept; the sample is in no particular order.
+     *
+     * @param <F>    the type of the failures accumulated
+     * @param size   the maximal number of failures kept
+     * @param random the random generator, shared by all traversals using the strategy
+     * @return a strategy sampling the failures into an unmodifiable list
+     * @throws IllegalArgumentException if {@code size} is not positive
+     */
+    static <F> FailureAccumulation<F, List<F>> sample(int size, @NonNull RandomGenerator random) {
+        FailureAccumulations.requirePositive("size", size);
+        return of(() -> new FailureAccumulations.Reservoir<F>(size, random),
+                FailureAccumulations.Reservoir::add, FailureAccumulations.Reservoir::sample);
+    }
+
+    /**
+     * Folds the failures into one with {@code operator}, which must be associative.
+     *
+     * @param <F>      the type of the failures accumulated
+     * @param operator combines two failures into one
+     * @return a strategy combining the failures
+     */
+    static <F> FailureAccumulation<F, F> combining(@NonNull BinaryOperator<F> operator) {
+        return of(() -> new FailureAccumulations.Combined<>(operator),
+                FailureAccumulations.Combined::add, FailureAccumulations.Combined::result);
+    }
+
+    /**
+     * Keeps every failure, in input order, holding the first {@code threshold} in memory and writing the rest with
+     * {@code codec} to a temporary file in the default temporary-file directory.
+     *
+     * @param <F>       the type of the failures accumulated
+     * @param threshold the number of failures held in memory
+     * @param codec     writes the spilled failures to the file and reads them back
+     * @return a strategy collecting all failures into {@link SpilledFailures}, which must be closed to delete the file
+     * @throws IllegalArgumentException if {@code threshold} is not positive
+     * @see #spilling(int, FailureCodec, Path)
+     */
+    static <F> FailureAccumulation<F, SpilledFailures<F>> spilling(int threshold, FailureCodec<F> codec) {
+        return spilling(threshold, codec, Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * Keeps every failure, in input order, holding the first {@code threshold} in memory and writing the rest with
+     * {@code codec} to a temporary file in {@code directory}. The file is created on the first spill, so a traversal
+     * with few failures never touches the disk. Failing to write the file fails the traversal with an
+     * {@link java.io.UncheckedIOException}.
+     *
+     * @param <F>       the type of the failures accumulated
+     * @param threshold the number of failures held in memory
+     * @param codec     writes the spilled failures to the file and reads them back
+     * @param directory the directory of the temporary file
+     * @return a strategy collecting all failures into {@link SpilledFailures}, which must be closed to delete the file
+     * @throws IllegalArgumentException if {@code threshold} is not positive
+     */
+    static <F> FailureAccumulation<F, SpilledFailures<F>> spilling(int threshold, @NonNull FailureCodec<F> codec, @NonNull Path directory) {
+        FailureAccumulations.requirePositive("threshold", threshold);
+        return () -> new Spilling<>(threshold, codec, directory, Spilling.FileStorage.INSTANCE);
+    }
+}
@@ -0,0 +1,128 @@
+package at.base10.result.interop;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * The building blocks of the strategies created by {@link FailureAccumulation}.
+ */
+sealed interface FailureAccumulations permits None {
+
+    static void requirePositive(String name, int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + " must be positive but was " + value);
+        }
+    }
+
+    /**
+     * A strategy described by a mutable state and the function updating it; the state is the accumulated failure.
+     */
+    record Stateful<F, T>(Supplier<T> state, BiPredicate<T, F> accumulator) implements FailureAccumulation<F, T> {
+        @Override
+        public FailureAccumulation.Accumulator<F, T> start() {
+            T current = state.get();
+            return new FailureAccumulation.Accumulator<>() {
+                @Override
+                public boolean add(F failure) {
+                    return accumulator.test(current, failure);
+                }
+
+                @Override
+                public T result() {
+                    return current;
+                }
+            };
+        }
+    }
+
+    /**
+     * A strategy whose accumulated failure is transformed by a finisher.
+     */
+    record Finished<F, A, B>(FailureAccumulation<F, A> accumulation, Function<? super A, ? extends B> finisher) implements FailureAccumulation<F, B> {
+        @Override
+        public FailureAccumulation.Accumulator<F, B> start() {
+            FailureAccumulation.Accumulator<F, A> started = accumulation.start();
+            return new FailureAccumulation.Accumulator<>() {
+                @Override
+                public boolean add(F failure) {
+                    return started.add(failure);
+                }
+
+                @Override
+                public B result() {
+                    return finisher.apply(started.result());
+                }
+
+                @Override
+                public void abandon() {
+                    started.abandon();
+                }
+            };
+        }
+    }
+
+    /**
+     * Keeps a uniform random sample of the failures it sees (Algorithm R): the n-th failure replaces a random
+     * element of a full sample with probability {@code size / n}.
+     */
+    static final class Reservoir<F> {
+        private final int size;
+        private final RandomGenerator random;
+        private final List<F> sample = new ArrayList<>();
+        private long seen;
+
+        Reservoir(int size, RandomGenerator random) {
+            this.size = size;
+            this.random = random;
+        }
+
+        boolean add(F failure) {
+            seen++;
+            if (sample.size() < size) {
+                sample.add(failure);
+            } else {
+                replace(random.nextLong(seen), failure);
+            }
+            return true;
+        }
+
+        private void replace(long index, F failure) {
+            if (index < size) {
+                sample.set((int) index, failure);
+            }
+        }
+
+        List<F> sample() {
+            return Collections.unmodifiableList(sample);
+        }
+    }
+
+    /**
+     * Folds the failures into one.
+     */
+    static final class Combined<F> {
+        private final BinaryOperator<F> operator;
+        private F result;
+        private boolean empty = true;
+
+        Combined(BinaryOperator<F> operator) {
+            this.operator = operator;
+        }
+
+        boolean add(F failure) {
+            result = empty ? failure : operator.apply(result, failure);
+            empty = false;
+            return true;
+        }
+
+        F result() {
+            return result;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package at.base10.result.interop;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Writes failures to and reads them back from the file {@link FailureAccumulation#spilling(int, FailureCodec, Path)}
+ * spills them to. A codec must read back exactly what it wrote, one failure at a time.
+ *
+ * @param <F> the type of the failures
+ */
+public interface FailureCodec<F> {
+
+    /**
+     * Writes one failure.
+     *
+     * @param failure the failure to write
+     * @param out     the output of the spill file
+     * @throws IOException if writing fails
+     */
+    void write(F failure, DataOutput out) throws IOException;
+
+    /**
+     * Reads the failure written next.
+     *
+     * @param in the input of the spill file
+     * @return the failure read
+     * @throws IOException if reading fails
+     */
+    F read(DataInput in) throws IOException;
+
+    /**
+     * A codec for strings of any length, stored as UTF-8.
+     *
+     * @return the string codec
+     */
+    static FailureCodec<String> utf8() {
+        return Spilling.Utf8.INSTANCE;
+    }
+}
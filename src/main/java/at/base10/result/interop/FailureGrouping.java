@@ -0,0 +1,138 @@
+package at.base10.result.interop;
+
+import at.base10.result.Result;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * The collectors behind {@link ResultCollectors#countingFailures} and {@link ResultCollectors#groupingFailures}.
+ * Counts are kept in mutable primitive cells - {@code long[1]} sequentially, {@link LongAdder} concurrently - and
+ * boxed only once per group when the collection finishes.
+ */
+final class FailureGrouping {
+    private FailureGrouping() {
+    }
+
+    static <S, F, K> Collector<Result<S, F>, Counts<K>, ResultCollectors.FailureGroups<K, Long>> counting(Function<? super F, ? extends K> classifier) {
+        return Collector.of(Counts::new, (counts, result) -> result.peekEither(value -> counts.successes++,
+                failure -> counts.failures.computeIfAbsent(key(classifier, failure), k -> new long[1])[0]++), Counts::merge, Counts::finish);
+    }
+
+    static <S, F, K, A, D> Collector<Result<S, F>, Groups<K, A>, ResultCollectors.FailureGroups<K, D>> grouping(Function<? super F, ? extends K> classifier, Collector<? super F, A, D> downstream) {
+        Supplier<A> container = downstream.supplier();
+        BiConsumer<A, ? super F> accumulator = downstream.accumulator();
+        BinaryOperator<A> combiner = downstream.combiner();
+        Function<A, D> finisher = downstream.finisher();
+        return Collector.of(Groups<K, A>::new, (groups, result) -> result.peekEither(value -> groups.successes++,
+                        failure -> accumulator.accept(groups.groups.computeIfAbsent(key(classifier, failure), k -> container.get()), failure)),
+                (left, right) -> left.merge(right, combiner), groups -> groups.finish(finisher));
+    }
+
+    static <S, F, K> Collector<Result<S, F>, ConcurrentCounts<K>, ResultCollectors.FailureGroups<K, Long>> countingConcurrent(Function<? super F, ? extends K> classifier) {
+        return Collector.of(ConcurrentCounts::new, (counts, result) -> result.peekEither(value -> counts.successes.increment(),
+                        failure -> counts.failures.computeIfAbsent(key(classifier, failure), k -> new LongAdder()).increment()),
+                ConcurrentCounts::merge, ConcurrentCounts::finish, Collector.Characteristics.CONCURRENT, Collector.Characteristics.UNORDERED);
+    }
+
+    static <S, F, K, A, D> Collector<Result<S, F>, ConcurrentGroups<K, A>, ResultCollectors.FailureGroups<K, D>> groupingConcurrent(Function<? super F, ? extends K> classifier, Collector<? super F, A, D> downstream) {
+        Supplier<A> container = downstream.supplier();
+        BiConsumer<A, ? super F> accumulator = downstream.accumulator();
+        BinaryOperator<A> combiner = downstream.combiner();
+        Function<A, D> finisher = downstream.finisher();
+        return Collector.of(ConcurrentGroups<K, A>::new, (groups, result) -> result.peekEither(value -> groups.successes.increment(),
+                        failure -> accumulate(groups.groups.computeIfAbsent(key(classifier, failure), k -> container.get()), failure, accumulator)),
+                (left, right) -> left.merge(right, combiner), groups -> groups.finish(finisher),
+                Collector.Characteristics.CONCURRENT, Collector.Characteristics.UNORDERED);
+    }
+
+    private static <F, K> K key(Function<? super F, ? extends K> classifier, F failure) {
+        return Objects.requireNonNull(classifier.apply(failure), "element cannot be mapped to a null key");
+    }
+
+    // the downstream containers are not thread-safe, so threads adding to the same group take turns
+    private static <A, F> void accumulate(A container, F failure, BiConsumer<A, ? super F> accumulator) {
+        synchronized (container) {
+            accumulator.accept(container, failure);
+        }
+    }
+
+    static final class Counts<K> {
+        private final Map<K, long[]> failures = new LinkedHashMap<>();
+        private long successes;
+
+        private Counts<K> merge(Counts<K> other) {
+            successes += other.successes;
+            other.failures.forEach((key, count) -> failures.computeIfAbsent(key, k -> new long[1])[0] += count[0]);
+            return this;
+        }
+
+        private ResultCollectors.FailureGroups<K, Long> finish() {
+            Map<K, Long> counts = new LinkedHashMap<>();
+            failures.forEach((key, count) -> counts.put(key, count[0]));
+            return new ResultCollectors.FailureGroups<>(successes, Collections.unmodifiableMap(counts));
+        }
+    }
+
+    static final class Groups<K, A> {
+        private final Map<K, A> groups = new LinkedHashMap<>();
+        private long successes;
+
+        private Groups<K, A> merge(Groups<K, A> other, BinaryOperator<A> combiner) {
+            successes += other.successes;
+            other.groups.forEach((key, container) -> groups.merge(key, container, combiner));
+            return this;
+        }
+
+        private <D> ResultCollectors.FailureGroups<K, D> finish(Function<A, D> finisher) {
+            Map<K, D> finished = new LinkedHashMap<>();
+            groups.forEach((key, container) -> finished.put(key, finisher.apply(container)));
+            return new ResultCollectors.FailureGroups<>(successes, Collections.unmodifiableMap(finished));
+        }
+    }
+
+    static final class ConcurrentCounts<K> {
+        private final ConcurrentMap<K, LongAdder> failures = new ConcurrentHashMap<>();
+        private final LongAdder successes = new LongAdder();
+
+        private ConcurrentCounts<K> merge(ConcurrentCounts<K> other) {
+            successes.add(other.successes.sum());
+            other.failures.forEach((key, count) -> failures.computeIfAbsent(key, k -> new LongAdder()).add(count.sum()));
+            return this;
+        }
+
+        private ResultCollectors.FailureGroups<K, Long> finish() {
+            Map<K, Long> counts = new HashMap<>();
+            failures.forEach((key, count) -> counts.put(key, count.sum()));
+            return new ResultCollectors.FailureGroups<>(successes.sum(), Collections.unmodifiableMap(counts));
+        }
+    }
+
+    static final class ConcurrentGroups<K, A> {
+        private final ConcurrentMap<K, A> groups = new ConcurrentHashMap<>();
+        private final LongAdder successes = new LongAdder();
+
+        private ConcurrentGroups<K, A> merge(ConcurrentGroups<K, A> other, BinaryOperator<A> combiner) {
+            successes.add(other.successes.sum());
+            other.groups.forEach((key, container) -> groups.merge(key, container, combiner));
+            return this;
+        }
+
+        private <D> ResultCollectors.FailureGroups<K, D> finish(Function<A, D> finisher) {
+            Map<K, D> finished = new HashMap<>();
+            groups.forEach((key, container) -> finished.put(key, finisher.apply(container)));
+            return new ResultCollectors.FailureGroups<>(successes.sum(), Collections.unmodifiableMap(finished));
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package at.base10.result.interop;
 
-final class None implements ResultList, ResultOptional, ResultStream {
+final class None implements FailureAccumulations, ResultArrays, ResultCollectors, ResultList, ResultOptional, ResultStream {
     None() {
     }
 }
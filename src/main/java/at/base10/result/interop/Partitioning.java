@@ -0,0 +1,65 @@
+package at.base10.result.interop;
+
+import at.base10.result.Result;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The collector behind {@link ResultCollectors#partitioning}: one container per downstream collector, filled in a
+ * single pass and merged pairwise for parallel streams.
+ */
+final class Partitioning {
+    // the most room reserved up front in each list, as the split between successes and failures is not known yet
+    static final int MAX_PRESIZE = 1 << 16;
+
+    private Partitioning() {
+    }
+
+    static <S, F, X, A, Y, B> Collector<Result<S, F>, Containers<X, Y>, ResultCollectors.Partition<A, B>> collector(Collector<? super S, X, A> successes, Collector<? super F, Y, B> failures) {
+        Supplier<X> successContainer = successes.supplier();
+        Supplier<Y> failureContainer = failures.supplier();
+        BiConsumer<X, ? super S> addSuccess = successes.accumulator();
+        BiConsumer<Y, ? super F> addFailure = failures.accumulator();
+        BinaryOperator<X> mergeSuccesses = successes.combiner();
+        BinaryOperator<Y> mergeFailures = failures.combiner();
+        Function<X, A> finishSuccesses = successes.finisher();
+        Function<Y, B> finishFailures = failures.finisher();
+        return Collector.of(
+                () -> new Containers<>(successContainer.get(), failureContainer.get()),
+                (containers, result) -> result.peekEither(value -> addSuccess.accept(containers.successes(), value), failure -> addFailure.accept(containers.failures(), failure)),
+                (left, right) -> new Containers<>(mergeSuccesses.apply(left.successes(), right.successes()), mergeFailures.apply(left.failures(), right.failures())),
+                containers -> new ResultCollectors.Partition<>(finishSuccesses.apply(containers.successes()), finishFailures.apply(containers.failures())));
+    }
+
+    /**
+     * Partitions a stream into lists and closes it, creating both lists with room for the whole stream, up to
+     * {@link #MAX_PRESIZE} elements, when a sequential stream knows its size.
+     */
+    static <S, F> ResultCollectors.Partition<List<S>, List<F>> partition(Stream<Result<S, F>> stream, IntFunction<List<S>> successLists,
+                                                                        IntFunction<List<F>> failureLists) {
+        boolean parallel = stream.isParallel();
+        Spliterator<Result<S, F>> spliterator = stream.spliterator();
+        int capacity = parallel ? 0 : capacity(spliterator.getExactSizeIfKnown());
+        try (Stream<Result<S, F>> results = StreamSupport.stream(spliterator, parallel).onClose(stream::close)) {
+            return results.collect(collector(Collectors.toCollection(() -> successLists.apply(capacity)),
+                    Collectors.toCollection(() -> failureLists.apply(capacity))));
+        }
+    }
+
+    private static int capacity(long size) {
+        return (int) Math.min(Math.max(size, 0), MAX_PRESIZE);
+    }
+
+    record Containers<X, Y>(X successes, Y failures) {
+    }
+}
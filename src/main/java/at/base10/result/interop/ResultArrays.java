@@ -0,0 +1,222 @@
+package at.base10.result.interop;
+
+import at.base10.result.Result;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A utility class providing functional operations on arrays in the context of {@code Result}.
+ *
+ * <p>The {@code ResultArrays} class offers the traversals of {@link ResultList} for arrays: an array is mapped in
+ * place of a list and, on success, an array of exactly the input's length is returned, without first copying the
+ * input into a list. {@code int[]} and {@code long[]} inputs are read without boxing and produce primitive arrays.
+ * A mapping returning {@code Result<Integer, F>} or {@code Result<Long, F>} still boxes every success value; the
+ * overloads taking a predicate, an operator and a rejection function box nothing, calling the operator for the
+ * accepted elements and the rejection function for the others. Object arrays need a generator for the result
+ * array, such as {@code String[]::new}.
+ *
+ * <p>All methods in this class are static, and the constructor is private to prevent instantiation.
+ *
+ * <p><b>Usage Example:</b></p>
+ *
+ * <blockquote><pre>{@code
+ * Result<int[], List<String>> ports = ResultArrays.<String>traverseIntApplicative(
+ *     port -> port > 0 && port < 65536 ? Result.success(port) : Result.failure("invalid port " + port)
+ * ).apply(new int[]{80, 443, 70000});
+ *
+ * // Expected Output: Failure(["invalid port 70000"])
+ *
+ * Result<int[], List<String>> unboxed = ResultArrays.<String>traverseIntApplicative(
+ *     port -> port > 0 && port < 65536, port -> port, port -> "invalid port " + port
+ * ).apply(new int[]{80, 443, 70000});
+ * }</pre></blockquote>
+ *
+ * @see ResultList
+ */
+public sealed interface ResultArrays permits None {
+
+    /**
+     * Applies a mapping function to each element in the array and collects the results into a single {@code Result}.
+     * Uses an applicative approach, meaning all elements are processed independently, and failures are accumulated.
+     *
+     * @param <V>       The type of elements in the input array.
+     * @param <S>       The success type of the result.
+     * @param <F>       The failure type of the result.
+     * @param mapping   The function to apply to each element, producing a {@code Result<S, F>}.
+     * @param generator Creates the success array of the given length.
+     * @return A function that transforms an array of {@code V} into a {@code Result<S[], List<F>>}.
+     */
+    static <V, S, F> Function<V[], Result<S[], List<F>>> traverseApplicative(Function<V, Result<S, F>> mapping, IntFunction<S[]> generator) {
+        return values -> ArrayTraversal.applicative(values, mapping, generator);
+    }
+
+    /**
+     * Applies a mapping function to each element in the array and collects the results into a single {@code Result}.
+     * Uses a monadic approach, meaning failures are short-circuited and the first failure encountered is returned.
+     *
+     * @param <V>       The type of elements in the input array.
+     * @param <S>       The success type of the result.
+     * @param <F>       The failure type of the result.
+     * @param mapping   The function to apply to each element, producing a {@code Result<S, F>}.
+     * @param generator Creates the success array of the given length.
+     * @return A function that transforms an array of {@code V} into a {@code Result<S[], F>}, stopping at the first failure.
+     */
+    static <V, S, F> Function<V[], Result<S[], F>> traverseMonadic(Function<V, Result<S, F>> mapping, IntFunction<S[]> generator) {
+        return values -> ArrayTraversal.monadic(values, mapping, generator);
+    }
+
+    /**
+     * Converts an array of {@code Result} objects into a single {@code Result} containing an array of success values.
+     * Uses an applicative approach, meaning all elements are processed independently, and failures are accumulated.
+     *
+     * @param <S>       The success type of the result.
+     * @param <F>       The failure type of the result.
+     * @param results   The array of {@code Result<S, F>} values.
+     * @param generator Creates the success array of the given length.
+     * @return A {@code Result} containing an array of success values if all succeed, or a list of failures otherwise.
+     */
+    static <S, F> Result<S[], List<F>> sequenceApplicative(Result<S, F>[] results, IntFunction<S[]> generator) {
+        return ArrayTraversal.applicative(results, Function.identity(), generator);
+    }
+
+    /**
+     * Converts an array of {@code Result} objects into a single {@code Result} containing an array of success values.
+     * Uses a monadic approach, meaning failures are short-circuited and the first failure encountered is returned.
+     *
+     * @param <S>       The success type of the result.
+     * @param <F>       The failure type of the result.
+     * @param results   The array of {@code Result<S, F>} values.
+     * @param generator Creates the success array of the given length.
+     * @return A {@code Result} containing an array of success values if all succeed, or the first encountered failure.
+     */
+    static <S, F> Result<S[], F> sequenceMonadic(Result<S, F>[] results, IntFunction<S[]> generator) {
+        return ArrayTraversal.monadic(results, Function.identity(), generator);
+    }
+
+    /**
+     * Applies a mapping function to each element in the {@code int} array and collects the results into a single
+     * {@code Result} holding an {@code int} array. Uses an applicative approach, meaning all elements are processed
+     * independently, and failures are accumulated. A success holding {@code null} has no {@code int} value, so the
+     * returned function throws a {@code NullPointerException} when it meets one.
+     *
+     * @param <F>     The failure type of the result.
+     * @param mapping The function to apply to each element, producing a {@code Result<Integer, F>}.
+     * @return A function that transforms an {@code int} array into a {@code Result<int[], List<F>>}.
+     */
+    static <F> Function<int[], Result<int[], List<F>>> traverseIntApplicative(IntFunction<Result<Integer, F>> mapping) {
+        return values -> ArrayTraversal.intsApplicative(values, mapping);
+    }
+
+    /**
+     * Checks each element in the {@code int} array with {@code accepts}, mapping the accepted ones with
+     * {@code mapping} and the others with {@code rejection}, and collects the outcomes into a single {@code Result}
+     * holding an {@code int} array. Uses an applicative approach, meaning all elements are processed independently,
+     * and failures are accumulated. No value is boxed.
+     *
+     * @param <F>       The failure type of the result.
+     * @param accepts   Tells whether an element is valid.
+     * @param mapping   The function to apply to each valid element.
+     * @param rejection Creates the failure of an invalid element.
+     * @return A function that transforms an {@code int} array into a {@code Result<int[], List<F>>}.
+     */
+    static <F> Function<int[], Result<int[], List<F>>> traverseIntApplicative(IntPredicate accepts, IntUnaryOperator mapping, IntFunction<F> rejection) {
+        return values -> ArrayTraversal.intsApplicative(values, accepts, mapping, rejection);
+    }
+
+    /**
+     * Applies a mapping function to each element in the {@code int} array and collects the results into a single
+     * {@code Result} holding an {@code int} array. Uses a monadic approach, meaning failures are short-circuited and
+     * the first failure encountered is returned. A success holding {@code null} has no {@code int} value, so the
+     * returned function throws a {@code NullPointerException} when it meets one.
+     *
+     * @param <F>     The failure type of the result.
+     * @param mapping The function to apply to each element, producing a {@code Result<Integer, F>}.
+     * @return A function that transforms an {@code int} array into a {@code Result<int[], F>}, stopping at the first failure.
+     */
+    static <F> Function<int[], Result<int[], F>> traverseIntMonadic(IntFunction<Result<Integer, F>> mapping) {
+        return values -> ArrayTraversal.intsMonadic(values, mapping);
+    }
+
+    /**
+     * Checks each element in the {@code int} array with {@code accepts}, mapping the accepted ones with
+     * {@code mapping}, and collects them into a single {@code Result} holding an {@code int} array. Uses a monadic
+     * approach, meaning the first invalid element is turned into a failure by {@code rejection} and returned. No value
+     * is boxed.
+     *
+     * @param <F>       The failure type of the result.
+     * @param accepts   Tells whether an element is valid.
+     * @param mapping   The function to apply to each valid element.
+     * @param rejection Creates the failure of the first invalid element.
+     * @return A function that transforms an {@code int} array into a {@code Result<int[], F>}, stopping at the first failure.
+     */
+    static <F> Function<int[], Result<int[], F>> traverseIntMonadic(IntPredicate accepts, IntUnaryOperator mapping, IntFunction<F> rejection) {
+        return values -> ArrayTraversal.intsMonadic(values, accepts, mapping, rejection);
+    }
+
+    /**
+     * Applies a mapping function to each element in the {@code long} array and collects the results into a single
+     * {@code Result} holding a {@code long} array. Uses an applicative approach, meaning all elements are processed
+     * independently, and failures are accumulated. A success holding {@code null} has no {@code long} value, so the
+     * returned function throws a {@code NullPointerException} when it meets one.
+     *
+     * @param <F>     The failure type of the result.
+     * @param mapping The function to apply to each element, producing a {@code Result<Long, F>}.
+     * @return A function that transforms a {@code long} array into a {@code Result<long[], List<F>>}.
+     */
+    static <F> Function<long[], Result<long[], List<F>>> traverseLongApplicative(LongFunction<Result<Long, F>> mapping) {
+        return values -> ArrayTraversal.longsApplicative(values, mapping);
+    }
+
+    /**
+     * Checks each element in the {@code long} array with {@code accepts}, mapping the accepted ones with
+     * {@code mapping} and the others with {@code rejection}, and collects the outcomes into a single {@code Result}
+     * holding a {@code long} array. Uses an applicative approach, meaning all elements are processed independently,
+     * and failures are accumulated. No value is boxed.
+     *
+     * @param <F>       The failure type of the result.
+     * @param accepts   Tells whether an element is valid.
+     * @param mapping   The function to apply to each valid element.
+     * @param rejection Creates the failure of an invalid element.
+     * @return A function that transforms a {@code long} array into a {@code Result<long[], List<F>>}.
+     */
+    static <F> Function<long[], Result<long[], List<F>>> traverseLongApplicative(LongPredicate accepts, LongUnaryOperator mapping, LongFunction<F> rejection) {
+        return values -> ArrayTraversal.longsApplicative(values, accepts, mapping, rejection);
+    }
+
+    /**
+     * Applies a mapping function to each element in the {@code long} array and collects the results into a single
+     * {@code Result} holding a {@code long} array. Uses a monadic approach, meaning failures are short-circuited and
+     * the first failure encountered is returned. A success holding {@code null} has no {@code long} value, so the
+     * returned function throws a {@code NullPointerException} when it meets one.
+     *
+     * @param <F>     The failure type of the result.
+     * @param mapping The function to apply to each element, producing a {@code Result<Long, F>}.
+     * @return A function that transforms a {@code long} array into a {@code Result<long[], F>}, stopping at the first failure.
+     */
+    static <F> Function<long[], Result<long[], F>> traverseLongMonadic(LongFunction<Result<Long, F>> mapping) {
+        return values -> ArrayTraversal.longsMonadic(values, mapping);
+    }
+
+    /**
+     * Checks each element in the {@code long} array with {@code accepts}, mapping the accepted ones with
+     * {@code mapping}, and collects them into a single {@code Result} holding a {@code long} array. Uses a monadic
+     * approach, meaning the first invalid element is turned into a failure by {@code rejection} and returned. No value
+     * is boxed.
+     *
+     * @param <F>       The failure type of the result.
+     * @param accepts   Tells whether an element is valid.
+     * @param mapping   The function to apply to each valid element.
+     * @param rejection Creates the failure of the first invalid element.
+     * @return A function that transforms a {@code long} array into a {@code Result<long[], F>}, stopping at the first failure.
+     */
+    static <F> Function<long[], Result<long[], F>> traverseLongMonadic(LongPredicate accepts, LongUnaryOperator mapping, LongFunction<F> rejection) {
+        return values -> ArrayTraversal.longsMonadic(values, accepts, mapping, rejection);
+    }
+}
@@ -0,0 +1,203 @@
+package at.base10.result.interop;
+
+import at.base10.result.Result;
+import lombok.NonNull;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * A utility class providing {@link Collector}s for streams of {@code Result} values.
+ *
+ * <p>The collectors take a stream apart in a single pass, keeping the successes and the failures alike, where
+ * {@link ResultStream#sequenceApplicative(java.util.stream.Stream)} drops the successes as soon as one failure
+ * occurs. They support parallel streams: partial results of the substreams are merged by the downstream
+ * collectors' combiners.
+ *
+ * <p>All methods in this class are static, and the constructor is private to prevent instantiation.
+ *
+ * <p><b>Usage Example:</b></p>
+ *
+ * <blockquote><pre>{@code
+ * Partition<List<Order>, List<String>> orders = rows.stream()
+ *     .map(Order::parse)
+ *     .collect(ResultCollectors.partitioning());
+ *
+ * repository.insertAll(orders.successes());
+ * report.rejected(orders.failures());
+ * }</pre></blockquote>
+ *
+ * @see ResultStream#partition(java.util.stream.Stream)
+ */
+public sealed interface ResultCollectors permits None {
+
+    /**
+     * Splits the results into a list of the success values and a list of the failure values, each in encounter order.
+     *
+     * @param <S> the type representing a successful result
+     * @param <F> the type representing a failure result
+     * @return a collector partitioning results into lists
+     */
+    static <S, F> Collector<Result<S, F>, ?, Partition<List<S>, List<F>>> partitioning() {
+        return partitioning(Collectors.toList(), Collectors.toList());
+    }
+
+    /**
+     * Splits the results, passing the success values to {@code successes} and the failure values to {@code failures}.
+     *
+     * @param <S>       the type representing a successful result
+     * @param <F>       the type representing a failure result
+     * @param <A>       the result type of the success collector
+     * @param <B>       the result type of the failure collector
+     * @param successes the collector receiving the success values
+     * @param failures  the collector receiving the failure values
+     * @return a collector partitioning results with the given collectors
+     */
+    static <S, F, A, B> Collector<Result<S, F>, ?, Partition<A, B>> partitioning(@NonNull Collector<? super S, ?, A> successes, @NonNull Collector<? super F, ?, B> failures) {
+        return Partitioning.collector(successes, failures);
+    }
+
+    /**
+     * Counts the failures per group, as determined by {@code classifier}, and the successes in one pass. The counts
+     * are kept in primitive cells rather than boxed per element; the groups are in order of their first failure.
+     *
+     * @param <S>        the type representing a successful result
+     * @param <F>        the type representing a failure result
+     * @param <K>        the type of the group keys
+     * @param classifier maps a failure to its group, never to {@code null}
+     * @return a collector counting the failures per group
+     */
+    static <S, F, K> Collector<Result<S, F>, ?, FailureGroups<K, Long>> countingFailures(@NonNull Function<? super F, ? extends K> classifier) {
+        return FailureGrouping.counting(classifier);
+    }
+
+    /**
+     * Groups the failures by {@code classifier}, collecting each group with {@code downstream}, and counts the
+     * successes in one pass. The groups are in order of their first failure.
+     *
+     * @param <S>        the type representing a successful result
+     * @param <F>        the type representing a failure result
+     * @param <K>        the type of the group keys
+     * @param <D>        the result type of the downstream collector
+     * @param classifier maps a failure to its group, never to {@code null}
+     * @param downstream the collector receiving the failures of a group
+     * @return a collector grouping the failures
+     */
+    static <S, F, K, D> Collector<Result<S, F>, ?, FailureGroups<K, D>> groupingFailures(@NonNull Function<? super F, ? extends K> classifier, @NonNull Collector<? super F, ?, D> downstream) {
+        return FailureGrouping.grouping(classifier, downstream);
+    }
+
+    /**
+     * A {@link Collector.Characteristics#CONCURRENT concurrent} variant of {@link #countingFailures(Function)}: the
+     * threads of a parallel stream count into one shared map of {@link java.util.concurrent.atomic.LongAdder}s
+     * instead of merging a map per thread. The groups are in no particular order.
+     *
+     * @param <S>        the type representing a successful result
+     * @param <F>        the type representing a failure result
+     * @param <K>        the type of the group keys
+     * @param classifier maps a failure to its group, never to {@code null}
+     * @return a concurrent collector counting the failures per group
+     */
+    static <S, F, K> Collector<Result<S, F>, ?, FailureGroups<K, Long>> countingFailuresConcurrent(@NonNull Function<? super F, ? extends K> classifier) {
+        return FailureGrouping.countingConcurrent(classifier);
+    }
+
+    /**
+     * A {@link Collector.Characteristics#CONCURRENT concurrent} variant of
+     * {@link #groupingFailures(Function, Collector)}: the threads of a parallel stream share one map of groups and
+     * take turns adding to the same group. The groups are in no particular order, and neither are the failures
+     * within a group.
+     *
+     * @param <S>        the type representing a successful result
+     * @param <F>        the type representing a failure result
+     * @param <K>        the type of the group keys
+     * @param <D>        the result type of the downstream collector
+     * @param classifier maps a failure to its group, never to {@code null}
+     * @param downstream the collector receiving the failures of a group
+     * @return a concurrent collector grouping the failures
+     */
+    static <S, F, K, D> Collector<Result<S, F>, ?, FailureGroups<K, D>> groupingFailuresConcurrent(@NonNull Function<? super F, ? extends K> classifier, @NonNull Collector<? super F, ?, D> downstream) {
+        return FailureGrouping.groupingConcurrent(classifier, downstream);
+    }
+
+    /**
+     * Computes the count, sum, minimum, maximum and average of the success values mapped by {@code mapper}, and
+     * counts the failures, in one pass. The mapped values are accumulated as primitives, without boxing.
+     *
+     * @param <S>    the type representing a successful result
+     * @param <F>    the type representing a failure result
+     * @param mapper maps a success value to the {@code int} to summarize
+     * @return a collector summarizing the success values
+     */
+    static <S, F> Collector<Result<S, F>, ?, Summary<IntSummaryStatistics>> summarizingInt(@NonNull ToIntFunction<? super S> mapper) {
+        return Summarizing.ints(mapper);
+    }
+
+    /**
+     * Computes the count, sum, minimum, maximum and average of the success values mapped by {@code mapper}, and
+     * counts the failures, in one pass. The mapped values are accumulated as primitives, without boxing.
+     *
+     * @param <S>    the type representing a successful result
+     * @param <F>    the type representing a failure result
+     * @param mapper maps a success value to the {@code long} to summarize
+     * @return a collector summarizing the success values
+     */
+    static <S, F> Collector<Result<S, F>, ?, Summary<LongSummaryStatistics>> summarizingLong(@NonNull ToLongFunction<? super S> mapper) {
+        return Summarizing.longs(mapper);
+    }
+
+    /**
+     * Computes the count, sum, minimum, maximum and average of the success values mapped by {@code mapper}, and
+     * counts the failures, in one pass. The mapped values are accumulated as primitives, without boxing.
+     *
+     * @param <S>    the type representing a successful result
+     * @param <F>    the type representing a failure result
+     * @param mapper maps a success value to the {@code double} to summarize
+     * @return a collector summarizing the success values
+     */
+    static <S, F> Collector<Result<S, F>, ?, Summary<DoubleSummaryStatistics>> summarizingDouble(@NonNull ToDoubleFunction<? super S> mapper) {
+        return Summarizing.doubles(mapper);
+    }
+
+    /**
+     * The successes and the failures of a stream of results, as collected by {@link #partitioning()}.
+     *
+     * @param successes what was collected from the success values
+     * @param failures  what was collected from the failure values
+     * @param <A>       the type of what was collected from the success values
+     * @param <B>       the type of what was collected from the failure values
+     */
+    record Partition<A, B>(A successes, B failures) {
+    }
+
+    /**
+     * The successes counted and the failures grouped by {@link #groupingFailures(Function, Collector)} and its variants.
+     *
+     * @param successes the number of successes
+     * @param failures  what was collected from the failures of each group
+     * @param <K>       the type of the group keys
+     * @param <D>       the type of what was collected from the failures of a group
+     */
+    record FailureGroups<K, D>(long successes, Map<K, D> failures) {
+    }
+
+    /**
+     * The statistics of the success values and the number of failures, as computed by {@link #summarizingInt(ToIntFunction)}
+     * and its siblings.
+     *
+     * @param successes the statistics of the mapped success values
+     * @param failures  the number of failures
+     * @param <T>       the type of the statistics
+     */
+    record Summary<T>(T successes, long failures) {
+    }
+}
@@ -0,0 +1,197 @@
+package at.base10.result.interop;
+
+import at.base10.result.Result;
+import lombok.NonNull;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A lazy, monadic traversal of a source of {@code Result} values: an iterator over the success values that stops at
+ * the first failure.
+ *
+ * <p>Where {@link ResultList#sequenceMonadic(Iterable)} collects every success value before returning, a
+ * {@code ResultIterator} reads one result ahead of its consumer and holds nothing else, so a database cursor or a
+ * file of any size is traversed in constant memory. Once the source is exhausted or a failure is met, the iterator
+ * ends and the resource backing the source is closed; a failure met is reported by {@link #failed()} and returned by
+ * {@link #failure()}. A consumer leaving early closes it with {@link #close()}, best in a try-with-resources
+ * statement. Closing is idempotent; a checked exception thrown by the resource is rethrown wrapped in an
+ * {@link IllegalStateException}.
+ *
+ * <p>A {@code ResultIterator} is not thread-safe.
+ *
+ * <p><b>Usage Example:</b></p>
+ *
+ * <blockquote><pre>{@code
+ * Stream<Result<Order, String>> rows = Files.lines(path).map(Order::parse);
+ * try (ResultIterator<Order, String> orders = ResultIterator.of(rows.iterator(), rows)) {
+ *     orders.forEachRemaining(repository::insert);
+ *     if (orders.failed()) {
+ *         report.rejected(orders.failure());
+ *     }
+ * }
+ * }</pre></blockquote>
+ *
+ * @param <S> the success type of the results
+ * @param <F> the failure type of the results
+ * @see ResultList#sequenceMonadic(Iterable)
+ */
+public final class ResultIterator<S, F> implements Iterator<S>, AutoCloseable {
+    private final Iterator<Result<S, F>> source;
+    private final AutoCloseable resource;
+    // the success read ahead, null if none
+    private Result<S, F> next;
+    // the failure the traversal stopped at, null if none
+    private Result<S, F> failed;
+    private boolean closed;
+
+    private ResultIterator(Iterator<Result<S, F>> source, AutoCloseable resource) {
+        this.source = source;
+        this.resource = resource;
+    }
+
+    /**
+     * Creates a traversal of a source without a resource to close.
+     *
+     * @param <S>    the success type of the results
+     * @param <F>    the failure type of the results
+     * @param source the results
+     * @return a new traversal
+     */
+    public static <S, F> ResultIterator<S, F> of(Iterator<Result<S, F>> source) {
+        return of(source, () -> {
+        });
+    }
+
+    /**
+     * Creates a traversal of the results of an {@code Iterable} without a resource to close.
+     *
+     * @param <S>    the success type of the results
+     * @param <F>    the failure type of the results
+     * @param source the results
+     * @return a new traversal
+     */
+    public static <S, F> ResultIterator<S, F> of(Iterable<Result<S, F>> source) {
+        return of(source.iterator());
+    }
+
+    /**
+     * Creates a traversal of a source backed by {@code resource}, which is closed once the traversal ends or is closed.
+     *
+     * @param <S>      the success type of the results
+     * @param <F>      the failure type of the results
+     * @param source   the results
+     * @param resource the resource backing the source, such as a cursor or a reader
+     * @return a new traversal
+     */
+    public static <S, F> ResultIterator<S, F> of(@NonNull Iterator<Result<S, F>> source, @NonNull AutoCloseable resource) {
+        return new ResultIterator<>(source, resource);
+    }
+
+    /**
+     * Reads the next result from the source unless one was read ahead already.
+     *
+     * @return {@code true} if the next result is a success
+     */
+    @Override
+    public boolean hasNext() {
+        readAhead();
+        return next != null;
+    }
+
+    /**
+     * Returns the next success value.
+     *
+     * @return the next success value
+     * @throws NoSuchElementException if the source is exhausted, a failure was met or the traversal was closed
+     */
+    @Override
+    public S next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        S value = next.value();
+        next = null;
+        return value;
+    }
+
+    /**
+     * Tells whether the traversal stopped at a failure.
+     *
+     * @return {@code true} if a failure was met, even one with a {@code null} value
+     */
+    public boolean failed() {
+        return failed != null;
+    }
+
+    /**
+     * Returns the failure the traversal stopped at.
+     *
+     * @return the failure, which may be {@code null}
+     * @throws NoSuchElementException if no failure was met so far
+     */
+    public F failure() {
+        if (failed == null) {
+            throw new NoSuchElementException("No failure met");
+        }
+        return failed.failure();
+    }
+
+    /**
+     * Returns the remaining success values as a sequential stream, which closes the traversal when it is closed.
+     *
+     * @return a stream of the remaining success values
+     */
+    public Stream<S> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false).onClose(this::close);
+    }
+
+    /**
+     * Ends the traversal and closes the resource, unless it was closed already.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            next = null;
+            release();
+        }
+    }
+
+    private void readAhead() {
+        if (next == null && !closed) {
+            advance();
+        }
+    }
+
+    private void advance() {
+        if (source.hasNext()) {
+            accept(source.next());
+        } else {
+            close();
+        }
+    }
+
+    private void accept(Result<S, F> result) {
+        if (result.isSuccess()) {
+            next = result;
+        } else {
+            failed = result;
+            close();
+        }
+    }
+
+    private void release() {
+        try {
+            resource.close();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
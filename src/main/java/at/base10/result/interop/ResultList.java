@@ -6,10 +6,9 @@ import lombok.val;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
-import java.util.stream.Stream;
 
-import static at.base10.result.Operator.mapEither;
 import static at.base10.result.Result.failure;
 import static at.base10.result.Result.success;
 
@@ -81,7 +80,42 @@ public sealed interface ResultList permits None {
      * @return A function that transforms a list of {@code V} into a {@code Result<List<S>, List<F>>}.
      */
     static <V, S, F> Function<List<V>, Result<List<S>, List<F>>> traverseApplicative(Function<V, Result<S, F>> mapping) {
-        return list -> ResultStream.traverseApplicative(mapping).andThen(mapEitherToList()).apply(list.stream());
+        return traverseApplicative(mapping, FailureAccumulation.all());
+    }
+
+    /**
+     * Applies a mapping function to each element in the list and collects the results into a single {@code Result}.
+     * Uses an applicative approach, combining the failures with {@code accumulation}; elements are mapped only while
+     * {@code accumulation} wants more failures.
+     *
+     * @param <V>          The type of elements in the input list.
+     * @param <S>          The success type of the result.
+     * @param <F>          The failure type of the result.
+     * @param <A>          The type of the accumulated failure.
+     * @param mapping      The function to apply to each element, producing a {@code Result<S, F>}.
+     * @param accumulation The strategy combining the failures.
+     * @return A function that transforms a list of {@code V} into a {@code Result<List<S>, A>}.
+     */
+    static <V, S, F, A> Function<List<V>, Result<List<S>, A>> traverseApplicative(Function<V, Result<S, F>> mapping, FailureAccumulation<F, A> accumulation) {
+        return list -> ApplicativeTraversal.traverse(list.iterator(), mapping, accumulation);
+    }
+
+    /**
+     * Applies an asynchronous mapping function to each element in the list and collects the results into a single {@code Result}.
+     * All computations are started right away; the returned future completes once every one of them has, without blocking
+     * any thread. Failures are accumulated in input order. If a computation completes exceptionally, the returned future
+     * completes exceptionally with the same exception without waiting for the others; a computation completing with
+     * {@code null} counts as a {@link NullPointerException}. If the mapping function throws, the returned future completes
+     * exceptionally with that exception; the computations already started are left untouched, since they belong to the caller.
+     *
+     * @param <V>     The type of elements in the input list.
+     * @param <S>     The success type of the result.
+     * @param <F>     The failure type of the result.
+     * @param mapping The function to apply to each element, producing a future of a {@code Result<S, F>}.
+     * @return A function that transforms a list of {@code V} into a future of a {@code Result<List<S>, List<F>>}.
+     */
+    static <V, S, F> Function<List<V>, CompletableFuture<Result<List<S>, List<F>>>> traverseApplicativeAsync(Function<V, CompletableFuture<Result<S, F>>> mapping) {
+        return list -> new ApplicativeAggregator<S, F>(list.size()).start(list, mapping);
     }
 
     /**
@@ -94,7 +128,22 @@ public sealed interface ResultList permits None {
      * @return A {@code Result} containing a list of success values if all succeed, or a list of failures otherwise.
      */
     static <S, F> Result<List<S>, List<F>> sequenceApplicative(List<Result<S, F>> list) {
-        return ResultStream.sequenceApplicative(list.stream()).then(mapEitherToList());
+        return sequenceApplicative(list, FailureAccumulation.all());
+    }
+
+    /**
+     * Converts a list of {@code Result} objects into a single {@code Result} containing a list of success values.
+     * Uses an applicative approach, combining the failures with {@code accumulation}.
+     *
+     * @param <S>          The success type of the result.
+     * @param <F>          The failure type of the result.
+     * @param <A>          The type of the accumulated failure.
+     * @param list         The list of {@code Result<S, F>} values.
+     * @param accumulation The strategy combining the failures.
+     * @return A {@code Result} containing a list of success values if all succeed, or the accumulated failures otherwise.
+     */
+    static <S, F, A> Result<List<S>, A> sequenceApplicative(List<Result<S, F>> list, FailureAccumulation<F, A> accumulation) {
+        return traverseApplicative(Function.<Result<S, F>>identity(), accumulation).apply(list);
     }
 
     /**
@@ -111,6 +160,72 @@ public sealed interface ResultList permits None {
         return list -> sequenceMonadic(list.stream().map(mapping)::iterator);
     }
 
+    /**
+     * Maps the list in batches of {@code batchSize} elements and collects the results into a single {@code Result}, in
+     * input order. The mapping receives a batch and returns one result per element, in the same order, so a lookup
+     * costing the same for many keys as for one is called once per batch instead of once per element. Uses an
+     * applicative approach: every batch is mapped and the failures are accumulated.
+     *
+     * @param <V>       The type of elements in the input list.
+     * @param <S>       The success type of the result.
+     * @param <F>       The failure type of the result.
+     * @param batchSize The number of elements mapped at once.
+     * @param mapping   The function to apply to each batch, producing a {@code Result<S, F>} per element.
+     * @return A function that transforms a list of {@code V} into a {@code Result<List<S>, List<F>>}.
+     * @throws IllegalArgumentException if {@code batchSize} is not positive
+     */
+    static <V, S, F> Function<List<V>, Result<List<S>, List<F>>> traverseBatchedApplicative(int batchSize, Function<List<V>, List<Result<S, F>>> mapping) {
+        return traverseBatchedApplicative(BatchSizing.fixed(batchSize), mapping);
+    }
+
+    /**
+     * Maps the list in batches sized by {@code sizing} and collects the results into a single {@code Result}, in input
+     * order. Uses an applicative approach: every batch is mapped and the failures are accumulated. The function
+     * throws an {@link IllegalStateException} if the mapping returns a different number of results than it was given
+     * elements.
+     *
+     * @param <V>     The type of elements in the input list.
+     * @param <S>     The success type of the result.
+     * @param <F>     The failure type of the result.
+     * @param sizing  The strategy choosing the size of each batch.
+     * @param mapping The function to apply to each batch, producing a {@code Result<S, F>} per element.
+     * @return A function that transforms a list of {@code V} into a {@code Result<List<S>, List<F>>}.
+     */
+    static <V, S, F> Function<List<V>, Result<List<S>, List<F>>> traverseBatchedApplicative(BatchSizing sizing, Function<List<V>, List<Result<S, F>>> mapping) {
+        return list -> ApplicativeTraversal.traverse(BatchedResults.of(list.iterator(), sizing, mapping), Function.identity(), FailureAccumulation.all());
+    }
+
+    /**
+     * Maps the list in batches of {@code batchSize} elements and collects the results into a single {@code Result}, in
+     * input order. Uses a monadic approach: the first failure in input order is returned and no further batch is mapped.
+     *
+     * @param <V>       The type of elements in the input list.
+     * @param <S>       The success type of the result.
+     * @param <F>       The failure type of the result.
+     * @param batchSize The number of elements mapped at once.
+     * @param mapping   The function to apply to each batch, producing a {@code Result<S, F>} per element.
+     * @return A function that transforms a list of {@code V} into a {@code Result<List<S>, F>}, stopping at the first failure.
+     * @throws IllegalArgumentException if {@code batchSize} is not positive
+     */
+    static <V, S, F> Function<List<V>, Result<List<S>, F>> traverseBatchedMonadic(int batchSize, Function<List<V>, List<Result<S, F>>> mapping) {
+        return traverseBatchedMonadic(BatchSizing.fixed(batchSize), mapping);
+    }
+
+    /**
+     * Maps the list in batches sized by {@code sizing} and collects the results into a single {@code Result}, in input
+     * order. Uses a monadic approach: the first failure in input order is returned and no further batch is mapped.
+     *
+     * @param <V>     The type of elements in the input list.
+     * @param <S>     The success type of the result.
+     * @param <F>     The failure type of the result.
+     * @param sizing  The strategy choosing the size of each batch.
+     * @param mapping The function to apply to each batch, producing a {@code Result<S, F>} per element.
+     * @return A function that transforms a list of {@code V} into a {@code Result<List<S>, F>}, stopping at the first failure.
+     */
+    static <V, S, F> Function<List<V>, Result<List<S>, F>> traverseBatchedMonadic(BatchSizing sizing, Function<List<V>, List<Result<S, F>>> mapping) {
+        return list -> sequenceMonadic(() -> BatchedResults.of(list.iterator(), sizing, mapping));
+    }
+
     /**
      * Converts a list of {@code Result} objects into a single {@code Result} containing a list of success values.
      * Uses a monadic approach, meaning failures are short-circuited and the first failure encountered is returned.
@@ -119,6 +234,7 @@ public sealed interface ResultList permits None {
      * @param <F>        The failure type of the result.
      * @param iteratable The list of {@code Result<S, F>} values.
      * @return A {@code Result} containing a list of success values if all succeed, or the first encountered failure.
+     * @see ResultIterator
      */
     static <S, F> Result<List<S>, F> sequenceMonadic(Iterable<Result<S, F>> iteratable) {
         val result = new ArrayList<S>();
@@ -130,8 +246,4 @@ public sealed interface ResultList permits None {
         }
         return success(result);
     }
-
-    private static <S, F> Function<Result<Stream<S>, Stream<F>>, Result<List<S>, List<F>>> mapEitherToList() {
-        return mapEither(Stream::toList, Stream::toList);
-    }
 }
@@ -0,0 +1,377 @@
+package at.base10.result.interop;
+
+import at.base10.result.Result;
+import lombok.NonNull;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A {@link Flow.Processor} applying a {@code Result} returning function to every item and routing successes and
+ * failures to two separate subscribers.
+ *
+ * <p>The processor itself publishes the success values; the failure values are published by {@link #failures()}.
+ * Each side has one subscriber and a buffer of {@code bufferSize} items. Items are only requested from upstream
+ * while there is room in the buffers, and handed to a subscriber only as far as it requested them, so neither side
+ * is ever sent more than it asked for. How a slow failure subscriber affects the stream is decided by the
+ * {@link FailureOverflow} policy.
+ *
+ * <p>A function throwing an exception cancels the upstream subscription and, once the buffered items are delivered,
+ * signals the exception to both subscribers. An upstream error is passed on the same way. Cancelling one side
+ * discards its items; cancelling both cancels the upstream subscription.
+ *
+ * <p><b>Usage Example:</b></p>
+ *
+ * <blockquote><pre>{@code
+ * ResultProcessor<Row, Order, String> validate = ResultProcessor.of(Order::parse, 256, FailureOverflow.DROP);
+ *
+ * rows.subscribe(validate);
+ * validate.subscribe(orderWriter);
+ * validate.failures().subscribe(rejectLog);
+ * }</pre></blockquote>
+ *
+ * @param <V> the type of the incoming items
+ * @param <S> the type representing a successful result
+ * @param <F> the type representing a failure result
+ */
+public final class ResultProcessor<V, S, F> implements Flow.Processor<V, S> {
+
+    /**
+     * What a {@link ResultProcessor} does when the failure subscriber falls behind.
+     */
+    public enum FailureOverflow {
+        /**
+         * Stop requesting items until the failure subscriber catches up, slowing down the success side as well.
+         */
+        BACKPRESSURE,
+        /**
+         * Keep going and discard failures arriving while the failure buffer is full.
+         */
+        DROP,
+        /**
+         * Cancel the stream and signal an {@link IllegalStateException} to both subscribers
+         * when a failure arrives while the failure buffer is full.
+         */
+        ERROR
+    }
+
+    private final Function<V, Result<S, F>> mapping;
+    private final FailureOverflow overflow;
+    private final Outlet<S> successes;
+    private final Outlet<F> failures;
+    private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+    private final AtomicLong outstanding = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private volatile Throwable error;
+    private volatile boolean done;
+
+    private ResultProcessor(Function<V, Result<S, F>> mapping, int bufferSize, FailureOverflow overflow) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("buffer size must be positive but was " + bufferSize);
+        }
+        this.mapping = mapping;
+        this.overflow = overflow;
+        this.successes = new Outlet<>("success", bufferSize);
+        this.failures = new Outlet<>("failure", bufferSize);
+    }
+
+    /**
+     * Creates a processor with buffers of {@link Flow#defaultBufferSize()} items that applies backpressure
+     * when the failure subscriber falls behind.
+     *
+     * @param <V>     the type of the incoming items
+     * @param <S>     the type representing a successful result
+     * @param <F>     the type representing a failure result
+     * @param mapping the function applied to every item
+     * @return a new processor
+     */
+    public static <V, S, F> ResultProcessor<V, S, F> of(Function<V, Result<S, F>> mapping) {
+        return of(mapping, Flow.defaultBufferSize(), FailureOverflow.BACKPRESSURE);
+    }
+
+    /**
+     * Creates a processor.
+     *
+     * @param <V>        the type of the incoming items
+     * @param <S>        the type representing a successful result
+     * @param <F>        the type representing a failure result
+     * @param mapping    the function applied to every item
+     * @param bufferSize the number of items buffered for each subscriber
+     * @param overflow   what to do when the failure subscriber falls behind
+     * @return a new processor
+     * @throws IllegalArgumentException if {@code bufferSize} is not positive
+     */
+    public static <V, S, F> ResultProcessor<V, S, F> of(@NonNull Function<V, Result<S, F>> mapping, int bufferSize, @NonNull FailureOverflow overflow) {
+        return new ResultProcessor<>(mapping, bufferSize, overflow);
+    }
+
+    /**
+     * Returns the publisher of the failure values.
+     *
+     * @return a publisher accepting a single subscriber
+     */
+    public Flow.Publisher<F> failures() {
+        return failures;
+    }
+
+    /**
+     * Returns the number of failures discarded under the {@link FailureOverflow#DROP DROP} policy.
+     *
+     * @return the number of dropped failures
+     */
+    public long droppedFailures() {
+        return dropped.sum();
+    }
+
+    /**
+     * Subscribes to the success values. Only one subscriber is accepted, later ones receive an
+     * {@link IllegalStateException}.
+     *
+     * @param subscriber the subscriber of the success values
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super S> subscriber) {
+        successes.subscribe(subscriber);
+    }
+
+    @Override
+    public void onSubscribe(@NonNull Flow.Subscription subscription) {
+        if (!upstream.compareAndSet(null, subscription)) {
+            subscription.cancel();
+        }
+        drain();
+    }
+
+    @Override
+    public void onNext(@NonNull V item) {
+        if (!done) {
+            route(item);
+        }
+        outstanding.decrementAndGet();
+        drain();
+    }
+
+    @Override
+    public void onError(@NonNull Throwable throwable) {
+        error = throwable;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        drain();
+    }
+
+    private void route(V item) {
+        try {
+            mapping.apply(item).peekEither(this::routeSuccess, this::routeFailure);
+        } catch (RuntimeException e) {
+            fail(e);
+        }
+    }
+
+    private void routeSuccess(S value) {
+        if (!successes.offer(value)) {
+            fail(new IllegalStateException("success buffer overflow"));
+        }
+    }
+
+    private void routeFailure(F value) {
+        if (!failures.offer(value)) {
+            overflowFailure();
+        }
+    }
+
+    private void overflowFailure() {
+        if (overflow == FailureOverflow.DROP) {
+            dropped.increment();
+        } else {
+            fail(new IllegalStateException("failure buffer overflow"));
+        }
+    }
+
+    private void fail(Throwable throwable) {
+        error = throwable;
+        done = true;
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() == 0) {
+            do {
+                successes.emit();
+                failures.emit();
+                pull(upstream.get());
+            } while (wip.decrementAndGet() != 0);
+        }
+    }
+
+    private void pull(Flow.Subscription subscription) {
+        if (subscription != null) {
+            pullFrom(subscription);
+        }
+    }
+
+    private void pullFrom(Flow.Subscription subscription) {
+        if (stopped()) {
+            subscription.cancel();
+        } else {
+            request(subscription, room() - outstanding.get());
+        }
+    }
+
+    private boolean stopped() {
+        return error != null || bothCancelled();
+    }
+
+    private boolean bothCancelled() {
+        return successes.cancelled && failures.cancelled;
+    }
+
+    private long room() {
+        return overflow == FailureOverflow.BACKPRESSURE ? Math.min(successes.room(), failures.room()) : successes.room();
+    }
+
+    private void request(Flow.Subscription subscription, long items) {
+        if (items > 0 && !done) {
+            outstanding.addAndGet(items);
+            subscription.request(items);
+        }
+    }
+
+    // demand saturates at Long.MAX_VALUE, which stands for an unbounded request
+    private static long addDemand(long current, long items) {
+        try {
+            return Math.addExact(current, items);
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private final class Outlet<T> implements Flow.Publisher<T>, Flow.Subscription {
+        private final String name;
+        private final int capacity;
+        private final Queue<T> buffer;
+        private final AtomicReference<Flow.Subscriber<? super T>> claimed = new AtomicReference<>();
+        private final AtomicLong demand = new AtomicLong();
+        private volatile Flow.Subscriber<? super T> subscriber;
+        private volatile Throwable invalidRequest;
+        private volatile boolean cancelled;
+        // only accessed by the thread draining the processor
+        private boolean terminated;
+
+        private Outlet(String name, int capacity) {
+            this.name = name;
+            this.capacity = capacity;
+            this.buffer = new ArrayBlockingQueue<>(capacity);
+        }
+
+        @Override
+        public void subscribe(@NonNull Flow.Subscriber<? super T> subscriber) {
+            if (claimed.compareAndSet(null, subscriber)) {
+                subscriber.onSubscribe(this);
+                this.subscriber = subscriber;
+                drain();
+            } else {
+                subscriber.onSubscribe(new Rejected());
+                subscriber.onError(new IllegalStateException("the " + name + " side already has a subscriber"));
+            }
+        }
+
+        @Override
+        public void request(long items) {
+            if (items < 1) {
+                invalidRequest = new IllegalArgumentException("requested " + items + " " + name + " items");
+                cancel();
+            } else {
+                demand.accumulateAndGet(items, ResultProcessor::addDemand);
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private boolean offer(T item) {
+            return cancelled || buffer.offer(item);
+        }
+
+        private long room() {
+            return cancelled ? capacity : capacity - buffer.size();
+        }
+
+        private void emit() {
+            Flow.Subscriber<? super T> target = subscriber;
+            if (target != null && !terminated) {
+                terminated = deliver(target);
+            }
+        }
+
+        private boolean deliver(Flow.Subscriber<? super T> target) {
+            if (cancelled) {
+                rejectIfInvalid(target);
+                return true;
+            }
+            forward(target);
+            return complete(target);
+        }
+
+        private void forward(Flow.Subscriber<? super T> target) {
+            while (!cancelled && ready()) {
+                demand.decrementAndGet();
+                target.onNext(buffer.remove());
+            }
+        }
+
+        private boolean ready() {
+            return demand.get() > 0 && !buffer.isEmpty();
+        }
+
+        private void rejectIfInvalid(Flow.Subscriber<? super T> target) {
+            if (invalidRequest != null) {
+                target.onError(invalidRequest);
+            }
+        }
+
+        private boolean complete(Flow.Subscriber<? super T> target) {
+            boolean finished = drained();
+            if (finished) {
+                signal(target, error);
+            }
+            return finished;
+        }
+
+        private boolean drained() {
+            return done && buffer.isEmpty();
+        }
+
+        private void signal(Flow.Subscriber<? super T> target, Throwable failure) {
+            if (failure == null) {
+                target.onComplete();
+            } else {
+                target.onError(failure);
+            }
+        }
+    }
+
+    private static final class Rejected implements Flow.Subscription {
+        @Override
+        public void request(long items) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
@@ -2,13 +2,14 @@ package at.base10.result.interop;
 
 import at.base10.result.Result;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
-import static at.base10.result.Operator.mapEither;
-import static at.base10.result.Result.failure;
-import static at.base10.result.Result.success;
+import static at.base10.result.Operator.mapFailure;
 
 /**
  * A utility class providing functional operations on {@code Stream} values in the context of {@code Result}.
@@ -28,6 +29,7 @@ public sealed interface ResultStream permits None {
     /**
      * Applies a mapping function to each element in the stream and collects the results into a single {@code Result}.
      * Uses an applicative approach, meaning all elements are processed independently, and failures are accumulated.
+     * The stream is consumed sequentially through its iterator, in encounter order, even if it is parallel.
      *
      * @param <V>     The type of elements in the input stream.
      * @param <S>     The success type of the result.
@@ -36,7 +38,24 @@ public sealed interface ResultStream permits None {
      * @return A function that transforms a stream of {@code V} into a {@code Result<Stream<S>, Stream<F>>}.
      */
     static <V, S, F> Function<Stream<V>, Result<Stream<S>, Stream<F>>> traverseApplicative(Function<V, Result<S, F>> mapping) {
-        return s -> s.map(mapping.andThen(mapEitherToStream())).reduce(success(Stream.of()), ResultStream::applicativeReducer);
+        return traverseApplicative(mapping, FailureAccumulation.<F>all()).andThen(mapFailure(Collection::stream));
+    }
+
+    /**
+     * Applies a mapping function to each element in the stream and collects the results into a single {@code Result}.
+     * Uses an applicative approach, combining the failures with {@code accumulation}; the stream is consumed only while
+     * {@code accumulation} wants more failures.
+     *
+     * @param <V>          The type of elements in the input stream.
+     * @param <S>          The success type of the result.
+     * @param <F>          The failure type of the result.
+     * @param <A>          The type of the accumulated failure.
+     * @param mapping      The function to apply to each element, producing a {@code Result<S, F>}.
+     * @param accumulation The strategy combining the failures.
+     * @return A function that transforms a stream of {@code V} into a {@code Result<Stream<S>, A>}.
+     */
+    static <V, S, F, A> Function<Stream<V>, Result<Stream<S>, A>> traverseApplicative(Function<V, Result<S, F>> mapping, FailureAccumulation<F, A> accumulation) {
+        return stream -> ApplicativeTraversal.traverse(stream.iterator(), mapping, accumulation).map(Collection::stream);
     }
 
     /**
@@ -56,6 +75,7 @@ public sealed interface ResultStream permits None {
     /**
      * Converts a stream of {@code Result} objects into a single {@code Result} containing streams of success and failure values.
      * Uses an applicative approach, meaning all elements are processed independently, and failures are accumulated.
+     * The stream is consumed sequentially through its iterator, in encounter order, even if it is parallel.
      *
      * @param <S>    The success type of the result.
      * @param <F>    The failure type of the result.
@@ -63,35 +83,151 @@ public sealed interface ResultStream permits None {
      * @return A {@code Result} containing a stream of success values if all succeed, or a stream of failures otherwise.
      */
     static <S, F> Result<Stream<S>, Stream<F>> sequenceApplicative(Stream<Result<S, F>> stream) {
-        return stream.map(mapEitherToStream()).reduce(success(Stream.of()), ResultStream::applicativeReducer);
+        return ResultStream.<Result<S, F>, S, F>traverseApplicative(Function.identity()).apply(stream);
     }
 
     /**
      * Converts a stream of {@code Result} objects into a single {@code Result} containing a stream of success values.
-     * Uses a monadic approach, meaning failures are short-circuited and the first failure encountered is returned.
+     * Uses an applicative approach, combining the failures with {@code accumulation}.
      *
-     * @param <S>    The success type of the result.
-     * @param <F>    The failure type of the result.
-     * @param stream The stream of {@code Result<S, F>} values.
-     * @return A {@code Result} containing a stream of success values if all succeed, or the first encountered failure.
+     * @param <S>          The success type of the result.
+     * @param <F>          The failure type of the result.
+     * @param <A>          The type of the accumulated failure.
+     * @param stream       The stream of {@code Result<S, F>} values.
+     * @param accumulation The strategy combining the failures.
+     * @return A {@code Result} containing a stream of success values if all succeed, or the accumulated failures otherwise.
      */
-    static <S, F> Result<Stream<S>, F> sequenceMonadic(Stream<Result<S, F>> stream) {
-        return ResultList.sequenceMonadic(stream::iterator).map(Collection::stream);
+    static <S, F, A> Result<Stream<S>, A> sequenceApplicative(Stream<Result<S, F>> stream, FailureAccumulation<F, A> accumulation) {
+        return traverseApplicative(Function.<Result<S, F>>identity(), accumulation).apply(stream);
+    }
+
+    /**
+     * Maps the stream in batches of {@code batchSize} elements and collects the results into a single {@code Result},
+     * in input order. The mapping receives a batch and returns one result per element, in the same order. Uses an
+     * applicative approach: every batch is mapped and the failures are accumulated.
+     *
+     * @param <V>       The type of elements in the input stream.
+     * @param <S>       The success type of the result.
+     * @param <F>       The failure type of the result.
+     * @param batchSize The number of elements mapped at once.
+     * @param mapping   The function to apply to each batch, producing a {@code Result<S, F>} per element.
+     * @return A function that transforms a stream of {@code V} into a {@code Result<Stream<S>, Stream<F>>}.
+     * @throws IllegalArgumentException if {@code batchSize} is not positive
+     * @see ResultList#traverseBatchedApplicative(int, Function)
+     */
+    static <V, S, F> Function<Stream<V>, Result<Stream<S>, Stream<F>>> traverseBatchedApplicative(int batchSize, Function<List<V>, List<Result<S, F>>> mapping) {
+        return traverseBatchedApplicative(BatchSizing.fixed(batchSize), mapping);
+    }
+
+    /**
+     * Maps the stream in batches sized by {@code sizing} and collects the results into a single {@code Result}, in
+     * input order. Uses an applicative approach: every batch is mapped and the failures are accumulated.
+     *
+     * @param <V>     The type of elements in the input stream.
+     * @param <S>     The success type of the result.
+     * @param <F>     The failure type of the result.
+     * @param sizing  The strategy choosing the size of each batch.
+     * @param mapping The function to apply to each batch, producing a {@code Result<S, F>} per element.
+     * @return A function that transforms a stream of {@code V} into a {@code Result<Stream<S>, Stream<F>>}.
+     * @see ResultList#traverseBatchedApplicative(BatchSizing, Function)
+     */
+    static <V, S, F> Function<Stream<V>, Result<Stream<S>, Stream<F>>> traverseBatchedApplicative(BatchSizing sizing, Function<List<V>, List<Result<S, F>>> mapping) {
+        return stream -> ApplicativeTraversal.traverse(BatchedResults.of(stream.iterator(), sizing, mapping), Function.identity(), FailureAccumulation.<F>all())
+                .map(Collection::stream).mapFailure(Collection::stream);
+    }
+
+    /**
+     * Maps the stream in batches of {@code batchSize} elements and collects the results into a single {@code Result},
+     * in input order. Uses a monadic approach: the first failure in input order is returned and no further batch is
+     * mapped.
+     *
+     * @param <V>       The type of elements in the input stream.
+     * @param <S>       The success type of the result.
+     * @param <F>       The failure type of the result.
+     * @param batchSize The number of elements mapped at once.
+     * @param mapping   The function to apply to each batch, producing a {@code Result<S, F>} per element.
+     * @return A function that transforms a stream of {@code V} into a {@code Result<Stream<S>, F>}, stopping at the first failure.
+     * @throws IllegalArgumentException if {@code batchSize} is not positive
+     */
+    static <V, S, F> Function<Stream<V>, Result<Stream<S>, F>> traverseBatchedMonadic(int batchSize, Function<List<V>, List<Result<S, F>>> mapping) {
+        return traverseBatchedMonadic(BatchSizing.fixed(batchSize), mapping);
     }
 
-    private static <S, F> Result<Stream<S>, Stream<F>> applicativeReducer(Result<Stream<S>, Stream<F>> acc, Result<Stream<S>, Stream<F>> elem) {
-        return acc.either(reduceSuccess(elem), reduceFailure(acc, elem));
+    /**
+     * Maps the stream in batches sized by {@code sizing} and collects the results into a single {@code Result}, in
+     * input order. Uses a monadic approach: the first failure in input order is returned and no further batch is
+     * mapped.
+     *
+     * @param <V>     The type of elements in the input stream.
+     * @param <S>     The success type of the result.
+     * @param <F>     The failure type of the result.
+     * @param sizing  The strategy choosing the size of each batch.
+     * @param mapping The function to apply to each batch, producing a {@code Result<S, F>} per element.
+     * @return A function that transforms a stream of {@code V} into a {@code Result<Stream<S>, F>}, stopping at the first failure.
+     */
+    static <V, S, F> Function<Stream<V>, Result<Stream<S>, F>> traverseBatchedMonadic(BatchSizing sizing, Function<List<V>, List<Result<S, F>>> mapping) {
+        return stream -> ResultList.sequenceMonadic(() -> BatchedResults.of(stream.iterator(), sizing, mapping)).map(Collection::stream);
     }
 
-    private static <S, F> Function<Stream<F>, Result<Stream<S>, Stream<F>>> reduceFailure(Result<Stream<S>, Stream<F>> acc, Result<Stream<S>, Stream<F>> elem) {
-        return (error) -> elem.either(s -> acc, f -> failure(Stream.concat(error, f)));
+    /**
+     * Applies a mapping function to each element in the stream and hands every success value to {@code successes} and
+     * every failure value to {@code failures} as it occurs, in encounter order. Nothing is collected, so memory does
+     * not grow with the size of the stream. Like an applicative traversal the whole stream is consumed; since the
+     * success values are handed on before the outcome is known, {@code successes} must be ready to discard them.
+     *
+     * @param <V>       The type of elements in the input stream.
+     * @param <S>       The success type of the result.
+     * @param <F>       The failure type of the result.
+     * @param mapping   The function to apply to each element, producing a {@code Result<S, F>}.
+     * @param successes The sink receiving the success values.
+     * @param failures  The sink receiving the failure values.
+     * @return A function that transforms a stream of {@code V} into the number of successes if all succeed, or the number of failures otherwise.
+     */
+    static <V, S, F> Function<Stream<V>, Result<Long, Long>> traverseStreaming(Function<V, Result<S, F>> mapping, Consumer<? super S> successes, Consumer<? super F> failures) {
+        return stream -> sequenceStreaming(stream.map(mapping), successes, failures);
     }
 
-    private static <S, F> Function<Stream<S>, Result<Stream<S>, F>> reduceSuccess(Result<Stream<S>, F> elem) {
-        return success -> elem.either(s -> success(Stream.concat(success, s)), Result::failure);
+    /**
+     * Hands every success value of a stream of {@code Result} objects to {@code successes} and every failure value to
+     * {@code failures} as it occurs, in encounter order, without collecting them.
+     *
+     * @param <S>       The success type of the result.
+     * @param <F>       The failure type of the result.
+     * @param stream    The stream of {@code Result<S, F>} values.
+     * @param successes The sink receiving the success values.
+     * @param failures  The sink receiving the failure values.
+     * @return The number of successes if all succeed, or the number of failures otherwise.
+     * @see #traverseStreaming(Function, Consumer, Consumer)
+     */
+    static <S, F> Result<Long, Long> sequenceStreaming(Stream<Result<S, F>> stream, Consumer<? super S> successes, Consumer<? super F> failures) {
+        return StreamingTraversal.sequence(stream, successes, failures);
     }
 
-    private static <S, F> Function<Result<S, F>, Result<Stream<S>, Stream<F>>> mapEitherToStream() {
-        return mapEither(Stream::of, Stream::of);
+    /**
+     * Splits a stream of {@code Result} objects into a list of its success values and a list of its failure values in
+     * a single pass, each in encounter order, and closes the stream. A sequential stream that knows its size gets
+     * lists with room for up to 65,536 of its elements each up front; beyond that they grow as needed.
+     *
+     * @param <S>    The success type of the result.
+     * @param <F>    The failure type of the result.
+     * @param stream The stream of {@code Result<S, F>} values.
+     * @return The success values and the failure values of the stream.
+     * @see ResultCollectors#partitioning()
+     */
+    static <S, F> ResultCollectors.Partition<List<S>, List<F>> partition(Stream<Result<S, F>> stream) {
+        return Partitioning.partition(stream, ArrayList::new, ArrayList::new);
+    }
+
+    /**
+     * Converts a stream of {@code Result} objects into a single {@code Result} containing a stream of success values.
+     * Uses a monadic approach, meaning failures are short-circuited and the first failure encountered is returned.
+     *
+     * @param <S>    The success type of the result.
+     * @param <F>    The failure type of the result.
+     * @param stream The stream of {@code Result<S, F>} values.
+     * @return A {@code Result} containing a stream of success values if all succeed, or the first encountered failure.
+     */
+    static <S, F> Result<Stream<S>, F> sequenceMonadic(Stream<Result<S, F>> stream) {
+        return ResultList.sequenceMonadic(stream::iterator).map(Collection::stream);
     }
 }
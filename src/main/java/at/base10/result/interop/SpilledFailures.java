@@ -0,0 +1,160 @@
+package at.base10.result.interop;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The failures accumulated by {@link FailureAccumulation#spilling(int, FailureCodec, Path)}, or its overload using the
+ * default temporary directory: the first ones held in memory, the rest in a temporary file.
+ *
+ * <p>Every {@link #iterator() iterator} returns the failures in the order they occurred, streaming the spilled ones
+ * back from the file one at a time; an iterator releases the file once it is exhausted. {@link #close() Closing}
+ * releases the file for iterators that were abandoned early and deletes it, after which only the failures held in
+ * memory can be read. Reading the file fails with an {@link UncheckedIOException}.
+ *
+ * <p><b>Usage Example:</b></p>
+ *
+ * <blockquote><pre>{@code
+ * ResultStream.traverseApplicative(Order::parse, FailureAccumulation.spilling(10_000, FailureCodec.utf8()))
+ *     .apply(rows)
+ *     .peekFailure(failures -> {
+ *         try (failures) {
+ *             failures.forEach(audit::record);
+ *         }
+ *     });
+ * }</pre></blockquote>
+ *
+ * @param <F> the type of the failures
+ */
+public final class SpilledFailures<F> implements Iterable<F>, AutoCloseable {
+    private final List<F> held;
+    // null if no failure was spilled
+    private final Path file;
+    private final long spilled;
+    private final FailureCodec<F> codec;
+    private final Spilling.Storage storage;
+    private final Set<Closeable> open = ConcurrentHashMap.newKeySet();
+
+    SpilledFailures(List<F> held, Path file, long spilled, FailureCodec<F> codec, Spilling.Storage storage) {
+        this.held = held;
+        this.file = file;
+        this.spilled = spilled;
+        this.codec = codec;
+        this.storage = storage;
+    }
+
+    /**
+     * Returns the number of failures.
+     *
+     * @return the number of failures held in memory and spilled
+     */
+    public long size() {
+        return held.size() + spilled;
+    }
+
+    /**
+     * Returns the failures held in memory, the first {@code size() - spilled()} ones.
+     *
+     * @return an unmodifiable list of the failures held in memory
+     */
+    public List<F> held() {
+        return held;
+    }
+
+    /**
+     * Returns the number of failures written to the file.
+     *
+     * @return the number of spilled failures
+     */
+    public long spilled() {
+        return spilled;
+    }
+
+    /**
+     * Returns an iterator over all failures, in the order they occurred.
+     *
+     * @return a new iterator
+     */
+    @Override
+    public Iterator<F> iterator() {
+        return new Reader();
+    }
+
+    /**
+     * Releases the file of every unfinished iterator and deletes it.
+     */
+    @Override
+    public void close() {
+        try {
+            for (Closeable in : open) {
+                in.close();
+            }
+            delete();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void delete() throws IOException {
+        if (file != null) {
+            storage.delete(file);
+        }
+    }
+
+    private final class Reader implements Iterator<F> {
+        private final Iterator<F> memory = held.iterator();
+        private long remaining = spilled;
+        private InputStream source;
+        private DataInputStream in;
+
+        @Override
+        public boolean hasNext() {
+            return memory.hasNext() || remaining > 0;
+        }
+
+        @Override
+        public F next() {
+            return memory.hasNext() ? memory.next() : read();
+        }
+
+        private F read() {
+            if (remaining < 1) {
+                throw new NoSuchElementException();
+            }
+            try {
+                return readNext();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private F readNext() throws IOException {
+            F failure = codec.read(input());
+            remaining--;
+            if (remaining == 0) {
+                open.remove(source);
+                in.close();
+            }
+            return failure;
+        }
+
+        private DataInputStream input() throws IOException {
+            if (in == null) {
+                source = storage.read(file);
+                open.add(source);
+                in = new DataInputStream(new BufferedInputStream(source));
+            }
+            return in;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package at.base10.result.interop;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The accumulator of {@link FailureAccumulation#spilling(int, FailureCodec, Path)}: the first {@code threshold}
+ * failures are held in memory, every further one is written to a temporary file created on the first spill. The file
+ * is deleted again if the traversal is abandoned or the file cannot be closed.
+ *
+ * @param <F> the type of the failures accumulated
+ */
+final class Spilling<F> implements FailureAccumulation.Accumulator<F, SpilledFailures<F>> {
+    private final int threshold;
+    private final FailureCodec<F> codec;
+    private final Path directory;
+    private final Storage storage;
+    private final List<F> held = new ArrayList<>();
+    // null until the first failure is spilled
+    private Path file;
+    private DataOutputStream out;
+    private long spilled;
+
+    Spilling(int threshold, FailureCodec<F> codec, Path directory, Storage storage) {
+        this.threshold = threshold;
+        this.codec = codec;
+        this.directory = directory;
+        this.storage = storage;
+    }
+
+    @Override
+    public boolean add(F failure) {
+        if (held.size() < threshold) {
+            held.add(failure);
+        } else {
+            spill(failure);
+        }
+        return true;
+    }
+
+    private void spill(F failure) {
+        try {
+            codec.write(failure, output());
+            spilled++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private DataOutput output() throws IOException {
+        if (out == null) {
+            file = storage.create(directory);
+            out = new DataOutputStream(new BufferedOutputStream(storage.write(file)));
+        }
+        return out;
+    }
+
+    @Override
+    public SpilledFailures<F> result() {
+        if (out != null) {
+            close();
+        }
+        return new SpilledFailures<>(Collections.unmodifiableList(held), file, spilled, codec, storage);
+    }
+
+    @Override
+    public void abandon() {
+        try {
+            discard();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void discard() throws IOException {
+        try {
+            if (out != null) {
+                out.close();
+            }
+        } finally {
+            if (file != null) {
+                storage.delete(file);
+            }
+        }
+    }
+
+    private void close() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            UncheckedIOException failure = new UncheckedIOException(e);
+            try {
+                storage.delete(file);
+            } catch (IOException cleanup) {
+                failure.addSuppressed(cleanup);
+            }
+            throw failure;
+        }
+    }
+
+    /**
+     * Creates, writes, reads and deletes spill files.
+     */
+    interface Storage {
+        Path create(Path directory) throws IOException;
+
+        OutputStream write(Path file) throws IOException;
+
+        InputStream read(Path file) throws IOException;
+
+        void delete(Path file) throws IOException;
+    }
+
+    /**
+     * Keeps spill files in the file system.
+     */
+    enum FileStorage implements Storage {
+        INSTANCE;
+
+        @Override
+        public Path create(Path directory) throws IOException {
+            return Files.createTempFile(directory, "failures", ".spill");
+        }
+
+        @Override
+        public OutputStream write(Path file) throws IOException {
+            return Files.newOutputStream(file);
+        }
+
+        @Override
+        public InputStream read(Path file) throws IOException {
+            return Files.newInputStream(file);
+        }
+
+        @Override
+        public void delete(Path file) throws IOException {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Stores a string as the length of its UTF-8 encoding followed by the encoded bytes.
+     */
+    enum Utf8 implements FailureCodec<String> {
+        INSTANCE;
+
+        @Override
+        public void write(String failure, DataOutput out) throws IOException {
+            byte[] bytes = failure.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package at.base10.result.interop;
+
+import at.base10.result.Result;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * The single pass behind {@link ResultStream#sequenceStreaming(Stream, Consumer, Consumer)}: every value goes to its
+ * sink as it is met and only the two counts are kept, so memory does not grow with the input.
+ *
+ * @param <S> the success type of the elements
+ * @param <F> the failure type of the elements
+ */
+final class StreamingTraversal<S, F> implements Consumer<Result<S, F>> {
+    private final Consumer<? super S> successes;
+    private final Consumer<? super F> failures;
+    private long succeeded;
+    private long failed;
+
+    private StreamingTraversal(Consumer<? super S> successes, Consumer<? super F> failures) {
+        this.successes = successes;
+        this.failures = failures;
+    }
+
+    static <S, F> Result<Long, Long> sequence(Stream<Result<S, F>> stream, Consumer<? super S> successes, Consumer<? super F> failures) {
+        StreamingTraversal<S, F> traversal = new StreamingTraversal<>(successes, failures);
+        stream.forEachOrdered(traversal);
+        return traversal.failed == 0 ? Result.success(traversal.succeeded) : Result.failure(traversal.failed);
+    }
+
+    @Override
+    public void accept(Result<S, F> result) {
+        result.peekEither(this::succeed, this::fail);
+    }
+
+    private void succeed(S value) {
+        successes.accept(value);
+        succeeded++;
+    }
+
+    private void fail(F failure) {
+        failures.accept(failure);
+        failed++;
+    }
+}
@@ -0,0 +1,53 @@
+package at.base10.result.interop;
+
+import at.base10.result.Result;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.IntSummaryStatistics;
+import java.util.LongSummaryStatistics;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+/**
+ * The mutable container behind {@link ResultCollectors#summarizingInt(ToIntFunction)} and its siblings: the
+ * statistics of the success values, fed through a primitive mapper, and a count of the failures.
+ *
+ * @param <T> the type of the statistics
+ */
+final class Summarizing<T> {
+    private final T statistics;
+    private long failures;
+
+    private Summarizing(T statistics) {
+        this.statistics = statistics;
+    }
+
+    static <S, F> Collector<Result<S, F>, Summarizing<IntSummaryStatistics>, ResultCollectors.Summary<IntSummaryStatistics>> ints(ToIntFunction<? super S> mapper) {
+        return collector(IntSummaryStatistics::new, (statistics, value) -> statistics.accept(mapper.applyAsInt(value)), IntSummaryStatistics::combine);
+    }
+
+    static <S, F> Collector<Result<S, F>, Summarizing<LongSummaryStatistics>, ResultCollectors.Summary<LongSummaryStatistics>> longs(ToLongFunction<? super S> mapper) {
+        return collector(LongSummaryStatistics::new, (statistics, value) -> statistics.accept(mapper.applyAsLong(value)), LongSummaryStatistics::combine);
+    }
+
+    static <S, F> Collector<Result<S, F>, Summarizing<DoubleSummaryStatistics>, ResultCollectors.Summary<DoubleSummaryStatistics>> doubles(ToDoubleFunction<? super S> mapper) {
+        return collector(DoubleSummaryStatistics::new, (statistics, value) -> statistics.accept(mapper.applyAsDouble(value)), DoubleSummaryStatistics::combine);
+    }
+
+    private static <S, F, T> Collector<Result<S, F>, Summarizing<T>, ResultCollectors.Summary<T>> collector(Supplier<T> supplier, BiConsumer<T, S> accumulator, BiConsumer<T, T> combiner) {
+        return Collector.of(() -> new Summarizing<>(supplier.get()),
+                (summarizing, result) -> result.peekEither(value -> accumulator.accept(summarizing.statistics, value), failure -> summarizing.failures++),
+                (left, right) -> left.merge(right, combiner),
+                summarizing -> new ResultCollectors.Summary<>(summarizing.statistics, summarizing.failures));
+    }
+
+    private Summarizing<T> merge(Summarizing<T> other, BiConsumer<T, T> combiner) {
+        combiner.accept(statistics, other.statistics);
+        failures += other.failures;
+        return this;
+    }
+}
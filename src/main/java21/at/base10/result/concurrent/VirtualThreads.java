@@ -0,0 +1,20 @@
+package at.base10.result.concurrent;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Access to virtual threads. This is the Java 21 variant, packaged under {@code META-INF/versions/21}.
+ */
+sealed interface VirtualThreads permits None {
+
+    /**
+     * Creates an executor starting a new virtual thread for each task.
+     *
+     * @return the executor
+     */
+    static Optional<ExecutorService> executor() {
+        return Optional.of(Executors.newVirtualThreadPerTaskExecutor());
+    }
+}
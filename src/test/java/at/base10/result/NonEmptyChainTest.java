@@ -0,0 +1,99 @@
+package at.base10.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class NonEmptyChainTest {
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        var chain = NonEmptyChain.of("a");
+        assertThrows(NullPointerException.class, () -> NonEmptyChain.fromList(null));
+        assertThrows(NullPointerException.class, () -> chain.concat(null));
+        assertThrows(NullPointerException.class, () -> chain.map(null));
+    }
+
+    @Test
+    void test_of() {
+        var chain = NonEmptyChain.of("a");
+        assertEquals(1, chain.size());
+        assertEquals(List.of("a"), chain.toList());
+    }
+
+    @Test
+    void test_fromList() {
+        assertEquals(List.of("a", "b", "c"), NonEmptyChain.fromList(List.of("a", "b", "c")).toList());
+        assertEquals(3, NonEmptyChain.fromList(List.of("a", "b", "c")).size());
+        var error = assertThrows(IllegalArgumentException.class, () -> NonEmptyChain.fromList(List.of()));
+        assertEquals("a chain needs at least one element", error.getMessage());
+    }
+
+    @Test
+    void test_append_and_concat_are_persistent() {
+        var ab = NonEmptyChain.of("a").append("b");
+        var abc = ab.append("c");
+        var abab = ab.concat(ab);
+        assertEquals(List.of("a", "b"), ab.toList());
+        assertEquals(List.of("a", "b", "c"), abc.toList());
+        assertEquals(List.of("a", "b", "a", "b"), abab.toList());
+        assertEquals(4, abab.size());
+    }
+
+    @Test
+    void test_map() {
+        var chain = NonEmptyChain.of(1).concat(NonEmptyChain.of(2).append(3));
+        assertEquals(List.of("1", "2", "3"), chain.map(String::valueOf).toList());
+        assertEquals(List.of("1"), NonEmptyChain.of(1).map(String::valueOf).toList());
+    }
+
+    @Test
+    void test_iterator() {
+        var elements = NonEmptyChain.of("a").concat(NonEmptyChain.of("b").append("c")).iterator();
+        List<String> seen = new ArrayList<>();
+        elements.forEachRemaining(seen::add);
+        assertEquals(List.of("a", "b", "c"), seen);
+        assertFalse(elements.hasNext());
+        assertThrows(NoSuchElementException.class, elements::next);
+    }
+
+    @Test
+    void test_toList_is_unmodifiable() {
+        assertThrows(UnsupportedOperationException.class, () -> NonEmptyChain.of("a").toList().add("b"));
+    }
+
+    @Test
+    void test_equality_ignores_the_shape() {
+        var appended = NonEmptyChain.of("a").append("b").append("c");
+        var concatenated = NonEmptyChain.of("a").concat(NonEmptyChain.of("b").append("c"));
+        assertEquals(appended, concatenated);
+        assertEquals(List.of("a", "b", "c").hashCode(), concatenated.hashCode());
+        assertEquals("[a, b, c]", concatenated.toString());
+        assertNotEquals(appended, NonEmptyChain.of("a").append("b"));
+        assertNotEquals(appended, List.of("a", "b", "c"));
+    }
+
+    @Test
+    void test_deep_chains_do_not_recurse() {
+        int size = 200_000;
+        var leftDeep = NonEmptyChain.of(0);
+        var rightDeep = NonEmptyChain.of(size - 1);
+        for (int i = 1; i < size; i++) {
+            leftDeep = leftDeep.append(i);
+            rightDeep = NonEmptyChain.of(size - 1 - i).concat(rightDeep);
+        }
+        List<Integer> expected = IntStream.range(0, size).boxed().toList();
+        assertEquals(expected, leftDeep.toList());
+        assertEquals(expected, rightDeep.toList());
+        assertEquals(size, rightDeep.size());
+    }
+}
@@ -0,0 +1,116 @@
+package at.base10.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static at.base10.result.Assert.assertFailureEquals;
+import static at.base10.result.Assert.assertSuccessEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ResultZipTest {
+
+    private static Result<Integer, String> ok(int value) {
+        return Result.success(value);
+    }
+
+    private static Result<Integer, String> bad(int position) {
+        return Result.failure("bad " + position);
+    }
+
+    private static String fail() {
+        throw new AssertionError("combiner called although a result failed");
+    }
+
+    @Test
+    void test_zip_two() {
+        assertSuccessEquals("12", Result.zip(ok(1), ok(2), (s1, s2) -> "" + s1 + s2));
+        assertFailureEquals("bad 2", Result.zip(ok(1), bad(2), (s1, s2) -> fail()));
+    }
+
+    @Test
+    void test_zipApplicative_two() {
+        assertSuccessEquals("12", Result.zipApplicative(ok(1), ok(2), (s1, s2) -> "" + s1 + s2));
+        assertFailureEquals(List.of("bad 2"), Result.zipApplicative(ok(1), bad(2), (s1, s2) -> fail()));
+    }
+
+    @Test
+    void test_zip_three() {
+        assertSuccessEquals("123", Result.zip(ok(1), ok(2), ok(3), (s1, s2, s3) -> "" + s1 + s2 + s3));
+        assertFailureEquals("bad 2", Result.zip(ok(1), bad(2), bad(3), (s1, s2, s3) -> fail()));
+    }
+
+    @Test
+    void test_zipApplicative_three() {
+        assertSuccessEquals("123", Result.zipApplicative(ok(1), ok(2), ok(3), (s1, s2, s3) -> "" + s1 + s2 + s3));
+        assertFailureEquals(List.of("bad 2", "bad 3"), Result.zipApplicative(ok(1), bad(2), bad(3), (s1, s2, s3) -> fail()));
+    }
+
+    @Test
+    void test_zip_four() {
+        assertSuccessEquals("1234", Result.zip(ok(1), ok(2), ok(3), ok(4), (s1, s2, s3, s4) -> "" + s1 + s2 + s3 + s4));
+        assertFailureEquals("bad 2", Result.zip(ok(1), bad(2), ok(3), bad(4), (s1, s2, s3, s4) -> fail()));
+    }
+
+    @Test
+    void test_zipApplicative_four() {
+        assertSuccessEquals("1234", Result.zipApplicative(ok(1), ok(2), ok(3), ok(4), (s1, s2, s3, s4) -> "" + s1 + s2 + s3 + s4));
+        assertFailureEquals(List.of("bad 2", "bad 4"), Result.zipApplicative(ok(1), bad(2), ok(3), bad(4), (s1, s2, s3, s4) -> fail()));
+    }
+
+    @Test
+    void test_zip_five() {
+        assertSuccessEquals("12345", Result.zip(ok(1), ok(2), ok(3), ok(4), ok(5), (s1, s2, s3, s4, s5) -> "" + s1 + s2 + s3 + s4 + s5));
+        assertFailureEquals("bad 2", Result.zip(ok(1), bad(2), ok(3), ok(4), bad(5), (s1, s2, s3, s4, s5) -> fail()));
+    }
+
+    @Test
+    void test_zipApplicative_five() {
+        assertSuccessEquals("12345", Result.zipApplicative(ok(1), ok(2), ok(3), ok(4), ok(5), (s1, s2, s3, s4, s5) -> "" + s1 + s2 + s3 + s4 + s5));
+        assertFailureEquals(List.of("bad 2", "bad 5"), Result.zipApplicative(ok(1), bad(2), ok(3), ok(4), bad(5), (s1, s2, s3, s4, s5) -> fail()));
+    }
+
+    @Test
+    void test_zip_six() {
+        assertSuccessEquals("123456", Result.zip(ok(1), ok(2), ok(3), ok(4), ok(5), ok(6), (s1, s2, s3, s4, s5, s6) -> "" + s1 + s2 + s3 + s4 + s5 + s6));
+        assertFailureEquals("bad 2", Result.zip(ok(1), bad(2), ok(3), ok(4), ok(5), bad(6), (s1, s2, s3, s4, s5, s6) -> fail()));
+    }
+
+    @Test
+    void test_zipApplicative_six() {
+        assertSuccessEquals("123456", Result.zipApplicative(ok(1), ok(2), ok(3), ok(4), ok(5), ok(6), (s1, s2, s3, s4, s5, s6) -> "" + s1 + s2 + s3 + s4 + s5 + s6));
+        assertFailureEquals(List.of("bad 2", "bad 6"), Result.zipApplicative(ok(1), bad(2), ok(3), ok(4), ok(5), bad(6), (s1, s2, s3, s4, s5, s6) -> fail()));
+    }
+
+    @Test
+    void test_zip_seven() {
+        assertSuccessEquals("1234567", Result.zip(ok(1), ok(2), ok(3), ok(4), ok(5), ok(6), ok(7), (s1, s2, s3, s4, s5, s6, s7) -> "" + s1 + s2 + s3 + s4 + s5 + s6 + s7));
+        assertFailureEquals("bad 2", Result.zip(ok(1), bad(2), ok(3), ok(4), ok(5), ok(6), bad(7), (s1, s2, s3, s4, s5, s6, s7) -> fail()));
+    }
+
+    @Test
+    void test_zipApplicative_seven() {
+        assertSuccessEquals("1234567", Result.zipApplicative(ok(1), ok(2), ok(3), ok(4), ok(5), ok(6), ok(7), (s1, s2, s3, s4, s5, s6, s7) -> "" + s1 + s2 + s3 + s4 + s5 + s6 + s7));
+        assertFailureEquals(List.of("bad 2", "bad 7"), Result.zipApplicative(ok(1), bad(2), ok(3), ok(4), ok(5), ok(6), bad(7), (s1, s2, s3, s4, s5, s6, s7) -> fail()));
+    }
+
+    @Test
+    void test_zip_eight() {
+        assertSuccessEquals("12345678", Result.zip(ok(1), ok(2), ok(3), ok(4), ok(5), ok(6), ok(7), ok(8), (s1, s2, s3, s4, s5, s6, s7, s8) -> "" + s1 + s2 + s3 + s4 + s5 + s6 + s7 + s8));
+        assertFailureEquals("bad 2", Result.zip(ok(1), bad(2), ok(3), ok(4), ok(5), ok(6), ok(7), bad(8), (s1, s2, s3, s4, s5, s6, s7, s8) -> fail()));
+        assertFailureEquals("bad 1", Result.zip(bad(1), ok(2), ok(3), ok(4), ok(5), ok(6), ok(7), ok(8), (s1, s2, s3, s4, s5, s6, s7, s8) -> fail()));
+    }
+
+    @Test
+    void test_zipApplicative_eight() {
+        assertSuccessEquals("12345678", Result.zipApplicative(ok(1), ok(2), ok(3), ok(4), ok(5), ok(6), ok(7), ok(8), (s1, s2, s3, s4, s5, s6, s7, s8) -> "" + s1 + s2 + s3 + s4 + s5 + s6 + s7 + s8));
+        assertFailureEquals(List.of("bad 2", "bad 8"), Result.zipApplicative(ok(1), bad(2), ok(3), ok(4), ok(5), ok(6), ok(7), bad(8), (s1, s2, s3, s4, s5, s6, s7, s8) -> fail()));
+        assertFailureEquals(List.of("bad 1"), Result.zipApplicative(bad(1), ok(2), ok(3), ok(4), ok(5), ok(6), ok(7), ok(8), (s1, s2, s3, s4, s5, s6, s7, s8) -> fail()));
+    }
+
+    @Test
+    void test_zipApplicative_failures_are_unmodifiable() {
+        var failures = Result.zipApplicative(bad(1), bad(2), (s1, s2) -> fail()).failure();
+        assertThrows(UnsupportedOperationException.class, () -> failures.add("more"));
+    }
+}
@@ -0,0 +1,122 @@
+package at.base10.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+
+import static at.base10.result.Assert.assertFailureEquals;
+import static at.base10.result.Assert.assertSuccessEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ValidationTest {
+    private final Validation<Integer, String> valid = Validation.valid(1);
+    private final Validation<Integer, String> invalid = Validation.invalidAll(NonEmptyChain.of("a").append("b"));
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        assertThrows(NullPointerException.class, () -> Validation.of(null));
+        assertThrows(NullPointerException.class, () -> Validation.fromResult(null));
+        assertThrows(NullPointerException.class, () -> Validation.sequence(null));
+        assertThrows(NullPointerException.class, () -> Validation.invalidAll(null));
+        for (Validation<Integer, String> validation : List.of(valid, invalid)) {
+            assertThrows(NullPointerException.class, () -> validation.map(null));
+            assertThrows(NullPointerException.class, () -> validation.mapFailure(null));
+            assertThrows(NullPointerException.class, () -> validation.flatMap(null));
+            assertThrows(NullPointerException.class, () -> validation.zip(null, Integer::sum));
+            assertThrows(NullPointerException.class, () -> validation.zip(valid, null));
+            assertThrows(NullPointerException.class, () -> validation.fold(null, String::valueOf));
+            assertThrows(NullPointerException.class, () -> validation.fold(String::valueOf, null));
+        }
+    }
+
+    @Test
+    void test_valid() {
+        assertTrue(valid.isValid());
+        assertEquals(1, valid.value());
+        assertThrows(NoSuchElementException.class, valid::failures, "No failures present");
+    }
+
+    @Test
+    void test_invalid() {
+        assertFalse(invalid.isValid());
+        assertEquals(List.of("a", "b"), invalid.failures().toList());
+        assertThrows(NoSuchElementException.class, invalid::value, "No value present");
+        assertEquals(List.of("x"), Validation.invalid("x").failures().toList());
+    }
+
+    @Test
+    void test_of() {
+        assertEquals(Validation.valid(1), Validation.of(Result.success(1)));
+        assertEquals(Validation.invalid("a"), Validation.of(Result.failure("a")));
+    }
+
+    @Test
+    void test_fromResult_and_toResult() {
+        assertEquals(valid, Validation.fromResult(Result.success(1)));
+        assertEquals(invalid, Validation.fromResult(Result.failure(List.of("a", "b"))));
+        assertThrows(IllegalArgumentException.class, () -> Validation.fromResult(Result.failure(List.of())));
+        assertSuccessEquals(1, valid.toResult());
+        assertFailureEquals(List.of("a", "b"), invalid.toResult());
+    }
+
+    @Test
+    void test_map() {
+        assertEquals(Validation.valid("1"), valid.map(String::valueOf));
+        assertEquals(invalid, invalid.map(String::valueOf));
+    }
+
+    @Test
+    void test_mapFailure() {
+        assertEquals(valid, valid.mapFailure(String::length));
+        assertEquals(Validation.invalidAll(NonEmptyChain.of("A").append("B")), invalid.mapFailure(String::toUpperCase));
+    }
+
+    @Test
+    void test_flatMap() {
+        assertEquals(Validation.valid(2), valid.flatMap(value -> Validation.valid(value + 1)));
+        assertEquals(Validation.invalid("c"), valid.flatMap(value -> Validation.invalid("c")));
+        assertEquals(invalid, invalid.flatMap(value -> Validation.valid(value + 1)));
+    }
+
+    @Test
+    void test_zip_keeps_the_failures_of_both() {
+        Validation<Integer, String> other = Validation.invalid("c");
+        assertEquals(Validation.valid(3), valid.zip(Validation.valid(2), Integer::sum));
+        assertEquals(other, valid.zip(other, Integer::sum));
+        assertEquals(invalid, invalid.zip(valid, Integer::sum));
+        assertEquals(List.of("a", "b", "c"), invalid.zip(other, Integer::sum).failures().toList());
+    }
+
+    @Test
+    void test_fold() {
+        assertEquals("valid 1", valid.fold(value -> "valid " + value, failures -> "invalid " + failures));
+        assertEquals("invalid [a, b]", invalid.fold(value -> "valid " + value, failures -> "invalid " + failures));
+    }
+
+    @Test
+    void test_sequence() {
+        assertEquals(Validation.valid(List.of()), Validation.sequence(List.<Validation<Integer, String>>of()));
+        assertEquals(Validation.valid(List.of(1, 2)), Validation.sequence(List.of(valid, Validation.valid(2))));
+        var combined = Validation.sequence(List.of(Validation.invalid("x"), valid, invalid));
+        assertEquals(List.of("x", "a", "b"), combined.failures().toList());
+        assertThrows(UnsupportedOperationException.class, () -> Validation.sequence(List.of(valid)).value().add(2));
+    }
+
+    @Test
+    void test_sequence_of_a_large_batch() {
+        int size = 200_000;
+        List<Validation<Integer, String>> batch = IntStream.range(0, size)
+                .mapToObj(i -> i % 2 == 0 ? Validation.<Integer, String>valid(i) : Validation.<Integer, String>invalid("odd " + i))
+                .toList();
+        var failures = Validation.sequence(batch).failures();
+        assertEquals(size / 2, failures.size());
+        assertEquals("odd 1", failures.iterator().next());
+        assertEquals("odd " + (size - 1), failures.toList().get(size / 2 - 1));
+    }
+}
@@ -0,0 +1,50 @@
+package at.base10.result.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AdaptiveLimitTest {
+    private final Duration threshold = Duration.ofMillis(10);
+
+    @Test
+    void test_of() {
+        assertEquals(new AdaptiveLimit(5, 1, 20, threshold, 0.9), AdaptiveLimit.of(5, 20, threshold));
+    }
+
+    @Test
+    void test_withers() {
+        var limit = AdaptiveLimit.of(5, 20, threshold);
+        assertEquals(new AdaptiveLimit(5, 3, 20, threshold, 0.9), limit.withMinLimit(3));
+        assertEquals(new AdaptiveLimit(5, 1, 20, threshold, 0.5), limit.withBackoffRatio(0.5));
+    }
+
+    @Test
+    void test_limit_bounds() {
+        var error = assertThrows(IllegalArgumentException.class, () -> new AdaptiveLimit(1, 0, 1, threshold, 0.5));
+        assertEquals("limits must satisfy 1 <= 0 <= 1 <= 1", error.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveLimit(1, 2, 2, threshold, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveLimit(2, 1, 1, threshold, 0.5));
+        assertDoesNotThrow(() -> new AdaptiveLimit(1, 1, 1, threshold, 0.5));
+    }
+
+    @Test
+    void test_backoff_bounds() {
+        var error = assertThrows(IllegalArgumentException.class, () -> new AdaptiveLimit(1, 1, 1, threshold, 0));
+        assertEquals("backoffRatio must be in (0, 1) but was 0.0", error.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveLimit(1, 1, 1, threshold, 1));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveLimit(1, 1, 1, threshold, Double.NaN));
+        assertDoesNotThrow(() -> new AdaptiveLimit(1, 1, 1, threshold, Double.MIN_VALUE));
+        assertDoesNotThrow(() -> new AdaptiveLimit(1, 1, 1, threshold, Math.nextDown(1.0)));
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        assertThrows(NullPointerException.class, () -> new AdaptiveLimit(1, 1, 1, null, 0.5));
+    }
+}
@@ -0,0 +1,256 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Result;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import static at.base10.result.Assert.assertFailureEquals;
+import static at.base10.result.Assert.assertSuccessEquals;
+import static at.base10.result.Result.failure;
+import static at.base10.result.Result.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveLimiterTest {
+    private final ManualClock clock = new ManualClock(-500);
+
+    private AdaptiveLimiter<String> limiter(AdaptiveLimit settings) {
+        return new AdaptiveLimiter<>(settings, () -> "overloaded", clock);
+    }
+
+    private AdaptiveLimiter<String> limiter(int initialLimit, int maxLimit) {
+        return limiter(AdaptiveLimit.of(initialLimit, maxLimit, Duration.ofNanos(100)).withBackoffRatio(0.5));
+    }
+
+    private static Function<Integer, CompletableFuture<Result<Integer, String>>> pending(CompletableFuture<Result<Integer, String>> future) {
+        return i -> future;
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        var settings = AdaptiveLimit.of(1, 1, Duration.ofSeconds(1));
+        assertThrows(NullPointerException.class, () -> AdaptiveLimiter.of(null, () -> "overloaded"));
+        assertThrows(NullPointerException.class, () -> AdaptiveLimiter.of(settings, null));
+        assertThrows(NullPointerException.class, () -> limiter(1, 1).decorate(null));
+        assertThrows(NullPointerException.class, () -> limiter(1, 1).decorateAsync(null));
+    }
+
+    @Test
+    void test_system_clock() {
+        var limiter = AdaptiveLimiter.of(AdaptiveLimit.of(1, 2, Duration.ofHours(1)), () -> "overloaded");
+        assertSuccessEquals(1, limiter.<Integer, Integer>decorate(Result::success).apply(1));
+        assertEquals(2, limiter.limit());
+    }
+
+    @Test
+    void test_rejects_above_limit() {
+        var limiter = limiter(2, 2);
+        var first = new CompletableFuture<Result<Integer, String>>();
+        var second = new CompletableFuture<Result<Integer, String>>();
+        limiter.decorateAsync(pending(first)).apply(1);
+        limiter.decorateAsync(pending(second)).apply(2);
+        var rejected = limiter.decorateAsync(pending(new CompletableFuture<>())).apply(3);
+        assertTrue(rejected.isDone());
+        assertFailureEquals("overloaded", rejected.join());
+        assertFailureEquals("overloaded", limiter.<Integer, Integer>decorate(Result::success).apply(4));
+        assertEquals(2, limiter.inFlight());
+        assertEquals(2, limiter.rejections());
+        first.complete(success(1));
+        assertEquals(1, limiter.inFlight());
+        assertSuccessEquals(5, limiter.<Integer, Integer>decorate(Result::success).apply(5));
+    }
+
+    @Nested
+    class Increase {
+        @Test
+        void test_grows_when_half_utilized() {
+            var limiter = limiter(4, 10);
+            var first = new CompletableFuture<Result<Integer, String>>();
+            var second = new CompletableFuture<Result<Integer, String>>();
+            var third = new CompletableFuture<Result<Integer, String>>();
+            limiter.decorateAsync(pending(first)).apply(1);
+            limiter.decorateAsync(pending(second)).apply(2);
+            limiter.decorateAsync(pending(third)).apply(3);
+            assertEquals(0, limiter.rejections());
+            first.complete(success(1));
+            assertEquals(5, limiter.limit());
+            second.complete(success(2));
+            assertEquals(5, limiter.limit());
+            third.complete(success(3));
+            assertEquals(5, limiter.limit());
+            assertEquals(0, limiter.inFlight());
+        }
+
+        @Test
+        void test_grows_at_exactly_half_utilization() {
+            var limiter = limiter(4, 10);
+            var first = new CompletableFuture<Result<Integer, String>>();
+            limiter.decorateAsync(pending(first)).apply(1);
+            limiter.decorateAsync(pending(new CompletableFuture<>())).apply(2);
+            first.complete(success(1));
+            assertEquals(5, limiter.limit());
+        }
+
+        @Test
+        void test_capped_at_max() {
+            var limiter = limiter(1, 2);
+            var twice = limiter.<Integer, Integer>decorate(i -> success(i * 2));
+            assertSuccessEquals(2, twice.apply(1));
+            assertEquals(2, limiter.limit());
+            assertSuccessEquals(4, twice.apply(2));
+            assertSuccessEquals(6, twice.apply(3));
+            assertEquals(2, limiter.limit());
+        }
+
+        @Test
+        void test_latency_at_threshold_is_healthy() {
+            var limiter = limiter(1, 2);
+            limiter.<Integer, Integer>decorate(i -> {
+                clock.advance(100);
+                return success(i);
+            }).apply(1);
+            assertEquals(2, limiter.limit());
+        }
+    }
+
+    @Nested
+    class Decrease {
+        @Test
+        void test_backs_off_on_failure() {
+            var limiter = limiter(10, 10);
+            var fail = limiter.<Integer, Integer>decorate(i -> failure("nope"));
+            assertFailureEquals("nope", fail.apply(1));
+            assertEquals(5, limiter.limit());
+            fail.apply(2);
+            fail.apply(3);
+            assertEquals(1, limiter.limit());
+            fail.apply(4);
+            assertEquals(1, limiter.limit());
+        }
+
+        @Test
+        void test_respects_min_limit() {
+            var limiter = limiter(AdaptiveLimit.of(10, 10, Duration.ofNanos(100)).withMinLimit(4).withBackoffRatio(0.5));
+            var fail = limiter.<Integer, Integer>decorate(i -> failure("nope"));
+            fail.apply(1);
+            fail.apply(2);
+            assertEquals(4, limiter.limit());
+        }
+
+        @Test
+        void test_backs_off_on_latency() {
+            var limiter = limiter(10, 10);
+            var pending = new CompletableFuture<Result<Integer, String>>();
+            var result = limiter.decorateAsync(pending(pending)).apply(1);
+            clock.advance(101);
+            pending.complete(success(1));
+            assertSuccessEquals(1, result.join());
+            assertEquals(5, limiter.limit());
+        }
+
+        @Test
+        void test_backs_off_on_sync_latency() {
+            var limiter = limiter(10, 10);
+            limiter.<Integer, Integer>decorate(i -> {
+                clock.advance(101);
+                return success(i);
+            }).apply(1);
+            assertEquals(5, limiter.limit());
+        }
+
+        @Test
+        void test_backs_off_on_exception() {
+            var limiter = limiter(10, 10);
+            var fail = limiter.<String, Integer>decorate(s -> {
+                throw new IllegalStateException(s);
+            });
+            assertThrows(IllegalStateException.class, () -> fail.apply("boom"));
+            assertEquals(5, limiter.limit());
+            assertEquals(0, limiter.inFlight());
+        }
+
+        @Test
+        void test_backs_off_on_async_exception() {
+            var limiter = limiter(10, 10);
+            var fail = limiter.<String, Integer>decorateAsync(s -> {
+                throw new IllegalStateException(s);
+            });
+            assertThrows(IllegalStateException.class, () -> fail.apply("boom"));
+            assertEquals(5, limiter.limit());
+            assertEquals(0, limiter.inFlight());
+        }
+
+        @Test
+        void test_backs_off_on_exceptional_completion() {
+            var limiter = limiter(10, 10);
+            var fail = limiter.<String, Integer>decorateAsync(s -> CompletableFuture.failedFuture(new IllegalStateException(s)));
+            assertThrows(CompletionException.class, () -> fail.apply("boom").join());
+            assertEquals(5, limiter.limit());
+        }
+
+        @Test
+        void test_backs_off_on_async_failure() {
+            var limiter = limiter(10, 10);
+            var fail = limiter.<String, Integer>decorateAsync(s -> CompletableFuture.completedFuture(failure(s)));
+            assertFailureEquals("nope", fail.apply("nope").join());
+            assertEquals(5, limiter.limit());
+        }
+
+        @Test
+        void test_backs_off_on_error() {
+            var limiter = limiter(10, 10);
+            var fail = limiter.<String, Integer>decorate(s -> {
+                throw new AssertionError(s);
+            });
+            assertThrows(AssertionError.class, () -> fail.apply("boom"));
+            assertEquals(5, limiter.limit());
+            assertEquals(0, limiter.inFlight());
+        }
+
+        @Test
+        void test_backs_off_on_async_error() {
+            var limiter = limiter(10, 10);
+            var fail = limiter.<String, Integer>decorateAsync(s -> {
+                throw new AssertionError(s);
+            });
+            assertThrows(AssertionError.class, () -> fail.apply("boom"));
+            assertEquals(5, limiter.limit());
+            assertEquals(0, limiter.inFlight());
+        }
+
+        @Test
+        void test_backs_off_on_null_result() {
+            var limiter = limiter(10, 10);
+            var fail = limiter.<String, Integer>decorate(s -> null);
+            assertNull(fail.apply("1"));
+            assertEquals(5, limiter.limit());
+            assertEquals(0, limiter.inFlight());
+        }
+
+        @Test
+        void test_backs_off_on_null_future() {
+            var limiter = limiter(10, 10);
+            var fail = limiter.<String, Integer>decorateAsync(s -> null);
+            assertThrows(NullPointerException.class, () -> fail.apply("1"));
+            assertEquals(5, limiter.limit());
+            assertEquals(0, limiter.inFlight());
+        }
+
+        @Test
+        void test_backs_off_on_future_of_null() {
+            var limiter = limiter(10, 10);
+            var fail = limiter.<String, Integer>decorateAsync(s -> CompletableFuture.completedFuture(null));
+            assertNull(fail.apply("1").join());
+            assertEquals(5, limiter.limit());
+            assertEquals(0, limiter.inFlight());
+        }
+    }
+}
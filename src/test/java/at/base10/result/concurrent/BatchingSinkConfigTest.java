@@ -0,0 +1,56 @@
+package at.base10.result.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BatchingSinkConfigTest {
+    private final Duration maxDelay = Duration.ofMillis(10);
+    private BatchingSinkConfig config(int maxBatchSize, Duration maxDelay, int capacity, Duration maxWait) {
+        return new BatchingSinkConfig(maxBatchSize, maxDelay, capacity, maxWait);
+    }
+
+    @Test
+    void test_of_defaults() {
+        var config = BatchingSinkConfig.of(5, maxDelay, 20);
+        assertEquals(5, config.maxBatchSize());
+        assertSame(maxDelay, config.maxDelay());
+        assertEquals(20, config.capacity());
+        assertEquals(Duration.ZERO, config.maxWait());
+    }
+
+    @Test
+    void test_with_max_wait() {
+        var config = BatchingSinkConfig.of(5, maxDelay, 20);
+        assertEquals(config(5, maxDelay, 20, Duration.ofSeconds(1)), config.withMaxWait(Duration.ofSeconds(1)));
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        assertThrows(NullPointerException.class, () -> config(1, null, 1, Duration.ZERO));
+        assertThrows(NullPointerException.class, () -> config(1, maxDelay, 1, null));
+    }
+
+    @Test
+    void test_size_bounds() {
+        var error = assertThrows(IllegalArgumentException.class, () -> config(0, maxDelay, 1, Duration.ZERO));
+        assertEquals("maxBatchSize must be positive and at most capacity but was 0 of 1", error.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> config(3, maxDelay, 2, Duration.ZERO));
+        assertDoesNotThrow(() -> config(1, maxDelay, 1, Duration.ZERO));
+        assertDoesNotThrow(() -> config(2, maxDelay, 2, Duration.ZERO));
+    }
+
+    @Test
+    void test_duration_bounds() {
+        var error = assertThrows(IllegalArgumentException.class, () -> config(1, Duration.ZERO, 1, Duration.ZERO));
+        assertEquals("maxDelay must be positive and maxWait not negative but were PT0S and PT0S", error.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> config(1, maxDelay, 1, Duration.ofNanos(-1)));
+        assertDoesNotThrow(() -> config(1, Duration.ofNanos(1), 1, Duration.ZERO));
+    }
+}
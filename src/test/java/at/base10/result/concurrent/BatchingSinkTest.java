@@ -0,0 +1,319 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static at.base10.result.Assert.assertFailureEquals;
+import static at.base10.result.Assert.assertSuccessEquals;
+import static at.base10.result.Result.failure;
+import static at.base10.result.Result.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchingSinkTest {
+    private static final Duration LONG = Duration.ofHours(1);
+
+    private final BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+    private final List<List<Integer>> batches = new ArrayList<>();
+    private final Function<List<Integer>, List<Result<String, String>>> writer = values -> {
+        batches.add(values);
+        return values.stream().map(value -> value < 0 ? Result.<String, String>failure("negative " + value) : Result.<String, String>success("id-" + value)).toList();
+    };
+
+    private BatchingSink<Integer, String, String> sink(int maxBatchSize, Duration maxDelay, int capacity) {
+        return BatchingSink.of(BatchingSinkConfig.of(maxBatchSize, maxDelay, capacity), tasks::add).writing(writer, e -> "mapped " + e.getMessage());
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        var config = BatchingSinkConfig.of(1, LONG, 1);
+        assertThrows(NullPointerException.class, () -> BatchingSink.of(null, tasks::add));
+        assertThrows(NullPointerException.class, () -> BatchingSink.of(config, null));
+        var unwritten = BatchingSink.of(config, tasks::add);
+        assertThrows(NullPointerException.class, () -> unwritten.writing(null, RuntimeException::getMessage));
+        assertThrows(NullPointerException.class, () -> unwritten.writing(writer, null));
+        assertThrows(NullPointerException.class, () -> sink(1, LONG, 1).submit(null));
+    }
+
+    @Test
+    void test_full_batch_is_written_on_the_executor() {
+        var sink = sink(3, LONG, 10);
+        var first = sink.submit(success(1));
+        var second = sink.submit(success(-2));
+        assertTrue(tasks.isEmpty());
+        var third = sink.submit(success(3));
+        assertEquals(1, tasks.size());
+        assertEquals(3, sink.pending());
+        tasks.remove().run();
+        assertEquals(List.of(List.of(1, -2, 3)), batches);
+        assertSuccessEquals("id-1", first.join());
+        assertFailureEquals("negative -2", second.join());
+        assertSuccessEquals("id-3", third.join());
+        assertEquals(0, sink.pending());
+    }
+
+    @Test
+    void test_failures_are_not_written() {
+        var sink = sink(1, LONG, 1);
+        assertFailureEquals("invalid", sink.submit(failure("invalid")).join());
+        assertEquals(0, sink.pending());
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    void test_partial_batch_is_written_after_max_delay() throws InterruptedException {
+        var sink = sink(3, Duration.ofMillis(20), 10);
+        var outcome = sink.submit(success(1));
+        Runnable flush = tasks.poll(10, TimeUnit.SECONDS);
+        assertNotNull(flush);
+        sink.submit(success(2));
+        assertNull(tasks.poll(100, TimeUnit.MILLISECONDS));
+        assertFalse(outcome.isDone());
+        flush.run();
+        assertSuccessEquals("id-1", outcome.join());
+        assertEquals(List.of(List.of(1, 2)), batches);
+    }
+
+    @Test
+    void test_partial_batch_waits_for_max_delay() throws InterruptedException {
+        var sink = sink(3, LONG, 10);
+        sink.submit(success(1));
+        assertNull(tasks.poll(50, TimeUnit.MILLISECONDS));
+        assertEquals(List.of(), batches);
+    }
+
+    @Test
+    void test_flush_writes_everything_in_batches() {
+        var sink = sink(2, LONG, 10);
+        for (int i = 0; i < 5; i++) {
+            sink.submit(success(i));
+        }
+        sink.flush();
+        assertEquals(List.of(List.of(0, 1), List.of(2, 3), List.of(4)), batches);
+        assertEquals(0, sink.pending());
+        tasks.remove().run();
+        assertEquals(3, batches.size());
+    }
+
+    @Test
+    void test_rejects_when_at_capacity() {
+        var sink = sink(2, LONG, 2);
+        sink.submit(success(1));
+        sink.submit(success(2));
+        assertEquals(2, sink.pending());
+        assertFailureEquals("mapped sink is at capacity", sink.submit(success(3)).join());
+        tasks.remove().run();
+        assertEquals(0, sink.pending());
+        var accepted = sink.submit(success(4));
+        sink.flush();
+        assertSuccessEquals("id-4", accepted.join());
+    }
+
+    @Test
+    void test_waits_for_room() throws InterruptedException {
+        var sink = BatchingSink.of(BatchingSinkConfig.of(1, LONG, 1).withMaxWait(Duration.ofSeconds(10)), tasks::add)
+                .writing(writer, RuntimeException::getMessage);
+        sink.submit(success(1));
+        var submitted = new CountDownLatch(1);
+        var outcome = new AtomicReference<CompletableFuture<Result<String, String>>>();
+        var waiting = new Thread(() -> {
+            outcome.set(sink.submit(success(2)));
+            submitted.countDown();
+        });
+        waiting.start();
+        assertFalse(submitted.await(50, TimeUnit.MILLISECONDS));
+        tasks.remove().run();
+        assertTrue(submitted.await(10, TimeUnit.SECONDS));
+        sink.flush();
+        assertSuccessEquals("id-2", outcome.get().join());
+    }
+
+    @Test
+    void test_interrupted_while_waiting_is_rejected() {
+        var sink = BatchingSink.of(BatchingSinkConfig.of(1, LONG, 1).withMaxWait(Duration.ofSeconds(10)), tasks::add)
+                .writing(writer, RuntimeException::getMessage);
+        sink.submit(success(1));
+        Thread.currentThread().interrupt();
+        try {
+            assertFailureEquals("sink is at capacity", sink.submit(success(2)).join());
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void test_writer_exception_fails_the_batch() {
+        var sink = BatchingSink.of(BatchingSinkConfig.of(2, LONG, 2), tasks::add).<Integer, String, String>writing(values -> {
+            throw new IllegalStateException("down");
+        }, e -> "mapped " + e.getMessage());
+        var first = sink.submit(success(1));
+        var second = sink.submit(success(2));
+        tasks.remove().run();
+        assertFailureEquals("mapped down", first.join());
+        assertFailureEquals("mapped down", second.join());
+        assertEquals(0, sink.pending());
+    }
+
+    @Test
+    void test_writer_error_completes_the_batch_exceptionally() {
+        var error = new AssertionError("fatal");
+        var sink = BatchingSink.of(BatchingSinkConfig.of(2, LONG, 2), tasks::add).<Integer, String, String>writing(values -> {
+            throw error;
+        }, e -> "mapped " + e.getMessage());
+        var first = sink.submit(success(1));
+        var second = sink.submit(success(2));
+        tasks.remove().run();
+        assertSame(error, assertThrows(CompletionException.class, first::join).getCause());
+        assertSame(error, assertThrows(CompletionException.class, second::join).getCause());
+        assertEquals(0, sink.pending());
+    }
+
+    @Test
+    void test_exception_mapper_exception_completes_the_batch_exceptionally() {
+        var mapper = new IllegalArgumentException("mapper");
+        var sink = BatchingSink.of(BatchingSinkConfig.of(1, LONG, 1), tasks::add).<Integer, String, String>writing(values -> {
+            throw new IllegalStateException("down");
+        }, e -> {
+            throw mapper;
+        });
+        var outcome = sink.submit(success(1));
+        tasks.remove().run();
+        assertSame(mapper, assertThrows(CompletionException.class, outcome::join).getCause());
+        assertEquals(0, sink.pending());
+        var accepted = sink.submit(success(2));
+        assertEquals(1, sink.pending());
+        assertFalse(accepted.isDone());
+    }
+
+    @Test
+    void test_rejected_full_batch_withdraws_the_value() {
+        var accepting = new AtomicBoolean(true);
+        var sink = BatchingSink.of(BatchingSinkConfig.of(2, LONG, 10), task -> {
+            if (!accepting.get()) {
+                throw new RejectedExecutionException("rejected");
+            }
+            tasks.add(task);
+        }).writing(writer, e -> "mapped " + e.getMessage());
+        var first = sink.submit(success(1));
+        accepting.set(false);
+        assertFailureEquals("mapped rejected", sink.submit(success(2)).join());
+        assertEquals(1, sink.pending());
+        accepting.set(true);
+        var third = sink.submit(success(3));
+        tasks.remove().run();
+        assertEquals(List.of(List.of(1, 3)), batches);
+        assertSuccessEquals("id-1", first.join());
+        assertSuccessEquals("id-3", third.join());
+        assertEquals(0, sink.pending());
+    }
+
+    @Test
+    void test_rejection_after_the_batch_was_written_keeps_the_outcome() {
+        var sink = BatchingSink.of(BatchingSinkConfig.of(1, LONG, 1), task -> {
+            task.run();
+            throw new RejectedExecutionException("rejected");
+        }).writing(writer, e -> "mapped " + e.getMessage());
+        assertSuccessEquals("id-1", sink.submit(success(1)).join());
+        assertEquals(0, sink.pending());
+    }
+
+    @Test
+    void test_rejected_delayed_write_fails_the_queued_values() throws Exception {
+        var sink = BatchingSink.of(BatchingSinkConfig.of(10, Duration.ofMillis(1), 10), task -> {
+            throw new RejectedExecutionException("rejected");
+        }).writing(writer, e -> "mapped " + e.getMessage());
+        var first = sink.submit(success(1));
+        var second = sink.submit(success(2));
+        assertFailureEquals("mapped rejected", first.get(10, TimeUnit.SECONDS));
+        assertFailureEquals("mapped rejected", second.get(10, TimeUnit.SECONDS));
+        assertEquals(List.of(), batches);
+    }
+
+    @Test
+    void test_writer_returning_wrong_number_of_outcomes_fails_the_batch() {
+        var sink = BatchingSink.of(BatchingSinkConfig.of(2, LONG, 2), tasks::add)
+                .<Integer, String, String>writing(values -> List.of(success("only one")), e -> "mapped " + e.getMessage());
+        var first = sink.submit(success(1));
+        var second = sink.submit(success(2));
+        tasks.remove().run();
+        assertFailureEquals("mapped writer returned 1 outcomes for 2 values", first.join());
+        assertFailureEquals("mapped writer returned 1 outcomes for 2 values", second.join());
+    }
+
+    @Test
+    void test_each_batch_starts_a_new_delay() throws InterruptedException {
+        var sink = sink(2, Duration.ofMillis(10), 10);
+        sink.submit(success(1));
+        sink.submit(success(2));
+        sink.flush();
+        sink.submit(success(3));
+        var written = new AtomicBoolean();
+        for (int i = 0; i < 3 && !written.get(); i++) {
+            Runnable task = tasks.poll(10, TimeUnit.SECONDS);
+            assertNotNull(task);
+            task.run();
+            written.set(batches.size() == 2);
+        }
+        assertEquals(List.of(List.of(1, 2), List.of(3)), batches);
+    }
+
+    @Test
+    void test_many_submitters() throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<List<Integer>> written = new ArrayList<>();
+            var sink = BatchingSink.of(BatchingSinkConfig.of(16, Duration.ofMillis(5), 64).withMaxWait(Duration.ofSeconds(10)), pool)
+                    .<Integer, Integer, String>writing(values -> {
+                        synchronized (written) {
+                            written.add(values);
+                        }
+                        return values.stream().map(Result::<Integer, String>success).toList();
+                    }, RuntimeException::getMessage);
+            List<CompletableFuture<CompletableFuture<Result<Integer, String>>>> submissions = new ArrayList<>();
+            ExecutorService submitters = Executors.newFixedThreadPool(4);
+            try {
+                for (int i = 0; i < 1_000; i++) {
+                    int value = i;
+                    submissions.add(CompletableFuture.supplyAsync(() -> sink.submit(success(value)), submitters));
+                }
+                for (int i = 0; i < 1_000; i++) {
+                    assertSuccessEquals(i, submissions.get(i).join().get(10, TimeUnit.SECONDS));
+                }
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            } finally {
+                submitters.shutdown();
+            }
+            synchronized (written) {
+                assertEquals(1_000, written.stream().mapToInt(List::size).sum());
+                assertTrue(written.stream().allMatch(batch -> batch.size() <= 16));
+            }
+            assertEquals(0, sink.pending());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Result;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static at.base10.result.Assert.assertFailureEquals;
+import static at.base10.result.Assert.assertSuccessEquals;
+import static at.base10.result.Result.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BulkheadTest {
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        assertThrows(NullPointerException.class, () -> Bulkhead.of(1, null));
+        assertThrows(NullPointerException.class, () -> Bulkhead.of(1, null, () -> "full"));
+        assertThrows(NullPointerException.class, () -> Bulkhead.of(1, Duration.ZERO, null));
+        assertThrows(NullPointerException.class, () -> Bulkhead.of(1, () -> "full").decorate(null));
+        assertThrows(NullPointerException.class, () -> Bulkhead.of(1, () -> "full").decorateAsync(null));
+    }
+
+    @Test
+    void test_invalid_arguments() {
+        var error = assertThrows(IllegalArgumentException.class, () -> Bulkhead.of(0, () -> "full"));
+        assertEquals("invalid bulkhead of 0 calls waiting PT0S", error.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> Bulkhead.of(1, Duration.ofNanos(-1), () -> "full"));
+    }
+
+    @Test
+    void test_metrics_of_new_bulkhead() {
+        var bulkhead = Bulkhead.of(3, () -> "full");
+        assertEquals(3, bulkhead.maxConcurrentCalls());
+        assertEquals(0, bulkhead.inFlight());
+        assertEquals(0, bulkhead.rejections());
+    }
+
+    @Nested
+    class Sync {
+        @Test
+        void test_passes_results_through() {
+            var bulkhead = Bulkhead.of(1, () -> "full");
+            var twice = bulkhead.<Integer, Integer>decorate(i -> {
+                assertEquals(1, bulkhead.inFlight());
+                return success(i * 2);
+            });
+            assertSuccessEquals(2, twice.apply(1));
+            assertSuccessEquals(4, twice.apply(2));
+            assertEquals(0, bulkhead.inFlight());
+        }
+
+        @Test
+        void test_rejects_when_saturated() {
+            var bulkhead = Bulkhead.of(1, () -> "full");
+            var inner = bulkhead.<Integer, Integer>decorate(Result::success);
+            var outer = bulkhead.<Integer, Integer>decorate(inner::apply);
+            assertFailureEquals("full", outer.apply(1));
+            assertEquals(1, bulkhead.rejections());
+            assertEquals(0, bulkhead.inFlight());
+        }
+
+        @Test
+        void test_releases_on_exception() {
+            var bulkhead = Bulkhead.of(1, () -> "full");
+            var fail = bulkhead.<String, Integer>decorate(s -> {
+                throw new IllegalStateException(s);
+            });
+            assertThrows(IllegalStateException.class, () -> fail.apply("boom"));
+            assertEquals(0, bulkhead.inFlight());
+        }
+
+        @Test
+        void test_releases_on_error() {
+            var bulkhead = Bulkhead.of(1, () -> "full");
+            var fail = bulkhead.<String, Integer>decorate(s -> {
+                throw new AssertionError(s);
+            });
+            assertThrows(AssertionError.class, () -> fail.apply("boom"));
+            assertEquals(0, bulkhead.inFlight());
+        }
+
+        @Test
+        void test_interrupted_caller_is_rejected() {
+            var bulkhead = Bulkhead.of(1, Duration.ofSeconds(10), () -> "full");
+            var inner = bulkhead.<Integer, Integer>decorate(Result::success);
+            var outer = bulkhead.<Integer, Integer>decorate(i -> {
+                Thread.currentThread().interrupt();
+                return inner.apply(i);
+            });
+            assertFailureEquals("full", outer.apply(1));
+            assertTrue(Thread.interrupted());
+            assertEquals(0, bulkhead.inFlight());
+        }
+    }
+
+    @Nested
+    class Async {
+        @Test
+        void test_permit_is_held_until_completion() {
+            var bulkhead = Bulkhead.of(1, () -> "full");
+            var pending = new CompletableFuture<Result<Integer, String>>();
+            var lookup = bulkhead.<Integer, Integer>decorateAsync(i -> pending);
+            var result = lookup.apply(1);
+            assertEquals(1, bulkhead.inFlight());
+            var rejected = lookup.apply(2);
+            assertTrue(rejected.isDone());
+            assertFailureEquals("full", rejected.join());
+            assertEquals(1, bulkhead.rejections());
+            pending.complete(success(1));
+            assertSuccessEquals(1, result.join());
+            assertEquals(0, bulkhead.inFlight());
+        }
+
+        @Test
+        void test_releases_on_exceptional_completion() {
+            var bulkhead = Bulkhead.of(1, () -> "full");
+            var lookup = bulkhead.<String, Integer>decorateAsync(s -> CompletableFuture.failedFuture(new IllegalStateException(s)));
+            assertThrows(CompletionException.class, () -> lookup.apply("boom").join());
+            assertEquals(0, bulkhead.inFlight());
+        }
+
+        @Test
+        void test_releases_on_exception() {
+            var bulkhead = Bulkhead.of(1, () -> "full");
+            var lookup = bulkhead.<String, Integer>decorateAsync(s -> {
+                throw new IllegalStateException(s);
+            });
+            assertThrows(IllegalStateException.class, () -> lookup.apply("boom"));
+            assertEquals(0, bulkhead.inFlight());
+        }
+
+        @Test
+        void test_releases_on_error() {
+            var bulkhead = Bulkhead.of(1, () -> "full");
+            var lookup = bulkhead.<String, Integer>decorateAsync(s -> {
+                throw new AssertionError(s);
+            });
+            assertThrows(AssertionError.class, () -> lookup.apply("boom"));
+            assertEquals(0, bulkhead.inFlight());
+        }
+
+        @Test
+        void test_releases_on_null_future() {
+            var bulkhead = Bulkhead.of(1, () -> "full");
+            var lookup = bulkhead.<String, Integer>decorateAsync(s -> null);
+            assertThrows(NullPointerException.class, () -> lookup.apply("1"));
+            assertEquals(0, bulkhead.inFlight());
+        }
+    }
+
+    @Nested
+    class BoundedWait {
+        @Test
+        void test_waits_for_permit() throws Exception {
+            var bulkhead = Bulkhead.of(1, Duration.ofSeconds(10), () -> "full");
+            var pending = new CompletableFuture<Result<Integer, String>>();
+            bulkhead.<Integer, Integer>decorateAsync(i -> pending).apply(1);
+            var waiting = CompletableFuture.supplyAsync(() -> bulkhead.<Integer, Integer>decorate(Result::success).apply(2));
+            Thread.sleep(50);
+            assertFalse(waiting.isDone());
+            pending.complete(success(1));
+            assertSuccessEquals(2, waiting.join());
+            assertEquals(0, bulkhead.rejections());
+        }
+
+        @Test
+        void test_rejects_after_max_wait() {
+            var bulkhead = Bulkhead.of(1, Duration.ofMillis(20), () -> "full");
+            bulkhead.<Integer, Integer>decorateAsync(i -> new CompletableFuture<>()).apply(1);
+            long start = System.nanoTime();
+            assertFailureEquals("full", bulkhead.<Integer, Integer>decorate(Result::success).apply(2));
+            assertTrue(System.nanoTime() - start >= Duration.ofMillis(20).toNanos());
+            assertEquals(1, bulkhead.rejections());
+        }
+    }
+}
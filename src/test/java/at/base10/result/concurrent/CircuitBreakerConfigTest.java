@@ -0,0 +1,59 @@
+package at.base10.result.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CircuitBreakerConfigTest {
+    private final Supplier<SlidingWindow> window = () -> SlidingWindow.ofCalls(10);
+    private final Duration openDuration = Duration.ofSeconds(1);
+
+    private CircuitBreakerConfig config(double threshold, int minimumCalls, int halfOpenCalls) {
+        return new CircuitBreakerConfig(window, threshold, minimumCalls, openDuration, halfOpenCalls);
+    }
+
+    @Test
+    void test_of_defaults() {
+        var config = CircuitBreakerConfig.of(window, 0.5, openDuration);
+        assertSame(window, config.windowFactory());
+        assertEquals(0.5, config.failureRateThreshold());
+        assertEquals(1, config.minimumCalls());
+        assertSame(openDuration, config.openDuration());
+        assertEquals(1, config.halfOpenCalls());
+    }
+
+    @Test
+    void test_withers() {
+        var config = config(0.5, 1, 1);
+        assertEquals(config(0.5, 7, 1), config.withMinimumCalls(7));
+        assertEquals(config(0.5, 1, 3), config.withHalfOpenCalls(3));
+    }
+
+    @Test
+    void test_threshold_bounds() {
+        assertThrows(IllegalArgumentException.class, () -> config(0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> config(Math.nextUp(1.0), 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> config(Double.NaN, 1, 1));
+        assertDoesNotThrow(() -> config(1, 1, 1));
+        assertDoesNotThrow(() -> config(Double.MIN_VALUE, 1, 1));
+    }
+
+    @Test
+    void test_call_bounds() {
+        assertThrows(IllegalArgumentException.class, () -> config(0.5, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> config(0.5, 1, 0));
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        assertThrows(NullPointerException.class, () -> new CircuitBreakerConfig(null, 0.5, 1, openDuration, 1));
+        assertThrows(NullPointerException.class, () -> new CircuitBreakerConfig(window, 0.5, 1, null, 1));
+    }
+}
@@ -0,0 +1,307 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Result;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static at.base10.result.Assert.assertFailureEquals;
+import static at.base10.result.Assert.assertSuccessEquals;
+import static at.base10.result.Result.failure;
+import static at.base10.result.Result.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CircuitBreakerTest {
+    private final ManualClock clock = new ManualClock(1_000);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private CircuitBreaker<String> breaker(SlidingWindow window, double threshold) {
+        return new CircuitBreaker<>(CircuitBreakerConfig.of(() -> window, threshold, Duration.ofNanos(100)), () -> "open", clock);
+    }
+
+    private CircuitBreaker<String> breaker() {
+        return breaker(SlidingWindow.ofCalls(2), 0.5);
+    }
+
+    private Result<Integer, String> parse(String value) {
+        calls.incrementAndGet();
+        return value.chars().allMatch(Character::isDigit) ? success(Integer.parseInt(value)) : failure("'" + value + "' is not a number");
+    }
+
+    private Function<String, Result<Integer, String>> open(CircuitBreaker<String> breaker) {
+        var parse = breaker.decorate(this::parse);
+        parse.apply("X");
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        calls.set(0);
+        return parse;
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        var config = CircuitBreakerConfig.of(() -> SlidingWindow.ofCalls(2), 0.5, Duration.ofNanos(100));
+        assertThrows(NullPointerException.class, () -> CircuitBreaker.of(null, () -> "open"));
+        assertThrows(NullPointerException.class, () -> CircuitBreaker.of(config, null));
+        assertThrows(NullPointerException.class, () -> breaker().decorate(null));
+        assertThrows(NullPointerException.class, () -> breaker().decorateAsync(null));
+    }
+
+    @Test
+    void test_breakers_sharing_a_config_keep_their_own_window() {
+        var config = CircuitBreakerConfig.of(() -> SlidingWindow.ofCalls(2), 0.5, Duration.ofNanos(100));
+        var failing = new CircuitBreaker<>(config, () -> "open", clock);
+        var healthy = new CircuitBreaker<>(config.withHalfOpenCalls(2), () -> "open", clock);
+        failing.decorate(this::parse).apply("X");
+        assertEquals(CircuitBreaker.State.OPEN, failing.state());
+        assertEquals(new SlidingWindow.Snapshot(1, 1), failing.snapshot());
+        assertEquals(CircuitBreaker.State.CLOSED, healthy.state());
+        assertEquals(new SlidingWindow.Snapshot(0, 0), healthy.snapshot());
+    }
+
+    @Test
+    void test_of_opens_on_system_clock() {
+        var breaker = CircuitBreaker.of(CircuitBreakerConfig.of(() -> SlidingWindow.ofCalls(2), 0.5, Duration.ofHours(1)), () -> "open");
+        var parse = breaker.decorate(this::parse);
+        assertFailureEquals("'X' is not a number", parse.apply("X"));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFailureEquals("open", parse.apply("1"));
+        assertEquals(1, calls.get());
+    }
+
+    @Nested
+    class Closed {
+        @Test
+        void test_passes_results_through() {
+            var breaker = breaker(SlidingWindow.ofCalls(4), 0.5);
+            var parse = breaker.decorate(CircuitBreakerTest.this::parse);
+            assertSuccessEquals(1, parse.apply("1"));
+            assertSuccessEquals(2, parse.apply("2"));
+            assertFailureEquals("'X' is not a number", parse.apply("X"));
+            assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+            assertEquals(new SlidingWindow.Snapshot(3, 1), breaker.snapshot());
+            assertEquals(3, calls.get());
+        }
+
+        @Test
+        void test_stays_closed_over_time() {
+            var breaker = breaker();
+            clock.advance(1_000);
+            assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        }
+
+        @Test
+        void test_records_at_clock_time() {
+            var breaker = breaker(SlidingWindow.ofTime(Duration.ofNanos(30), 3), 1);
+            var parse = breaker.decorate(CircuitBreakerTest.this::parse);
+            parse.apply("1");
+            assertEquals(new SlidingWindow.Snapshot(1, 0), breaker.snapshot());
+            clock.advance(1_000);
+            assertEquals(new SlidingWindow.Snapshot(0, 0), breaker.snapshot());
+        }
+
+        @Test
+        void test_opens_at_threshold() {
+            var breaker = breaker(SlidingWindow.ofCalls(4), 0.5);
+            var parse = breaker.decorate(CircuitBreakerTest.this::parse);
+            parse.apply("1");
+            parse.apply("X");
+            assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        }
+
+        @Test
+        void test_waits_for_minimum_calls() {
+            var breaker = new CircuitBreaker<>(CircuitBreakerConfig.of(() -> SlidingWindow.ofCalls(4), 1, Duration.ofNanos(100)).withMinimumCalls(3), () -> "open", clock);
+            var parse = breaker.decorate(CircuitBreakerTest.this::parse);
+            parse.apply("X");
+            parse.apply("Y");
+            assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+            parse.apply("Z");
+            assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        }
+
+        @Test
+        void test_exception_counts_as_failure() {
+            var breaker = breaker();
+            var fail = breaker.<String, Integer>decorate(s -> {
+                throw new IllegalStateException(s);
+            });
+            var error = assertThrows(IllegalStateException.class, () -> fail.apply("boom"));
+            assertEquals("boom", error.getMessage());
+            assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        }
+    }
+
+    @Nested
+    class Open {
+        @Test
+        void test_rejects_without_calling() {
+            var breaker = breaker();
+            var parse = open(breaker);
+            assertFailureEquals("open", parse.apply("1"));
+            assertEquals(0, calls.get());
+            assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        }
+
+        @Test
+        void test_half_opens_after_open_duration() {
+            var breaker = breaker();
+            var parse = open(breaker);
+            clock.advance(99);
+            assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+            assertFailureEquals("open", parse.apply("1"));
+            clock.advance(1);
+            assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        }
+    }
+
+    @Nested
+    class HalfOpen {
+        @Test
+        void test_successful_trial_closes() {
+            var breaker = breaker();
+            var parse = open(breaker);
+            clock.advance(100);
+            assertSuccessEquals(1, parse.apply("1"));
+            assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+            assertEquals(new SlidingWindow.Snapshot(0, 0), breaker.snapshot());
+            assertSuccessEquals(2, parse.apply("2"));
+            assertEquals(new SlidingWindow.Snapshot(1, 0), breaker.snapshot());
+        }
+
+        @Test
+        void test_failed_trial_opens_again() {
+            var breaker = breaker();
+            var parse = open(breaker);
+            clock.advance(100);
+            assertFailureEquals("'X' is not a number", parse.apply("X"));
+            assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+            clock.advance(99);
+            assertFailureEquals("open", parse.apply("1"));
+            assertEquals(1, calls.get());
+        }
+
+        @Test
+        void test_error_fails_trial() {
+            var breaker = breaker();
+            open(breaker);
+            clock.advance(100);
+            var fail = breaker.<String, Integer>decorate(s -> {
+                throw new AssertionError(s);
+            });
+            assertThrows(AssertionError.class, () -> fail.apply("boom"));
+            assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        }
+
+        @Test
+        void test_error_before_future_fails_trial() {
+            var breaker = breaker();
+            open(breaker);
+            clock.advance(100);
+            var fail = breaker.<String, Integer>decorateAsync(s -> {
+                throw new AssertionError(s);
+            });
+            assertThrows(AssertionError.class, () -> fail.apply("boom"));
+            assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        }
+
+        @Test
+        void test_null_future_fails_trial() {
+            var breaker = breaker();
+            open(breaker);
+            clock.advance(100);
+            var lookup = breaker.<String, Integer>decorateAsync(s -> null);
+            assertThrows(NullPointerException.class, () -> lookup.apply("1"));
+            assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        }
+
+        @Test
+        void test_limits_trials() {
+            var breaker = new CircuitBreaker<>(CircuitBreakerConfig.of(() -> SlidingWindow.ofCalls(2), 0.5, Duration.ofNanos(100)).withHalfOpenCalls(2), () -> "open", clock);
+            var pending = new CompletableFuture<Result<Integer, String>>();
+            var lookup = breaker.<String, Integer>decorateAsync(s -> s.equals("pending") ? pending : CompletableFuture.completedFuture(parse(s)));
+            lookup.apply("X");
+            clock.advance(100);
+            var first = lookup.apply("pending");
+            assertSuccessEquals(2, lookup.apply("2").join());
+            assertFailureEquals("open", lookup.apply("3").join());
+            assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+            pending.complete(success(1));
+            assertSuccessEquals(1, first.join());
+            assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        }
+    }
+
+    @Nested
+    class Async {
+        @Test
+        void test_records_when_future_completes() {
+            var breaker = breaker();
+            var pending = new CompletableFuture<Result<Integer, String>>();
+            var lookup = breaker.<String, Integer>decorateAsync(s -> pending);
+            var result = lookup.apply("1");
+            assertEquals(new SlidingWindow.Snapshot(0, 0), breaker.snapshot());
+            pending.complete(success(1));
+            assertSuccessEquals(1, result.join());
+            assertEquals(new SlidingWindow.Snapshot(1, 0), breaker.snapshot());
+        }
+
+        @Test
+        void test_failure_opens() {
+            var breaker = breaker();
+            var lookup = breaker.<String, Integer>decorateAsync(s -> CompletableFuture.completedFuture(parse(s)));
+            assertFailureEquals("'X' is not a number", lookup.apply("X").join());
+            assertFailureEquals("open", lookup.apply("1").join());
+            assertEquals(1, calls.get());
+        }
+
+        @Test
+        void test_exceptional_completion_opens() {
+            var breaker = breaker();
+            var lookup = breaker.<String, Integer>decorateAsync(s -> CompletableFuture.failedFuture(new IllegalStateException(s)));
+            assertThrows(CompletionException.class, () -> lookup.apply("boom").join());
+            assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        }
+
+        @Test
+        void test_exception_before_future_opens() {
+            var breaker = breaker();
+            var lookup = breaker.<String, Integer>decorateAsync(s -> {
+                throw new IllegalStateException(s);
+            });
+            assertThrows(IllegalStateException.class, () -> lookup.apply("boom"));
+            assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        }
+
+        @Test
+        void test_outcome_of_previous_closed_phase_is_ignored() {
+            var breaker = breaker();
+            var pending = new CompletableFuture<Result<Integer, String>>();
+            var lookup = breaker.<String, Integer>decorateAsync(s -> s.equals("pending") ? pending : CompletableFuture.completedFuture(parse(s)));
+            var stale = lookup.apply("pending");
+            lookup.apply("X");
+            clock.advance(100);
+            lookup.apply("1");
+            assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+            pending.complete(failure("late"));
+            assertFailureEquals("late", stale.join());
+            assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+            assertEquals(new SlidingWindow.Snapshot(0, 0), breaker.snapshot());
+        }
+
+        @Test
+        void test_rejected_future_is_completed() {
+            var breaker = breaker();
+            open(breaker);
+            var rejected = breaker.<String, Integer>decorateAsync(s -> CompletableFuture.completedFuture(parse(s))).apply("1");
+            assertSame(true, rejected.isDone());
+            assertFailureEquals("open", rejected.join());
+        }
+    }
+}
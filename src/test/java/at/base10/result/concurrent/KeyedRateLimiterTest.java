@@ -0,0 +1,94 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static at.base10.result.Assert.assertFailureEquals;
+import static at.base10.result.Assert.assertSuccessEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KeyedRateLimiterTest {
+    private final ManualClock clock = new ManualClock(-1_000);
+    private final KeyedRateLimiter<String, String> limiter = new KeyedRateLimiter<>(
+            RateLimit.of(2, Duration.ofNanos(200)), d -> "retry after " + d.toNanos(), clock);
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        var limit = RateLimit.of(1, Duration.ofSeconds(1));
+        assertThrows(NullPointerException.class, () -> KeyedRateLimiter.of(null, d -> "limited"));
+        assertThrows(NullPointerException.class, () -> KeyedRateLimiter.of(limit, null));
+        assertThrows(NullPointerException.class, () -> limiter.decorate(null));
+        assertThrows(NullPointerException.class, () -> limiter.decorateAsync(null));
+    }
+
+    @Test
+    void test_system_clock() throws Exception {
+        var limited = KeyedRateLimiter.<String, String>of(RateLimit.of(1, Duration.ofMillis(20)), d -> "limited").decorate(Result::success);
+        assertSuccessEquals("a", limited.apply("a"));
+        assertFailureEquals("limited", limited.apply("a"));
+        Thread.sleep(40);
+        assertSuccessEquals("a", limited.apply("a"));
+    }
+
+    @Test
+    void test_budget_per_key() {
+        var limited = limiter.decorate(Result::success);
+        assertSuccessEquals("a", limited.apply("a"));
+        assertSuccessEquals("a", limited.apply("a"));
+        assertFailureEquals("retry after 100", limited.apply("a"));
+        assertSuccessEquals("b", limited.apply("b"));
+        clock.advance(30);
+        assertFailureEquals("retry after 70", limited.apply("a"));
+        assertSuccessEquals("b", limited.apply("b"));
+        assertFailureEquals("retry after 70", limited.apply("b"));
+        clock.advance(69);
+        assertFailureEquals("retry after 1", limited.apply("b"));
+        clock.advance(1);
+        assertSuccessEquals("b", limited.apply("b"));
+        assertEquals(2, limiter.size());
+    }
+
+    @Test
+    void test_new_key_starts_full_at_current_time() {
+        var limited = limiter.decorate(Result::success);
+        clock.advance(5_000);
+        assertSuccessEquals("a", limited.apply("a"));
+        assertSuccessEquals("a", limited.apply("a"));
+        assertFailureEquals("retry after 100", limited.apply("a"));
+    }
+
+    @Test
+    void test_evictIdle() {
+        var limited = limiter.decorate(Result::success);
+        limited.apply("a");
+        limited.apply("a");
+        limited.apply("b");
+        clock.advance(100);
+        limiter.evictIdle();
+        assertEquals(1, limiter.size());
+        assertSuccessEquals("a", limited.apply("a"));
+        assertFailureEquals("retry after 100", limited.apply("a"));
+        clock.advance(200);
+        limiter.evictIdle();
+        assertEquals(0, limiter.size());
+    }
+
+    @Test
+    void test_async() {
+        var pending = new CompletableFuture<Result<String, String>>();
+        var limited = limiter.<String>decorateAsync(k -> pending);
+        var first = limited.apply("a");
+        limited.apply("a");
+        var third = limited.apply("a");
+        assertTrue(third.isDone());
+        assertFailureEquals("retry after 100", third.join());
+        pending.complete(Result.success("a"));
+        assertSuccessEquals("a", first.join());
+    }
+}
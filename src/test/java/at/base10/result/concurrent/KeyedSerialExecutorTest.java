@@ -0,0 +1,211 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static at.base10.result.Assert.assertFailureEquals;
+import static at.base10.result.Assert.assertSuccessEquals;
+import static at.base10.result.Result.failure;
+import static at.base10.result.Result.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KeyedSerialExecutorTest {
+    private final ArrayDeque<Runnable> queue = new ArrayDeque<>();
+    private final KeyedSerialExecutor<String> executor = KeyedSerialExecutor.of(queue::add);
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        Function<Integer, Result<Integer, String>> identity = Result::success;
+        assertThrows(NullPointerException.class, () -> KeyedSerialExecutor.of(null));
+        assertThrows(NullPointerException.class, () -> executor.submit(null, () -> success(1)));
+        assertThrows(NullPointerException.class, () -> executor.submit("a", null));
+        assertThrows(NullPointerException.class, () -> executor.decorate(null, identity));
+        assertThrows(NullPointerException.class, () -> executor.decorate(String::valueOf, null));
+    }
+
+    @Test
+    void test_same_key_runs_in_order_one_at_a_time() {
+        var first = executor.submit("a", () -> success(1));
+        var second = executor.<Integer, String>submit("a", () -> failure("failed"));
+        assertEquals(1, queue.size());
+        queue.remove().run();
+        assertSuccessEquals(1, first.join());
+        assertFalse(second.isDone());
+        assertEquals(1, queue.size());
+        queue.remove().run();
+        assertFailureEquals("failed", second.join());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void test_different_keys_run_concurrently() {
+        var a = executor.submit("a", () -> success("a"));
+        var b = executor.submit("b", () -> success("b"));
+        assertEquals(2, queue.size());
+        queue.removeLast().run();
+        assertSuccessEquals("b", b.join());
+        assertFalse(a.isDone());
+        queue.remove().run();
+        assertSuccessEquals("a", a.join());
+    }
+
+    @Test
+    void test_idle_keys_are_removed() {
+        assertEquals(0, executor.activeKeys());
+        executor.submit("a", () -> success(1));
+        executor.submit("a", () -> success(2));
+        executor.submit("b", () -> success(3));
+        assertEquals(2, executor.activeKeys());
+        queue.remove().run();
+        queue.remove().run();
+        assertEquals(1, executor.activeKeys());
+        queue.remove().run();
+        assertEquals(0, executor.activeKeys());
+        var again = executor.submit("a", () -> success(4));
+        assertEquals(1, queue.size());
+        queue.remove().run();
+        assertSuccessEquals(4, again.join());
+    }
+
+    @Test
+    void test_exception_completes_future_exceptionally() {
+        var failed = executor.<Integer, String>submit("a", () -> {
+            throw new IllegalStateException("boom");
+        });
+        var next = executor.submit("a", () -> success(2));
+        queue.remove().run();
+        var thrown = assertThrows(CompletionException.class, failed::join);
+        assertInstanceOf(IllegalStateException.class, thrown.getCause());
+        queue.remove().run();
+        assertSuccessEquals(2, next.join());
+        assertEquals(0, executor.activeKeys());
+    }
+
+    @Test
+    void test_error_does_not_stall_the_key() {
+        var failed = executor.<Integer, String>submit("a", () -> {
+            throw new AssertionError("fatal");
+        });
+        var next = executor.submit("a", () -> success(2));
+        assertThrows(AssertionError.class, () -> queue.remove().run());
+        assertFalse(failed.isDone());
+        queue.remove().run();
+        assertSuccessEquals(2, next.join());
+        assertEquals(0, executor.activeKeys());
+    }
+
+    @Test
+    void test_rejected_lane_fails_its_tasks() {
+        var rejection = new RejectedExecutionException("full");
+        var rejecting = KeyedSerialExecutor.<String>of(task -> {
+            throw rejection;
+        });
+        var failed = rejecting.submit("a", () -> success(1));
+        var thrown = assertThrows(CompletionException.class, failed::join);
+        assertSame(rejection, thrown.getCause());
+        assertEquals(0, rejecting.activeKeys());
+    }
+
+    @Test
+    void test_rejected_handoff_fails_the_waiting_tasks() {
+        var rejection = new RejectedExecutionException("full");
+        var accepting = new AtomicBoolean(true);
+        var rejecting = KeyedSerialExecutor.<String>of(task -> {
+            if (!accepting.get()) {
+                throw rejection;
+            }
+            queue.add(task);
+        });
+        var first = rejecting.submit("a", () -> success(1));
+        var second = rejecting.submit("a", () -> success(2));
+        var third = rejecting.submit("a", () -> success(3));
+        accepting.set(false);
+        queue.remove().run();
+        assertSuccessEquals(1, first.join());
+        assertSame(rejection, assertThrows(CompletionException.class, second::join).getCause());
+        assertSame(rejection, assertThrows(CompletionException.class, third::join).getCause());
+        assertEquals(0, rejecting.activeKeys());
+        accepting.set(true);
+        var later = rejecting.submit("a", () -> success(4));
+        queue.remove().run();
+        assertSuccessEquals(4, later.join());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void test_decorate() {
+        Function<String, CompletableFuture<Result<Integer, String>>> length =
+                executor.decorate(value -> value.substring(0, 1), value -> success(value.length()));
+        var first = length.apply("ab");
+        var second = length.apply("abc");
+        var other = length.apply("x");
+        assertEquals(2, queue.size());
+        queue.remove().run();
+        queue.remove().run();
+        assertSuccessEquals(2, first.join());
+        assertSuccessEquals(1, other.join());
+        assertFalse(second.isDone());
+        queue.remove().run();
+        assertSuccessEquals(3, second.join());
+    }
+
+    @Test
+    void test_concurrent_submissions_keep_per_key_order() throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            var keyed = KeyedSerialExecutor.<Integer>of(pool);
+            Map<Integer, List<Integer>> seen = new ConcurrentHashMap<>();
+            Map<Integer, AtomicInteger> running = new ConcurrentHashMap<>();
+            var overlaps = new AtomicInteger();
+            List<CompletableFuture<Result<Integer, String>>> results = new ArrayList<>();
+            for (int i = 0; i < 4_000; i++) {
+                int key = i % 16;
+                int sequence = i;
+                results.add(keyed.submit(key, () -> {
+                    var inKey = running.computeIfAbsent(key, k -> new AtomicInteger());
+                    if (inKey.incrementAndGet() > 1) {
+                        overlaps.incrementAndGet();
+                    }
+                    seen.computeIfAbsent(key, k -> new ArrayList<>()).add(sequence);
+                    inKey.decrementAndGet();
+                    return success(sequence);
+                }));
+            }
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+            seen.forEach((key, sequences) -> {
+                assertEquals(250, sequences.size());
+                for (int i = 0; i < sequences.size(); i++) {
+                    assertEquals(key + 16 * i, sequences.get(i));
+                }
+            });
+            assertEquals(16, seen.size());
+            assertEquals(0, overlaps.get());
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals(0, keyed.activeKeys());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
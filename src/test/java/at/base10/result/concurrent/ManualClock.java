@@ -0,0 +1,20 @@
+package at.base10.result.concurrent;
+
+import java.util.function.LongSupplier;
+
+public class ManualClock implements LongSupplier {
+    private long now;
+
+    public ManualClock(long now) {
+        this.now = now;
+    }
+
+    public void advance(long nanos) {
+        now += nanos;
+    }
+
+    @Override
+    public long getAsLong() {
+        return now;
+    }
+}
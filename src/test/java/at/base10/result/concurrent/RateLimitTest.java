@@ -0,0 +1,37 @@
+package at.base10.result.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RateLimitTest {
+
+    @Test
+    void test_of() {
+        assertEquals(new RateLimit(5, Duration.ofSeconds(1), 5), RateLimit.of(5, Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void test_withBurst() {
+        assertEquals(new RateLimit(5, Duration.ofSeconds(1), 2), RateLimit.of(5, Duration.ofSeconds(1)).withBurst(2));
+    }
+
+    @Test
+    void test_bounds() {
+        var error = assertThrows(IllegalArgumentException.class, () -> new RateLimit(0, Duration.ofSeconds(1), 1));
+        assertEquals("invalid rate limit of 0 per PT1S with burst 1", error.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> new RateLimit(1, Duration.ofSeconds(1), 0));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimit(2, Duration.ofNanos(1), 1));
+        assertDoesNotThrow(() -> new RateLimit(2, Duration.ofNanos(2), 1));
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        assertThrows(NullPointerException.class, () -> new RateLimit(1, null, 1));
+    }
+}
@@ -0,0 +1,103 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Result;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static at.base10.result.Assert.assertFailureEquals;
+import static at.base10.result.Assert.assertSuccessEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RateLimiterTest {
+    private final ManualClock clock = new ManualClock(-1_000);
+
+    private Function<Integer, Result<Integer, String>> limited(RateLimit limit) {
+        return new RateLimiter<String>(limit, retryAfter -> "retry after " + retryAfter.toNanos(), clock).decorate(Result::success);
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        var limit = RateLimit.of(1, Duration.ofSeconds(1));
+        assertThrows(NullPointerException.class, () -> RateLimiter.of(null, d -> "limited"));
+        assertThrows(NullPointerException.class, () -> RateLimiter.of(limit, null));
+        assertThrows(NullPointerException.class, () -> RateLimiter.of(limit, d -> "limited").decorate(null));
+        assertThrows(NullPointerException.class, () -> RateLimiter.of(limit, d -> "limited").decorateAsync(null));
+    }
+
+    @Test
+    void test_system_clock() throws Exception {
+        var limited = RateLimiter.<String>of(RateLimit.of(1, Duration.ofMillis(20)), d -> "limited").<Integer, Integer>decorate(Result::success);
+        assertSuccessEquals(1, limited.apply(1));
+        assertFailureEquals("limited", limited.apply(2));
+        Thread.sleep(40);
+        assertSuccessEquals(3, limited.apply(3));
+    }
+
+    @Nested
+    class Sync {
+        @Test
+        void test_full_burst_is_available() {
+            var limited = limited(RateLimit.of(3, Duration.ofNanos(300)));
+            assertSuccessEquals(1, limited.apply(1));
+            assertSuccessEquals(2, limited.apply(2));
+            assertSuccessEquals(3, limited.apply(3));
+            assertFailureEquals("retry after 100", limited.apply(4));
+        }
+
+        @Test
+        void test_refills_from_clock() {
+            var limited = limited(RateLimit.of(3, Duration.ofNanos(300)));
+            limited.apply(1);
+            limited.apply(2);
+            limited.apply(3);
+            clock.advance(40);
+            assertFailureEquals("retry after 60", limited.apply(4));
+            clock.advance(59);
+            assertFailureEquals("retry after 1", limited.apply(4));
+            clock.advance(1);
+            assertSuccessEquals(5, limited.apply(5));
+            assertFailureEquals("retry after 100", limited.apply(6));
+        }
+
+        @Test
+        void test_rejection_does_not_consume() {
+            var limited = limited(RateLimit.of(1, Duration.ofNanos(100)));
+            limited.apply(1);
+            limited.apply(2);
+            limited.apply(3);
+            clock.advance(100);
+            assertSuccessEquals(4, limited.apply(4));
+        }
+
+        @Test
+        void test_burst_smaller_than_permits() {
+            var limited = limited(RateLimit.of(4, Duration.ofNanos(400)).withBurst(2));
+            clock.advance(1_000);
+            assertSuccessEquals(1, limited.apply(1));
+            assertSuccessEquals(2, limited.apply(2));
+            assertFailureEquals("retry after 100", limited.apply(3));
+        }
+    }
+
+    @Nested
+    class Async {
+        @Test
+        void test_permitted() {
+            var limiter = new RateLimiter<>(RateLimit.of(1, Duration.ofNanos(100)), d -> "retry after " + d.toNanos(), clock);
+            var pending = new CompletableFuture<Result<Integer, String>>();
+            var limited = limiter.<Integer, Integer>decorateAsync(i -> pending);
+            var first = limited.apply(1);
+            var second = limited.apply(2);
+            assertTrue(second.isDone());
+            assertFailureEquals("retry after 100", second.join());
+            pending.complete(Result.success(1));
+            assertSuccessEquals(1, first.join());
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Result;
+import at.base10.result.interop.ResultCollectors.Partition;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static at.base10.result.Assert.assertFailureEquals;
+import static at.base10.result.Assert.assertSuccessEquals;
+import static at.base10.result.Result.failure;
+import static at.base10.result.Result.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResultAccumulatorTest {
+    private final ResultAccumulator<Integer, String> accumulator = ResultAccumulator.create();
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        assertThrows(NullPointerException.class, () -> accumulator.add(null));
+    }
+
+    @Test
+    void test_empty() {
+        assertSuccessEquals(List.of(), accumulator.snapshot());
+        assertEquals(new Partition<>(List.of(), List.of()), accumulator.drain());
+        assertEquals(0, accumulator.successCount());
+        assertEquals(0, accumulator.failureCount());
+    }
+
+    @Test
+    void test_successes_only() {
+        accumulator.add(success(1));
+        accumulator.add(success(2));
+        assertSuccessEquals(List.of(1, 2), accumulator.snapshot());
+        assertSuccessEquals(List.of(1, 2), accumulator.snapshot());
+        assertEquals(2, accumulator.successCount());
+        assertEquals(0, accumulator.failureCount());
+    }
+
+    @Test
+    void test_failures_win() {
+        accumulator.add(success(1));
+        accumulator.add(failure("a"));
+        accumulator.add(success(2));
+        accumulator.add(failure("b"));
+        assertFailureEquals(List.of("a", "b"), accumulator.snapshot());
+        assertEquals(2, accumulator.successCount());
+        assertEquals(2, accumulator.failureCount());
+    }
+
+    @Test
+    void test_null_values() {
+        accumulator.add(success(null));
+        accumulator.add(success(1));
+        accumulator.add(failure(null));
+        accumulator.add(success(2));
+        assertFailureEquals(Arrays.asList((String) null), accumulator.snapshot());
+        assertEquals(new Partition<>(Arrays.asList(null, 1, 2), Arrays.asList((String) null)), accumulator.drain());
+        assertEquals(3, accumulator.successCount());
+        assertEquals(1, accumulator.failureCount());
+    }
+
+    @Test
+    void test_drain_returns_successes_and_failures() {
+        accumulator.add(success(1));
+        accumulator.add(failure("a"));
+        accumulator.add(success(2));
+        assertEquals(new Partition<>(List.of(1, 2), List.of("a")), accumulator.drain());
+    }
+
+    @Test
+    void test_drain_removes_values_but_keeps_counts() {
+        accumulator.add(success(1));
+        accumulator.add(failure("a"));
+        assertEquals(new Partition<>(List.of(1), List.of("a")), accumulator.drain());
+        assertSuccessEquals(List.of(), accumulator.snapshot());
+        accumulator.add(success(3));
+        assertEquals(new Partition<>(List.of(3), List.of()), accumulator.drain());
+        assertEquals(new Partition<>(List.of(), List.of()), accumulator.drain());
+        assertEquals(2, accumulator.successCount());
+        assertEquals(1, accumulator.failureCount());
+    }
+
+    @Test
+    void test_drain_drops_buffers_of_ended_threads() throws Exception {
+        accumulator.add(success(0));
+        var thread = new Thread(() -> accumulator.add(success(10)));
+        thread.start();
+        thread.join();
+        assertEquals(2, accumulator.bufferCount());
+        assertEquals(new Partition<>(List.of(0, 10), List.of()), accumulator.drain());
+        assertEquals(1, accumulator.bufferCount());
+        accumulator.add(success(1));
+        assertEquals(new Partition<>(List.of(1), List.of()), accumulator.drain());
+        assertEquals(1, accumulator.bufferCount());
+    }
+
+    @Test
+    void test_results_are_unmodifiable() {
+        accumulator.add(success(1));
+        assertThrows(UnsupportedOperationException.class, () -> accumulator.snapshot().orThrow().add(2));
+        accumulator.add(failure("a"));
+        assertThrows(UnsupportedOperationException.class, () -> accumulator.snapshot().either(s -> s, f -> f).clear());
+        var drained = accumulator.drain();
+        assertThrows(UnsupportedOperationException.class, () -> drained.successes().clear());
+        assertThrows(UnsupportedOperationException.class, () -> drained.failures().clear());
+    }
+
+    @Test
+    void test_each_thread_keeps_its_order() throws Exception {
+        accumulator.add(success(0));
+        var thread = new Thread(() -> {
+            accumulator.add(success(10));
+            accumulator.add(success(11));
+        });
+        thread.start();
+        thread.join();
+        accumulator.add(success(1));
+        List<Integer> values = accumulator.snapshot().orThrow();
+        assertEquals(4, values.size());
+        assertTrue(values.indexOf(0) < values.indexOf(1));
+        assertTrue(values.indexOf(10) < values.indexOf(11));
+    }
+
+    @Test
+    void test_drain_while_threads_report() throws Exception {
+        int threads = 4;
+        int perThread = 5_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            var start = new CountDownLatch(1);
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t * perThread;
+                writers.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        accumulator.add(success(offset + i));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            List<Integer> drained = new ArrayList<>();
+            while (!writers.stream().allMatch(Future::isDone)) {
+                drained.addAll(accumulator.drain().successes());
+                Thread.yield();
+            }
+            for (Future<?> writer : writers) {
+                writer.get(10, TimeUnit.SECONDS);
+            }
+            drained.addAll(accumulator.drain().successes());
+            Set<Integer> distinct = new HashSet<>(drained);
+            assertEquals(threads * perThread, drained.size());
+            assertEquals(threads * perThread, distinct.size());
+            assertEquals(threads * perThread, accumulator.successCount());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static at.base10.result.Assert.assertFailureEquals;
+import static at.base10.result.Assert.assertSuccessEquals;
+import static at.base10.result.Result.failure;
+import static at.base10.result.Result.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ResultExecutorTest {
+    private final ManualClock clock = new ManualClock(-1_000);
+    private final ArrayDeque<Runnable> queue = new ArrayDeque<>();
+    private final ResultExecutor<String> executor = new ResultExecutor<>(queue::add, e -> "mapped " + e.getMessage(), clock);
+
+    private Supplier<Result<Integer, String>> taking(long nanos, Result<Integer, String> result) {
+        return () -> {
+            clock.advance(nanos);
+            return result;
+        };
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        Executor direct = Runnable::run;
+        assertThrows(NullPointerException.class, () -> ResultExecutor.of(null, RuntimeException::getMessage));
+        assertThrows(NullPointerException.class, () -> ResultExecutor.of(direct, null));
+        assertThrows(NullPointerException.class, () -> executor.submit(null));
+        assertThrows(NullPointerException.class, () -> executor.submitAll(null));
+    }
+
+    @Test
+    void test_system_clock() {
+        var direct = ResultExecutor.of(Runnable::run, RuntimeException::getMessage);
+        assertSuccessEquals(1, direct.submit(() -> success(1)).join());
+        assertFalse(direct.meanRunTime().isNegative());
+    }
+
+    @Test
+    void test_submit_passes_results_through() {
+        var success = executor.submit(() -> success(1));
+        var failure = executor.<Integer>submit(() -> failure("failed"));
+        assertFalse(success.isDone());
+        queue.forEach(Runnable::run);
+        assertSuccessEquals(1, success.join());
+        assertFailureEquals("failed", failure.join());
+    }
+
+    @Test
+    void test_exception_is_mapped() {
+        var result = executor.<Integer>submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+        queue.remove().run();
+        assertFailureEquals("mapped boom", result.join());
+        assertEquals(1, executor.completedTasks());
+    }
+
+    @Test
+    void test_rejection_is_mapped() {
+        var calls = new AtomicInteger();
+        var rejecting = new ResultExecutor<String>(task -> {
+            throw new RejectedExecutionException("full");
+        }, e -> "mapped " + e.getMessage(), clock);
+        var result = rejecting.submit(() -> success(calls.incrementAndGet()));
+        assertFailureEquals("mapped full", result.join());
+        assertEquals(0, rejecting.queueDepth());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void test_queue_depth() {
+        assertEquals(0, executor.queueDepth());
+        executor.submit(() -> success(1));
+        executor.submit(() -> success(2));
+        assertEquals(2, executor.queueDepth());
+        queue.remove().run();
+        assertEquals(1, executor.queueDepth());
+        queue.remove().run();
+        assertEquals(0, executor.queueDepth());
+    }
+
+    @Test
+    void test_mean_queue_time() {
+        assertEquals(Duration.ZERO, executor.meanQueueTime());
+        executor.submit(() -> success(1));
+        clock.advance(10);
+        queue.remove().run();
+        executor.submit(() -> success(2));
+        clock.advance(31);
+        queue.remove().run();
+        assertEquals(Duration.ofNanos(20), executor.meanQueueTime());
+    }
+
+    @Test
+    void test_queue_time_counts_running_tasks() {
+        var whileRunning = executor.submit(() -> success(executor.meanQueueTime().toNanos() + ":" + executor.completedTasks()));
+        clock.advance(5);
+        queue.remove().run();
+        assertSuccessEquals("5:0", whileRunning.join());
+    }
+
+    @Test
+    void test_mean_run_time() {
+        assertEquals(Duration.ZERO, executor.meanRunTime());
+        executor.submit(taking(7, success(1)));
+        executor.submit(taking(4, failure("failed")));
+        executor.submit(() -> {
+            clock.advance(1);
+            throw new IllegalStateException("boom");
+        });
+        queue.forEach(Runnable::run);
+        assertEquals(3, executor.completedTasks());
+        assertEquals(Duration.ofNanos(4), executor.meanRunTime());
+    }
+
+    @Test
+    void test_submit_all() {
+        List<Supplier<Result<Integer, String>>> tasks = List.of(() -> success(1), () -> success(2));
+        var result = executor.submitAll(tasks);
+        queue.removeLast().run();
+        assertFalse(result.isDone());
+        queue.removeLast().run();
+        assertSuccessEquals(List.of(1, 2), result.join());
+    }
+
+    @Test
+    void test_submit_all_accumulates_failures() {
+        List<Supplier<Result<Integer, String>>> tasks = List.of(() -> failure("a"), () -> success(2), () -> {
+            throw new IllegalStateException("boom");
+        });
+        var result = executor.submitAll(tasks);
+        queue.forEach(Runnable::run);
+        assertFailureEquals(List.of("a", "mapped boom"), result.join());
+    }
+}
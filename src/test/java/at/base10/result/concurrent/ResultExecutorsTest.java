@@ -0,0 +1,98 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Operator;
+import at.base10.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static at.base10.result.Assert.assertFailureEquals;
+import static at.base10.result.Assert.assertSuccessEquals;
+import static at.base10.result.Result.failure;
+import static at.base10.result.Result.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResultExecutorsTest {
+
+    @Test
+    void testNone() {
+        assertInstanceOf(None.class, new None());
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        assertThrows(NullPointerException.class, () -> ResultExecutors.async(null));
+        assertThrows(NullPointerException.class, () -> ResultExecutors.async(null, Runnable::run));
+        assertThrows(NullPointerException.class, () -> ResultExecutors.async(Result::success, null));
+    }
+
+    @Test
+    void test_no_virtual_threads_on_java17_layer() {
+        // tests run against the classes directory, which only holds the Java 17 layer
+        assertTrue(VirtualThreads.executor().isEmpty());
+    }
+
+    @Test
+    void test_blocking_is_shared() {
+        assertSame(ResultExecutors.blocking(), ResultExecutors.blocking());
+        assertSuccessEquals(1, ResultExecutors.<Integer, Integer, String>async(Result::success).apply(1).join());
+    }
+
+    @Test
+    void test_platform_threads_are_daemons() throws InterruptedException {
+        var pool = (ThreadPoolExecutor) BlockingExecutor.platformThreads();
+        var created = new AtomicReference<Thread>();
+        // threads inherit the daemon flag of their creator, so create it from a user thread
+        var creator = new Thread(() -> created.set(pool.getThreadFactory().newThread(() -> {
+        })));
+        creator.setDaemon(false);
+        creator.start();
+        creator.join();
+        pool.shutdown();
+
+        assertEquals("result-blocking", created.get().getName());
+        assertTrue(created.get().isDaemon());
+    }
+
+    @Test
+    void test_async_runs_on_executor() {
+        var queue = new ArrayDeque<Runnable>();
+        Function<Integer, CompletableFuture<Result<Integer, String>>> async = ResultExecutors.async(value -> value > 0 ? success(value) : failure("negative"), queue::add);
+
+        var positive = async.apply(1);
+        var negative = async.apply(-1);
+        assertFalse(positive.isDone());
+        queue.forEach(Runnable::run);
+        assertSuccessEquals(1, positive.join());
+        assertFailureEquals("negative", negative.join());
+    }
+
+    @Test
+    void test_async_exception() {
+        var exception = new IllegalStateException("boom");
+        var future = ResultExecutors.<Integer, Integer, String>async(value -> {
+            throw exception;
+        }, Runnable::run).apply(1);
+        var error = assertThrows(CompletionException.class, future::join);
+        assertSame(exception, error.getCause());
+    }
+
+    @Test
+    void test_composes_with_operator() {
+        var result = CompletableFuture.<Result<Integer, String>>completedFuture(success(2))
+                .thenCompose(Operator.bindAsync(ResultExecutors.async(value -> success(value * 21))))
+                .join();
+        assertSuccessEquals(42, result);
+    }
+}
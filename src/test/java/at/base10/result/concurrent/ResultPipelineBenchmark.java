@@ -0,0 +1,136 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Operator;
+import at.base10.result.Result;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static at.base10.result.Result.failure;
+import static at.base10.result.Result.success;
+
+/**
+ * Compares the throughput of a {@link ResultPipeline} with the same stages connected by {@link ArrayBlockingQueue}s,
+ * one thread per stage.
+ *
+ * <p>Not run by the build. Run it after {@code mvn test-compile} with
+ * {@code java -cp target/classes:target/test-classes at.base10.result.concurrent.ResultPipelineBenchmark [items]}.
+ */
+public final class ResultPipelineBenchmark {
+    private static final int RING_SIZE = 1024;
+    private static final int ROUNDS = 5;
+
+    private static final List<Function<Result<Integer, String>, Result<Integer, String>>> STAGES = List.of(
+            Operator.bind(value -> value % 97 == 0 ? failure("rejected " + value) : success(value)),
+            Operator.map(value -> value * 31),
+            Operator.map(value -> value ^ value >>> 7)
+    );
+
+    private ResultPipelineBenchmark() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int items = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        for (int round = 0; round < ROUNDS; round++) {
+            report("ResultPipeline", items, pipeline(items));
+            report("BlockingQueue ", items, blockingQueues(items));
+        }
+    }
+
+    private static void report(String name, int items, long nanos) {
+        System.out.printf("%s %,12.0f results/s%n", name, items * 1e9 / nanos);
+    }
+
+    private static long pipeline(int items) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(STAGES.size());
+        try {
+            ResultPipeline.Stages<Integer, Integer, String> stages = ResultPipeline.stages();
+            for (Function<Result<Integer, String>, Result<Integer, String>> stage : STAGES) {
+                stages = stages.then(stage);
+            }
+            ResultPipeline<Integer, Integer, String> pipeline = stages.build(RING_SIZE, pool, RuntimeException::getMessage);
+            long start = System.nanoTime();
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < items; i++) {
+                    Result<Integer, String> result = success(i);
+                    while (!pipeline.offer(result)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            producer.start();
+            long[] checksum = new long[1];
+            int received = 0;
+            while (received < items) {
+                int drained = pipeline.drain(result -> checksum[0] += result.either(value -> value, String::length));
+                if (drained == 0) {
+                    Thread.yield();
+                }
+                received += drained;
+            }
+            long nanos = System.nanoTime() - start;
+            producer.join();
+            return nanos;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static long blockingQueues(int items) throws InterruptedException {
+        List<BlockingQueue<Result<Integer, String>>> queues = IntStream.rangeClosed(0, STAGES.size())
+                .mapToObj(i -> (BlockingQueue<Result<Integer, String>>) new ArrayBlockingQueue<Result<Integer, String>>(RING_SIZE))
+                .toList();
+        List<Thread> workers = IntStream.range(0, STAGES.size())
+                .mapToObj(i -> new Thread(() -> forward(items, queues.get(i), STAGES.get(i), queues.get(i + 1))))
+                .toList();
+        workers.forEach(Thread::start);
+        long start = System.nanoTime();
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < items; i++) {
+                put(queues.get(0), success(i));
+            }
+        });
+        producer.start();
+        long checksum = 0;
+        BlockingQueue<Result<Integer, String>> results = queues.get(STAGES.size());
+        for (int i = 0; i < items; i++) {
+            checksum += results.take().either(value -> value, String::length);
+        }
+        long nanos = System.nanoTime() - start;
+        producer.join();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return nanos;
+    }
+
+    private static void forward(int items, BlockingQueue<Result<Integer, String>> from,
+                                Function<Result<Integer, String>, Result<Integer, String>> stage,
+                                BlockingQueue<Result<Integer, String>> to) {
+        for (int i = 0; i < items; i++) {
+            Result<Integer, String> result = take(from);
+            put(to, result.isFailure() ? result : stage.apply(result));
+        }
+    }
+
+    private static Result<Integer, String> take(BlockingQueue<Result<Integer, String>> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void put(BlockingQueue<Result<Integer, String>> queue, Result<Integer, String> result) {
+        try {
+            queue.put(result);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Operator;
+import at.base10.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static at.base10.result.Result.failure;
+import static at.base10.result.Result.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResultPipelineTest {
+    private final ArrayDeque<Runnable> queue = new ArrayDeque<>();
+    private final List<Result<String, String>> drained = new ArrayList<>();
+
+    private final ResultPipeline<Integer, String, String> pipeline = ResultPipeline.<Integer, String>stages()
+            .then(Operator.<Integer, Integer, String>bind(value -> value < 0 ? failure("negative " + value) : success(value * 2)))
+            .then(Operator.<Integer, String, String>map(value -> "#" + value))
+            .build(4, queue::add, e -> "mapped " + e.getMessage());
+
+    private void runAll() {
+        while (!queue.isEmpty()) {
+            queue.remove().run();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        var stages = ResultPipeline.<Integer, String>stages();
+        assertThrows(NullPointerException.class, () -> stages.then(null));
+        assertThrows(NullPointerException.class, () -> stages.build(1, null, RuntimeException::getMessage));
+        assertThrows(NullPointerException.class, () -> stages.build(1, queue::add, null));
+        assertThrows(NullPointerException.class, () -> pipeline.offer(null));
+        assertThrows(NullPointerException.class, () -> pipeline.drain(null));
+    }
+
+    @Test
+    void test_ring_size_must_be_a_power_of_two() {
+        var stages = ResultPipeline.<Integer, String>stages();
+        for (int size : new int[]{0, 3, 6, Integer.MIN_VALUE}) {
+            var error = assertThrows(IllegalArgumentException.class, () -> stages.build(size, queue::add, RuntimeException::getMessage));
+            assertEquals("ring size must be a positive power of two but was " + size, error.getMessage());
+        }
+        var single = stages.build(1, queue::add, RuntimeException::getMessage);
+        assertTrue(single.offer(success(1)));
+        assertFalse(single.offer(success(2)));
+    }
+
+    @Test
+    void test_results_pass_every_stage_in_order() {
+        assertTrue(pipeline.offer(success(1)));
+        assertTrue(pipeline.offer(success(2)));
+        assertEquals(0, pipeline.drain(drained::add));
+        runAll();
+        assertEquals(2, pipeline.drain(drained::add));
+        assertEquals(List.of(success("#2"), success("#4")), drained);
+    }
+
+    @Test
+    void test_failures_bypass_remaining_stages() {
+        var calls = new AtomicInteger();
+        var counted = ResultPipeline.<Integer, String>stages()
+                .then(Operator.<Integer, Integer, String>bind(value -> value < 0 ? failure("negative") : success(value)))
+                .then(result -> success(result.orThrow() + calls.incrementAndGet()))
+                .build(4, queue::add, e -> "stage saw a failure");
+        counted.offer(failure("offered"));
+        counted.offer(success(-1));
+        counted.offer(success(10));
+        runAll();
+        List<Result<Integer, String>> results = new ArrayList<>();
+        counted.drain(results::add);
+        assertEquals(List.of(failure("offered"), failure("negative"), success(11)), results);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void test_exceptions_are_mapped_to_failures() {
+        var failing = ResultPipeline.<Integer, String>stages()
+                .then(Operator.<Integer, Integer, String>map(value -> {
+                    throw new IllegalStateException("boom " + value);
+                }))
+                .build(2, queue::add, e -> "mapped " + e.getMessage());
+        failing.offer(success(1));
+        runAll();
+        List<Result<Integer, String>> results = new ArrayList<>();
+        failing.drain(results::add);
+        assertEquals(List.of(failure("mapped boom 1")), results);
+    }
+
+    @Test
+    void test_exception_mapper_exception_is_thrown_by_drain() {
+        var calls = new AtomicInteger();
+        var stage = new IllegalStateException("stage");
+        var mapper = new IllegalArgumentException("mapper");
+        var failing = ResultPipeline.<Integer, String>stages()
+                .then(Operator.<Integer, Integer, String>map(value -> {
+                    if (value == 1) {
+                        throw stage;
+                    }
+                    return value;
+                }))
+                .then(Operator.<Integer, Integer, String>map(value -> value + calls.incrementAndGet()))
+                .build(4, queue::add, e -> {
+                    throw mapper;
+                });
+        failing.offer(success(1));
+        failing.offer(success(2));
+        runAll();
+        List<Result<Integer, String>> results = new ArrayList<>();
+        var error = assertThrows(IllegalArgumentException.class, () -> failing.drain(results::add));
+        assertSame(mapper, error);
+        assertSame(stage, error.getSuppressed()[0]);
+        assertEquals(1, calls.get());
+        assertEquals(1, failing.drain(results::add));
+        assertEquals(List.of(success(3)), results);
+        failing.offer(success(3));
+        runAll();
+        assertEquals(1, failing.drain(results::add));
+        assertEquals(success(5), results.get(1));
+    }
+
+    @Test
+    void test_stage_error_is_thrown_by_drain() {
+        var error = new AssertionError("fatal");
+        var failing = ResultPipeline.<Integer, String>stages()
+                .then(Operator.<Integer, Integer, String>map(value -> {
+                    if (value == 1) {
+                        throw error;
+                    }
+                    return value;
+                }))
+                .build(4, queue::add, e -> "mapped " + e.getMessage());
+        failing.offer(success(1));
+        failing.offer(success(2));
+        runAll();
+        List<Result<Integer, String>> results = new ArrayList<>();
+        assertSame(error, assertThrows(AssertionError.class, () -> failing.drain(results::add)));
+        assertEquals(1, failing.drain(results::add));
+        failing.offer(success(3));
+        runAll();
+        assertEquals(1, failing.drain(results::add));
+        assertEquals(List.of(success(2), success(3)), results);
+    }
+
+    @Test
+    void test_exception_mapper_error_is_thrown_by_drain() {
+        var stage = new IllegalStateException("stage");
+        var mapper = new AssertionError("mapper");
+        var failing = ResultPipeline.<Integer, String>stages()
+                .then(Operator.<Integer, Integer, String>map(value -> {
+                    throw stage;
+                }))
+                .build(2, queue::add, e -> {
+                    throw mapper;
+                });
+        failing.offer(success(1));
+        runAll();
+        var error = assertThrows(AssertionError.class, () -> failing.drain(result -> {
+        }));
+        assertSame(mapper, error);
+        assertSame(stage, error.getSuppressed()[0]);
+    }
+
+    @Test
+    void test_rejected_stage_is_thrown_by_drain_and_scheduled_again() {
+        var rejection = new RejectedExecutionException("rejected");
+        var accepting = new AtomicBoolean(false);
+        var rejecting = ResultPipeline.<Integer, String>stages()
+                .then(Operator.<Integer, Integer, String>map(value -> value * 2))
+                .build(4, task -> {
+                    if (!accepting.get()) {
+                        throw rejection;
+                    }
+                    queue.add(task);
+                }, RuntimeException::getMessage);
+        assertTrue(rejecting.offer(success(1)));
+        List<Result<Integer, String>> results = new ArrayList<>();
+        assertSame(rejection, assertThrows(RejectedExecutionException.class, () -> rejecting.drain(results::add)));
+        assertEquals(0, rejecting.drain(results::add));
+        accepting.set(true);
+        assertTrue(rejecting.offer(success(2)));
+        runAll();
+        assertEquals(2, rejecting.drain(results::add));
+        assertEquals(List.of(success(2), success(4)), results);
+    }
+
+    @Test
+    void test_offer_fails_while_ring_is_full() {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(pipeline.offer(success(i)));
+        }
+        assertFalse(pipeline.offer(success(4)));
+        runAll();
+        assertFalse(pipeline.offer(success(4)));
+        assertEquals(4, pipeline.drain(drained::add));
+        assertTrue(pipeline.offer(success(4)));
+        runAll();
+        pipeline.drain(drained::add);
+        assertEquals(success("#8"), drained.get(4));
+    }
+
+    @Test
+    void test_ring_wraps_around() {
+        for (int i = 0; i < 10; i++) {
+            pipeline.offer(success(i));
+            pipeline.offer(failure("f" + i));
+            runAll();
+            pipeline.drain(drained::add);
+        }
+        assertEquals(20, drained.size());
+        assertEquals(success("#18"), drained.get(18));
+        assertEquals(failure("f9"), drained.get(19));
+    }
+
+    @Test
+    void test_stages_process_in_batches() {
+        pipeline.offer(success(1));
+        pipeline.offer(success(2));
+        pipeline.offer(success(3));
+        assertEquals(1, queue.size());
+        queue.remove().run();
+        assertEquals(1, queue.size());
+        queue.remove().run();
+        assertTrue(queue.isEmpty());
+        assertEquals(3, pipeline.drain(drained::add));
+    }
+
+    @Test
+    void test_stage_catches_up_with_results_offered_while_running() {
+        var holder = new AtomicReference<ResultPipeline<Integer, Integer, String>>();
+        Function<Result<Integer, String>, Result<Integer, String>> offering = result -> {
+            result.peek(value -> holder.get().offer(success(value - 1)));
+            return result;
+        };
+        holder.set(ResultPipeline.<Integer, String>stages()
+                .then(Operator.<Integer, Integer, String>bind(value -> value > 0 ? success(value) : failure("done")))
+                .then(offering)
+                .build(8, queue::add, RuntimeException::getMessage));
+        holder.get().offer(success(3));
+        runAll();
+        List<Result<Integer, String>> results = new ArrayList<>();
+        holder.get().drain(results::add);
+        assertEquals(List.of(success(3), success(2), success(1), failure("done")), results);
+    }
+
+    @Test
+    void test_no_stages() {
+        var direct = ResultPipeline.<Integer, String>stages().build(2, queue::add, RuntimeException::getMessage);
+        direct.offer(success(1));
+        assertTrue(queue.isEmpty());
+        List<Result<Integer, String>> results = new ArrayList<>();
+        assertEquals(1, direct.drain(results::add));
+        assertEquals(List.of(success(1)), results);
+    }
+
+    @Test
+    void test_consumer_exception_consumes_its_result() {
+        pipeline.offer(success(1));
+        pipeline.offer(success(2));
+        runAll();
+        var boom = new IllegalStateException("boom");
+        var error = assertThrows(IllegalStateException.class, () -> pipeline.drain(result -> {
+            throw boom;
+        }));
+        assertSame(boom, error);
+        assertEquals(1, pipeline.drain(drained::add));
+        assertEquals(List.of(success("#4")), drained);
+    }
+
+    @Test
+    void test_producer_and_consumer_on_different_threads() throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            var concurrent = ResultPipeline.<Integer, String>stages()
+                    .then(Operator.<Integer, Integer, String>bind(value -> value % 3 == 0 ? failure("fizz") : success(value)))
+                    .then(Operator.<Integer, Long, String>map(Integer::longValue))
+                    .build(64, pool, RuntimeException::getMessage);
+            int count = 10_000;
+            List<Result<Long, String>> results = new ArrayList<>(count);
+            var producer = new Thread(() -> {
+                for (int i = 0; i < count; i++) {
+                    while (!concurrent.offer(success(i))) {
+                        Thread.yield();
+                    }
+                }
+            });
+            producer.start();
+            while (results.size() < count) {
+                if (concurrent.drain(results::add) == 0) {
+                    Thread.yield();
+                }
+            }
+            producer.join();
+            for (int i = 0; i < count; i++) {
+                assertEquals(i % 3 == 0 ? failure("fizz") : success((long) i), results.get(i));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Result;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static at.base10.result.Assert.assertFailureEquals;
+import static at.base10.result.Assert.assertSuccessEquals;
+import static at.base10.result.Result.failure;
+import static at.base10.result.Result.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResultScopeTest {
+    private final ArrayDeque<Runnable> queue = new ArrayDeque<>();
+    private final ResultScope<Integer, String> scope = new ResultScope<>(Optional.empty(), queue::add);
+
+    private static Result<Integer, String> await(CountDownLatch latch) {
+        try {
+            latch.await();
+            return success(0);
+        } catch (InterruptedException e) {
+            return failure("interrupted");
+        }
+    }
+
+    private static Result<Integer, String> await(CountDownLatch latch, long millis) {
+        try {
+            latch.await(millis, TimeUnit.MILLISECONDS);
+            return success(0);
+        } catch (InterruptedException e) {
+            return failure("interrupted");
+        }
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        assertThrows(NullPointerException.class, () -> ResultScope.open(null));
+        assertThrows(NullPointerException.class, () -> scope.fork(null));
+    }
+
+    @Test
+    void test_open_uses_fallback_on_java17_layer() {
+        var used = new AtomicInteger();
+        Executor fallback = task -> {
+            used.incrementAndGet();
+            task.run();
+        };
+        try (ResultScope<Integer, String> opened = ResultScope.open(fallback)) {
+            opened.fork(() -> success(1));
+            assertSuccessEquals(List.of(1), opened.joinApplicative());
+        }
+        assertEquals(1, used.get());
+    }
+
+    @Test
+    void test_fork_returns_outcome() {
+        var forked = scope.fork(() -> failure("a"));
+        assertFalse(forked.isDone());
+        queue.remove().run();
+        assertFailureEquals("a", forked.join());
+    }
+
+    @Test
+    void test_completing_returned_future_does_not_affect_scope() {
+        scope.fork(() -> success(1)).complete(success(2));
+        queue.remove().run();
+        assertSuccessEquals(List.of(1), scope.joinApplicative());
+    }
+
+    @Test
+    void test_fork_after_close() {
+        scope.close();
+        var error = assertThrows(IllegalStateException.class, () -> scope.fork(() -> success(1)));
+        assertEquals("scope is closed", error.getMessage());
+    }
+
+    @Test
+    void test_rejected_fork_is_not_joined() {
+        var rejecting = new ResultScope<Integer, String>(Optional.empty(), task -> {
+            throw new RejectedExecutionException("saturated");
+        });
+        var error = assertThrows(RejectedExecutionException.class, () -> rejecting.fork(() -> success(1)));
+        assertEquals("saturated", error.getMessage());
+        assertSuccessEquals(List.of(), rejecting.joinApplicative());
+        assertSuccessEquals(List.of(), rejecting.joinFailFast());
+    }
+
+    @Nested
+    class JoinApplicative {
+        @Test
+        void test_all_success_in_fork_order() {
+            scope.fork(() -> success(1));
+            scope.fork(() -> success(2));
+            scope.fork(() -> success(3));
+            queue.removeLast().run();
+            queue.removeLast().run();
+            queue.removeLast().run();
+            assertSuccessEquals(List.of(1, 2, 3), scope.joinApplicative());
+        }
+
+        @Test
+        void test_collects_every_failure() {
+            scope.fork(() -> failure("a"));
+            scope.fork(() -> success(2));
+            scope.fork(() -> failure("c"));
+            queue.forEach(Runnable::run);
+            assertFailureEquals(List.of("a", "c"), scope.joinApplicative());
+        }
+
+        @Test
+        void test_empty() {
+            assertSuccessEquals(List.of(), scope.joinApplicative());
+        }
+
+        @Test
+        void test_exception() {
+            var exception = new IllegalStateException("boom");
+            scope.fork(() -> success(1));
+            scope.fork(() -> {
+                throw exception;
+            });
+            queue.forEach(Runnable::run);
+            var error = assertThrows(CompletionException.class, scope::joinApplicative);
+            assertSame(exception, error.getCause());
+        }
+    }
+
+    @Nested
+    class JoinFailFast {
+        @Test
+        void test_all_success_in_fork_order() {
+            scope.fork(() -> success(1));
+            scope.fork(() -> success(2));
+            queue.removeLast().run();
+            queue.removeLast().run();
+            assertSuccessEquals(List.of(1, 2), scope.joinFailFast());
+        }
+
+        @Test
+        void test_empty() {
+            assertSuccessEquals(List.of(), scope.joinFailFast());
+        }
+
+        @Test
+        void test_first_failure_to_arrive_cancels_siblings() {
+            var calls = new AtomicInteger();
+            scope.fork(() -> failure("a"));
+            scope.fork(() -> failure("b"));
+            var pending = scope.fork(() -> success(calls.incrementAndGet()));
+            queue.remove();
+            queue.remove().run();
+
+            assertFailureEquals("b", scope.joinFailFast());
+            var error = assertThrows(CompletionException.class, pending::join);
+            assertInstanceOf(CancellationException.class, error.getCause());
+            queue.remove().run();
+            assertEquals(0, calls.get());
+        }
+
+        @Test
+        void test_does_not_wait_for_running_siblings() {
+            var pool = Executors.newCachedThreadPool();
+            var never = new CountDownLatch(1);
+            try (ResultScope<Integer, String> threaded = new ResultScope<>(Optional.empty(), pool)) {
+                var slow = threaded.fork(() -> await(never));
+                threaded.fork(() -> await(never, 50).flatMap(ignored -> failure("b")));
+
+                assertFailureEquals("b", threaded.joinFailFast());
+                var error = assertThrows(CompletionException.class, slow::join);
+                assertInstanceOf(CancellationException.class, error.getCause());
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        @Test
+        void test_exception() {
+            var exception = new IllegalStateException("boom");
+            scope.fork(() -> success(1));
+            scope.fork(() -> {
+                throw exception;
+            });
+            queue.removeLast().run();
+            var error = assertThrows(CompletionException.class, scope::joinFailFast);
+            assertSame(exception, error.getCause());
+        }
+    }
+
+    @Nested
+    class Close {
+        private final ExecutorService pool = Executors.newCachedThreadPool();
+
+        @AfterEach
+        void shutdown() {
+            pool.shutdownNow();
+        }
+
+        @Test
+        void test_cancels_forks_not_started() {
+            var calls = new AtomicInteger();
+            var pending = scope.fork(() -> success(calls.incrementAndGet()));
+            scope.close();
+
+            queue.remove().run();
+            assertThrows(CompletionException.class, pending::join);
+            assertThrows(CancellationException.class, scope::joinApplicative);
+            assertEquals(0, calls.get());
+        }
+
+        @Test
+        void test_keeps_completed_forks() {
+            var done = scope.fork(() -> success(1));
+            queue.remove().run();
+            scope.close();
+            assertSuccessEquals(1, done.join());
+        }
+
+        @Test
+        void test_waits_for_running_forks_to_exit() throws InterruptedException {
+            var started = new CountDownLatch(1);
+            var exited = new AtomicBoolean();
+            var threaded = new ResultScope<Integer, String>(Optional.empty(), pool);
+            threaded.fork(() -> {
+                started.countDown();
+                Result<Integer, String> result = await(new CountDownLatch(1));
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                exited.set(true);
+                return result;
+            });
+            started.await();
+
+            threaded.close();
+            assertTrue(exited.get());
+        }
+
+        @Test
+        void test_interrupted_while_waiting() throws InterruptedException {
+            var started = new CountDownLatch(1);
+            var release = new CountDownLatch(1);
+            var threaded = new ResultScope<Integer, String>(Optional.empty(), pool);
+            threaded.fork(() -> {
+                started.countDown();
+                while (release.getCount() > 0) {
+                    await(release);
+                }
+                return success(1);
+            });
+            started.await();
+
+            Thread.currentThread().interrupt();
+            threaded.close();
+            assertTrue(Thread.interrupted());
+            release.countDown();
+        }
+
+        @Test
+        void test_shuts_down_owned_executor() {
+            var owned = Executors.newSingleThreadExecutor();
+            new ResultScope<Integer, String>(Optional.of(owned), queue::add).close();
+            assertTrue(owned.isShutdown());
+        }
+
+        @Test
+        void test_owned_executor_runs_forks() {
+            var owned = Executors.newSingleThreadExecutor();
+            try (ResultScope<Integer, String> scoped = new ResultScope<>(Optional.of(owned), queue::add)) {
+                scoped.fork(() -> success(1));
+                assertSuccessEquals(List.of(1), scoped.joinApplicative());
+                assertTrue(queue.isEmpty());
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package at.base10.result.concurrent;
+
+import at.base10.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+
+import static at.base10.result.Assert.assertFailureEquals;
+import static at.base10.result.Assert.assertSuccessEquals;
+import static at.base10.result.Result.success;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SheddingExecutorTest {
+    private final ManualClock clock = new ManualClock(-1_000);
+    private final ArrayDeque<Runnable> queue = new ArrayDeque<>();
+    private final SheddingExecutor<String> executor = new SheddingExecutor<>(queue::add, Duration.ofNanos(10), Duration.ofNanos(100), () -> "overloaded", clock);
+
+    private CompletableFuture<Result<Integer, String>> submit(int value) {
+        return executor.submit(() -> success(value));
+    }
+
+    private void runNext(long afterNanos) {
+        clock.advance(afterNanos);
+        queue.remove().run();
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        Executor direct = Runnable::run;
+        var target = Duration.ofNanos(1);
+        assertThrows(NullPointerException.class, () -> SheddingExecutor.of(null, target, target, () -> "overloaded"));
+        assertThrows(NullPointerException.class, () -> SheddingExecutor.of(direct, null, target, () -> "overloaded"));
+        assertThrows(NullPointerException.class, () -> SheddingExecutor.of(direct, target, null, () -> "overloaded"));
+        assertThrows(NullPointerException.class, () -> SheddingExecutor.of(direct, target, target, null));
+        assertThrows(NullPointerException.class, () -> executor.submit(null));
+        assertThrows(NullPointerException.class, () -> executor.decorate(null));
+    }
+
+    @Test
+    void test_invalid_durations() {
+        Executor direct = Runnable::run;
+        var error = assertThrows(IllegalArgumentException.class, () -> SheddingExecutor.of(direct, Duration.ZERO, Duration.ofNanos(1), () -> "overloaded"));
+        assertEquals("target and interval must be positive but were PT0S and PT0.000000001S", error.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> SheddingExecutor.of(direct, Duration.ofNanos(1), Duration.ZERO, () -> "overloaded"));
+        assertDoesNotThrow(() -> SheddingExecutor.of(direct, Duration.ofNanos(1), Duration.ofNanos(1), () -> "overloaded"));
+    }
+
+    @Test
+    void test_system_clock() {
+        var direct = SheddingExecutor.<String>of(Runnable::run, Duration.ofHours(1), Duration.ofHours(1), () -> "overloaded");
+        assertSuccessEquals(1, direct.submit(() -> success(1)).join());
+    }
+
+    @Test
+    void test_runs_tasks_within_target() {
+        var first = submit(1);
+        var second = submit(2);
+        assertFalse(first.isDone());
+        runNext(9);
+        runNext(0);
+        assertSuccessEquals(1, first.join());
+        assertSuccessEquals(2, second.join());
+        assertEquals(0, executor.shed());
+    }
+
+    @Test
+    void test_tolerates_delay_for_one_interval() {
+        var results = IntStream.range(0, 4).mapToObj(SheddingExecutorTest.this::submit).toList();
+        runNext(10);
+        runNext(50);
+        runNext(49);
+        runNext(1);
+        assertSuccessEquals(0, results.get(0).join());
+        assertSuccessEquals(1, results.get(1).join());
+        assertSuccessEquals(2, results.get(2).join());
+        assertFailureEquals("overloaded", results.get(3).join());
+        assertEquals(1, executor.shed());
+    }
+
+    @Test
+    void test_recovers_once_delay_drops() {
+        var results = IntStream.range(0, 3).mapToObj(SheddingExecutorTest.this::submit).toList();
+        runNext(10);
+        runNext(100);
+        runNext(0);
+        var recovered = submit(3);
+        runNext(9);
+        assertFailureEquals("overloaded", results.get(1).join());
+        assertFailureEquals("overloaded", results.get(2).join());
+        assertSuccessEquals(3, recovered.join());
+        var late = submit(4);
+        runNext(100);
+        assertSuccessEquals(4, late.join());
+    }
+
+    @Test
+    void test_decorate() {
+        var twice = executor.<Integer, Integer>decorate(i -> success(i * 2));
+        var result = twice.apply(21);
+        runNext(0);
+        assertSuccessEquals(42, result.join());
+    }
+
+    @Test
+    void test_exception_completes_exceptionally() {
+        var result = executor.<Integer>submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+        runNext(0);
+        var error = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+    }
+}
@@ -0,0 +1,139 @@
+package at.base10.result.concurrent;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SlidingWindowTest {
+
+    @Nested
+    class SnapshotTest {
+        @Test
+        void test_failureRate() {
+            assertEquals(0.25, new SlidingWindow.Snapshot(4, 1).failureRate());
+        }
+
+        @Test
+        void test_failureRate_empty() {
+            assertEquals(0.0, new SlidingWindow.Snapshot(0, 0).failureRate());
+        }
+    }
+
+    @Nested
+    class OfCalls {
+        @Test
+        void test_invalid_size() {
+            var error = assertThrows(IllegalArgumentException.class, () -> SlidingWindow.ofCalls(0));
+            assertEquals("size must be positive but was 0", error.getMessage());
+        }
+
+        @Test
+        void test_records_calls_and_failures() {
+            var window = SlidingWindow.ofCalls(1);
+            assertEquals(new SlidingWindow.Snapshot(0, 0), window.snapshot(0));
+            window.record(true, 0);
+            assertEquals(new SlidingWindow.Snapshot(1, 1), window.snapshot(0));
+        }
+
+        @Test
+        void test_oldest_outcome_is_overwritten() {
+            var window = SlidingWindow.ofCalls(3);
+            window.record(true, 0);
+            window.record(false, 0);
+            window.record(true, 0);
+            assertEquals(new SlidingWindow.Snapshot(3, 2), window.snapshot(0));
+            window.record(false, 0);
+            assertEquals(new SlidingWindow.Snapshot(3, 1), window.snapshot(0));
+            window.record(false, 0);
+            window.record(true, 0);
+            window.record(true, 0);
+            assertEquals(new SlidingWindow.Snapshot(3, 2), window.snapshot(0));
+        }
+
+        @Test
+        void test_reset() {
+            var window = SlidingWindow.ofCalls(3);
+            window.record(true, 0);
+            window.record(false, 0);
+            window.reset();
+            assertEquals(new SlidingWindow.Snapshot(0, 0), window.snapshot(0));
+            window.record(false, 0);
+            assertEquals(new SlidingWindow.Snapshot(1, 0), window.snapshot(0));
+        }
+    }
+
+    @Nested
+    class OfTime {
+        @Test
+        void test_invalid_buckets() {
+            var error = assertThrows(IllegalArgumentException.class, () -> SlidingWindow.ofTime(Duration.ofNanos(5), 0));
+            assertEquals("cannot split 5ns into 0 buckets", error.getMessage());
+        }
+
+        @Test
+        void test_invalid_window() {
+            var error = assertThrows(IllegalArgumentException.class, () -> SlidingWindow.ofTime(Duration.ofNanos(1), 2));
+            assertEquals("cannot split 1ns into 2 buckets", error.getMessage());
+        }
+
+        @Test
+        void test_single_nano_bucket() {
+            var window = SlidingWindow.ofTime(Duration.ofNanos(1), 1);
+            window.record(true, 7);
+            window.record(false, 7);
+            assertEquals(new SlidingWindow.Snapshot(2, 1), window.snapshot(7));
+            assertEquals(new SlidingWindow.Snapshot(0, 0), window.snapshot(8));
+        }
+
+        @Test
+        void test_buckets_expire_one_at_a_time() {
+            var window = SlidingWindow.ofTime(Duration.ofNanos(30), 3);
+            window.record(true, 0);
+            window.record(false, 10);
+            window.record(false, 29);
+            assertEquals(new SlidingWindow.Snapshot(3, 1), window.snapshot(29));
+            assertEquals(new SlidingWindow.Snapshot(2, 0), window.snapshot(30));
+            assertEquals(new SlidingWindow.Snapshot(1, 0), window.snapshot(49));
+            assertEquals(new SlidingWindow.Snapshot(0, 0), window.snapshot(60));
+        }
+
+        @Test
+        void test_expired_bucket_is_recycled() {
+            var window = SlidingWindow.ofTime(Duration.ofNanos(30), 3);
+            window.record(true, 5);
+            window.record(true, 5);
+            window.record(false, 35);
+            assertEquals(new SlidingWindow.Snapshot(1, 0), window.snapshot(35));
+        }
+
+        @Test
+        void test_late_outcome_does_not_recycle_newer_bucket() {
+            var window = SlidingWindow.ofTime(Duration.ofNanos(30), 3);
+            window.record(false, 35);
+            window.record(true, 5);
+            assertEquals(new SlidingWindow.Snapshot(2, 1), window.snapshot(35));
+        }
+
+        @Test
+        void test_negative_time() {
+            var window = SlidingWindow.ofTime(Duration.ofNanos(2), 2);
+            window.record(true, -3);
+            assertEquals(new SlidingWindow.Snapshot(1, 1), window.snapshot(-2));
+            assertEquals(new SlidingWindow.Snapshot(0, 0), window.snapshot(-1));
+        }
+
+        @Test
+        void test_reset() {
+            var window = SlidingWindow.ofTime(Duration.ofNanos(1), 1);
+            window.record(true, Long.MIN_VALUE);
+            window.reset();
+            assertEquals(new SlidingWindow.Snapshot(0, 0), window.snapshot(Long.MIN_VALUE + 1));
+            window.record(false, Long.MIN_VALUE + 1);
+            assertEquals(new SlidingWindow.Snapshot(1, 0), window.snapshot(Long.MIN_VALUE + 1));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package at.base10.result.interop;
+
+import at.base10.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.LongSupplier;
+
+import static at.base10.result.Result.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BatchSizingTest {
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        assertThrows(NullPointerException.class, () -> BatchSizing.adaptive(1, 2, null));
+    }
+
+    @Test
+    void test_fixed() {
+        var sizer = BatchSizing.fixed(3).start();
+        assertEquals(3, sizer.size());
+        sizer.completed(Long.MAX_VALUE);
+        assertEquals(3, sizer.size());
+    }
+
+    @Test
+    void test_fixed_size_must_be_positive() {
+        var error = assertThrows(IllegalArgumentException.class, () -> BatchSizing.fixed(0));
+        assertEquals("batchSize must be positive but was 0", error.getMessage());
+    }
+
+    @Test
+    void test_adaptive_sizes_must_be_ordered() {
+        for (int[] sizes : new int[][]{{0, 1}, {3, 2}}) {
+            var error = assertThrows(IllegalArgumentException.class, () -> BatchSizing.adaptive(sizes[0], sizes[1], Duration.ofMillis(1)));
+            assertEquals("sizes must satisfy 1 <= " + sizes[0] + " <= " + sizes[1], error.getMessage());
+        }
+        assertEquals(2, BatchSizing.adaptive(2, 2, Duration.ofMillis(1)).start().size());
+    }
+
+    @Test
+    void test_adaptive_target_latency_must_be_positive() {
+        var error = assertThrows(IllegalArgumentException.class, () -> BatchSizing.adaptive(1, 2, Duration.ZERO));
+        assertEquals("targetLatency must be positive but was 0ns", error.getMessage());
+        assertEquals(1, BatchSizing.adaptive(1, 2, Duration.ofNanos(1)).start().size());
+    }
+
+    @Test
+    void test_adaptive_grows_while_fast_and_shrinks_in_proportion_when_slow() {
+        var sizer = BatchSizing.adaptive(10, 100, Duration.ofNanos(1000)).start();
+        List<Integer> sizes = new ArrayList<>(List.of(sizer.size()));
+        for (long nanos : new long[]{1000, 500, 4000, 2000, 10, 10, 10, 3000, 1001}) {
+            sizer.completed(nanos);
+            sizes.add(sizer.size());
+        }
+        assertEquals(List.of(10, 20, 40, 10, 10, 20, 40, 80, 26, 25), sizes);
+    }
+
+    @Test
+    void test_adaptive_never_exceeds_the_maximum() {
+        var sizer = BatchSizing.adaptive(1, 1_000_000_000, Duration.ofSeconds(1)).start();
+        for (int i = 0; i < 40; i++) {
+            sizer.completed(0);
+        }
+        assertEquals(1_000_000_000, sizer.size());
+    }
+
+    @Test
+    void test_adaptive_starts_fresh_per_traversal() {
+        var sizing = BatchSizing.adaptive(1, 8, Duration.ofNanos(1));
+        var first = sizing.start();
+        first.completed(0);
+        assertNotSame(first, sizing.start());
+        assertEquals(1, sizing.start().size());
+        assertEquals(2, first.size());
+    }
+
+    @Test
+    void test_batches_are_timed_with_the_clock() {
+        long[] ticks = {0, 3000, 3000, 3500, 3500, 3500};
+        var tick = new int[1];
+        LongSupplier clock = () -> ticks[tick[0]++];
+        List<Integer> sizes = new ArrayList<>();
+        var results = new BatchedResults<Integer, Integer, String>(List.of(1, 2, 3, 4, 5, 6, 7, 8).iterator(), BatchSizing.adaptive(2, 8, Duration.ofNanos(1000)), values -> {
+            sizes.add(values.size());
+            return values.stream().map(Result::<Integer, String>success).toList();
+        }, clock);
+        List<Result<Integer, String>> all = new ArrayList<>();
+        while (results.hasNext()) {
+            all.add(results.next());
+        }
+        assertEquals(List.of(2, 2, 4), sizes);
+        assertEquals(List.of(success(1), success(2), success(3), success(4), success(5), success(6), success(7), success(8)), all);
+    }
+
+    @Test
+    void test_next_without_has_next() {
+        List<Integer> sizes = new ArrayList<>();
+        var results = BatchedResults.<Integer, Integer, String>of(List.of(1, 2, 3).iterator(), BatchSizing.fixed(2), values -> {
+            sizes.add(values.size());
+            return values.stream().map(Result::<Integer, String>success).toList();
+        });
+        assertEquals(success(1), results.next());
+        assertEquals(success(2), results.next());
+        assertEquals(success(3), results.next());
+        assertEquals(List.of(2, 1), sizes);
+        assertEquals("No more results", assertThrows(NoSuchElementException.class, results::next).getMessage());
+        assertEquals(List.of(2, 1), sizes);
+    }
+}
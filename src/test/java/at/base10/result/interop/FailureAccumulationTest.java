@@ -0,0 +1,187 @@
+package at.base10.result.interop;
+
+import at.base10.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+import static at.base10.result.Assert.assertFailureEquals;
+import static at.base10.result.Assert.assertSuccessEquals;
+import static at.base10.result.Result.failure;
+import static at.base10.result.Result.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FailureAccumulationTest {
+    private final List<Integer> mapped = new ArrayList<>();
+    private final Function<Integer, Result<Integer, String>> evenOnly = value -> {
+        mapped.add(value);
+        return value % 2 == 0 ? success(value) : failure("odd " + value);
+    };
+
+    private <A> Result<List<Integer>, A> traverse(FailureAccumulation<String, A> accumulation, Integer... values) {
+        return ResultList.traverseApplicative(evenOnly, accumulation).apply(List.of(values));
+    }
+
+    private final List<Long> bounds = new ArrayList<>();
+
+    /**
+     * Returns the scripted values from {@code nextLong(bound)} and records the bounds.
+     */
+    private RandomGenerator scripted(long... values) {
+        var next = new int[1];
+        return new RandomGenerator() {
+            @Override
+            public long nextLong() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public long nextLong(long bound) {
+                bounds.add(bound);
+                return values[next[0]++];
+            }
+        };
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        assertThrows(NullPointerException.class, () -> FailureAccumulation.of(null, (state, failure) -> true, state -> state));
+        assertThrows(NullPointerException.class, () -> FailureAccumulation.of(Object::new, null, state -> state));
+        assertThrows(NullPointerException.class, () -> FailureAccumulation.of(Object::new, (state, failure) -> true, null));
+        assertThrows(NullPointerException.class, () -> FailureAccumulation.of(null, (state, failure) -> true));
+        assertThrows(NullPointerException.class, () -> FailureAccumulation.of(Object::new, null));
+        assertThrows(NullPointerException.class, () -> FailureAccumulation.counting().andThen(null));
+        assertThrows(NullPointerException.class, () -> FailureAccumulation.sample(1, null));
+        assertThrows(NullPointerException.class, () -> FailureAccumulation.combining(null));
+    }
+
+    @Test
+    void test_successes_are_kept_without_failures() {
+        assertSuccessEquals(List.of(2, 4), traverse(FailureAccumulation.counting(), 2, 4));
+        assertSuccessEquals(List.of(), traverse(FailureAccumulation.first(1)));
+    }
+
+    @Test
+    void test_all() {
+        assertFailureEquals(List.of("odd 1", "odd 3"), traverse(FailureAccumulation.all(), 1, 2, 3, 4));
+        assertEquals(List.of(1, 2, 3, 4), mapped);
+    }
+
+    @Test
+    void test_first_stops_after_the_error_budget() {
+        assertFailureEquals(List.of("odd 1", "odd 3"), traverse(FailureAccumulation.first(2), 1, 2, 3, 4, 5));
+        assertEquals(List.of(1, 2, 3), mapped);
+        assertFailureEquals(List.of("odd 1"), traverse(FailureAccumulation.first(2), 1, 2));
+    }
+
+    @Test
+    void test_first_limit_must_be_positive() {
+        var error = assertThrows(IllegalArgumentException.class, () -> FailureAccumulation.first(0));
+        assertEquals("limit must be positive but was 0", error.getMessage());
+        assertFailureEquals(List.of("odd 1"), traverse(FailureAccumulation.first(1), 1, 3));
+    }
+
+    @Test
+    void test_counting() {
+        assertFailureEquals(3L, traverse(FailureAccumulation.counting(), 1, 2, 3, 5));
+        assertEquals(4, mapped.size());
+    }
+
+    @Test
+    void test_distinct_counts_occurrences_in_order_of_first_occurrence() {
+        Function<Integer, Result<Integer, String>> bySign = value -> value < 0 ? failure("negative") : failure("zero");
+        var result = ResultList.traverseApplicative(bySign, FailureAccumulation.distinct()).apply(List.of(0, -1, -2, 0, -3));
+        assertFailureEquals(Map.of("zero", 2L, "negative", 3L), result);
+        assertEquals(List.of("zero", "negative"), List.copyOf(result.failure().keySet()));
+        assertThrows(UnsupportedOperationException.class, () -> result.failure().clear());
+    }
+
+    @Test
+    void test_sample_keeps_everything_up_to_its_size() {
+        assertFailureEquals(List.of("odd 1", "odd 3"), traverse(FailureAccumulation.sample(2), 1, 3));
+        assertFailureEquals(List.of("odd 1", "odd 3"), traverse(FailureAccumulation.sample(2, scripted()), 1, 3));
+        assertEquals(2, traverse(FailureAccumulation.sample(2), 1, 3, 5, 7).failure().size());
+    }
+
+    @Test
+    void test_sample_replaces_with_decreasing_probability() {
+        // the 3rd failure draws from [0, 3), the 4th from [0, 4), the 5th from [0, 5)
+        var result = traverse(FailureAccumulation.sample(2, scripted(1, 2, 0)), 1, 3, 5, 7, 9);
+        assertFailureEquals(List.of("odd 9", "odd 5"), result);
+        assertEquals(List.of(3L, 4L, 5L), bounds);
+        assertThrows(UnsupportedOperationException.class, () -> result.failure().clear());
+    }
+
+    @Test
+    void test_sample_size_must_be_positive() {
+        var error = assertThrows(IllegalArgumentException.class, () -> FailureAccumulation.sample(0));
+        assertEquals("size must be positive but was 0", error.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> FailureAccumulation.sample(-1, new Random()));
+    }
+
+    @Test
+    void test_sample_is_uniform() {
+        Function<Integer, Result<Integer, Integer>> failing = Result::failure;
+        var accumulation = FailureAccumulation.<Integer>sample(10, new Random(42));
+        var traversal = ResultList.traverseApplicative(failing, accumulation);
+        List<Integer> input = IntStream.range(0, 100).boxed().toList();
+        int[] kept = new int[100];
+        for (int round = 0; round < 2_000; round++) {
+            List<Integer> sample = traversal.apply(input).failure();
+            assertEquals(10, sample.size());
+            sample.forEach(value -> kept[value]++);
+        }
+        // every value is expected 200 times
+        assertTrue(IntStream.of(kept).allMatch(count -> count > 130 && count < 270));
+    }
+
+    @Test
+    void test_combining() {
+        assertFailureEquals("odd 1; odd 3; odd 5", traverse(FailureAccumulation.combining((a, b) -> a + "; " + b), 1, 2, 3, 5));
+        assertFailureEquals("odd 1", traverse(FailureAccumulation.combining((a, b) -> a + "; " + b), 1));
+    }
+
+    @Test
+    void test_custom_accumulation() {
+        FailureAccumulation<String, Integer> longest = FailureAccumulation.of(() -> new int[1], (max, failure) -> {
+            max[0] = Math.max(max[0], failure.length());
+            return failure.length() < 6;
+        }, max -> max[0]);
+        assertFailureEquals(6, traverse(longest, 1, 3, 11, 13));
+        assertEquals(List.of(1, 3, 11), mapped);
+    }
+
+    @Test
+    void test_state_is_the_accumulated_failure() {
+        FailureAccumulation<String, StringBuilder> joined = FailureAccumulation.of(StringBuilder::new, (builder, failure) -> {
+            builder.append(failure).append(';');
+            return builder.length() < 12;
+        });
+        assertFailureEquals("odd 1;odd 3;", traverse(joined, 1, 3, 5).mapFailure(StringBuilder::toString));
+        assertEquals(List.of(1, 3), mapped);
+    }
+
+    @Test
+    void test_and_then() {
+        var first = FailureAccumulation.<String>first(2).andThen(failures -> String.join(", ", failures));
+        assertFailureEquals("odd 1, odd 3", traverse(first, 1, 2, 3, 5));
+        assertEquals(List.of(1, 2, 3), mapped);
+        assertFailureEquals("2 failures", traverse(FailureAccumulation.<String>counting().andThen(count -> count + " failures"), 1, 3));
+    }
+
+    @Test
+    void test_each_traversal_starts_fresh() {
+        var traversal = ResultList.traverseApplicative(evenOnly, FailureAccumulation.counting());
+        assertFailureEquals(1L, traversal.apply(List.of(1)));
+        assertFailureEquals(1L, traversal.apply(List.of(1)));
+    }
+}
@@ -0,0 +1,78 @@
+package at.base10.result.interop;
+
+import at.base10.result.Result;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+
+import static at.base10.result.Result.failure;
+import static at.base10.result.Result.success;
+
+/**
+ * Compares {@link ResultArrays#traverseIntApplicative(IntPredicate, IntUnaryOperator, IntFunction)}, which boxes
+ * nothing, and {@link ResultArrays#traverseIntApplicative(IntFunction)}, which boxes every success value, on an
+ * {@code int[]} with the list-based path they replace: boxing the array into a {@code List<Integer>},
+ * {@link ResultList#traverseApplicative(Function)} and unboxing the successes into an {@code int[]} again.
+ *
+ * <p>Not run by the build. Run it after {@code mvn test-compile} with
+ * {@code java -cp target/classes:target/test-classes at.base10.result.interop.ResultArraysBenchmark [length]}.
+ */
+public final class ResultArraysBenchmark {
+    private static final int ROUNDS = 10;
+    private static final int REPETITIONS = 20;
+
+    private static final IntFunction<Result<Integer, String>> VALIDATE = value -> value >= 0 ? success(value >>> 1) : failure("negative " + value);
+
+    // keeps the JIT from dropping the traversals as dead code
+    private static long checksum;
+
+    private ResultArraysBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int length = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int[] values = ThreadLocalRandom.current().ints(length, 0, Integer.MAX_VALUE).toArray();
+        for (int round = 0; round < ROUNDS; round++) {
+            report("unboxed     ", length, time(() -> unboxed(values)));
+            report("ResultArrays", length, time(() -> arrays(values)));
+            report("ResultList  ", length, time(() -> list(values)));
+        }
+    }
+
+    private static void report(String name, int length, long nanos) {
+        System.out.printf("%s %,12.0f elements/s (%d)%n", name, (double) length * REPETITIONS * 1e9 / nanos, checksum);
+    }
+
+    private static long time(LongSupplier traversal) {
+        long start = System.nanoTime();
+        for (int i = 0; i < REPETITIONS; i++) {
+            checksum += traversal.getAsLong();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long unboxed(int[] values) {
+        return sum(ResultArrays.<String>traverseIntApplicative(value -> value >= 0, value -> value >>> 1, value -> "negative " + value).apply(values).orThrow());
+    }
+
+    private static long arrays(int[] values) {
+        return sum(ResultArrays.traverseIntApplicative(VALIDATE).apply(values).orThrow());
+    }
+
+    private static long list(int[] values) {
+        List<Integer> boxed = Arrays.stream(values).boxed().toList();
+        List<Integer> successes = ResultList.traverseApplicative(VALIDATE::apply).apply(boxed).orThrow();
+        return sum(successes.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private static long sum(int[] values) {
+        return IntStream.of(values).asLongStream().sum();
+    }
+}
@@ -0,0 +1,220 @@
+package at.base10.result.interop;
+
+import at.base10.result.Result;
+import at.base10.result.TestHelpers;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+
+import static at.base10.result.Result.failure;
+import static at.base10.result.Result.success;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ResultArraysTest {
+    private final List<Object> mapped = new ArrayList<>();
+
+    private final IntFunction<Result<Integer, String>> evenInt = value -> {
+        mapped.add(value);
+        return value % 2 == 0 ? success(value * 10) : failure("odd " + value);
+    };
+
+    private final IntPredicate isEvenInt = value -> {
+        mapped.add(value);
+        return value % 2 == 0;
+    };
+
+    private final LongPredicate isEvenLong = value -> {
+        mapped.add(value);
+        return value % 2 == 0;
+    };
+
+    private final LongFunction<Result<Long, String>> evenLong = value -> {
+        mapped.add(value);
+        return value % 2 == 0 ? success(value * 10) : failure("odd " + value);
+    };
+
+    @Test
+    void testNone() {
+        assertInstanceOf(ResultArrays.class, new None());
+    }
+
+    @Nested
+    class Objects {
+        @Test
+        void test_traverseApplicative_success() {
+            var result = ResultArrays.traverseApplicative(TestHelpers::tryParseInt, Integer[]::new).apply(new String[]{"1", "2", "3"});
+            assertArrayEquals(new Integer[]{1, 2, 3}, result.value());
+        }
+
+        @Test
+        void test_traverseApplicative_failure() {
+            var result = ResultArrays.traverseApplicative(TestHelpers::tryParseInt, Integer[]::new).apply(new String[]{"X", "2", "Y"});
+            assertEquals(failure(List.of("'X' is not a number", "'Y' is not a number")), result);
+            assertThrows(UnsupportedOperationException.class, () -> result.failure().add("Z"));
+        }
+
+        @Test
+        void test_traverseApplicative_empty() {
+            var result = ResultArrays.traverseApplicative(TestHelpers::tryParseInt, Integer[]::new).apply(new String[0]);
+            assertArrayEquals(new Integer[0], result.value());
+        }
+
+        @Test
+        void test_traverseMonadic_success() {
+            var result = ResultArrays.traverseMonadic(TestHelpers::tryParseInt, Integer[]::new).apply(new String[]{"1", "2"});
+            assertArrayEquals(new Integer[]{1, 2}, result.value());
+        }
+
+        @Test
+        void test_traverseMonadic_stops_at_the_first_failure() {
+            List<String> parsed = new ArrayList<>();
+            var result = ResultArrays.<String, Integer, String>traverseMonadic(value -> {
+                parsed.add(value);
+                return TestHelpers.tryParseInt(value);
+            }, Integer[]::new).apply(new String[]{"1", "X", "Y"});
+            assertEquals(failure("'X' is not a number"), result);
+            assertEquals(List.of("1", "X"), parsed);
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void test_sequenceApplicative() {
+            Result<Integer, String>[] results = new Result[]{success(1), failure("a"), success(3), failure("b")};
+            assertEquals(failure(List.of("a", "b")), ResultArrays.sequenceApplicative(results, Integer[]::new));
+            Result<Integer, String>[] successes = new Result[]{success(1), success(2)};
+            assertArrayEquals(new Integer[]{1, 2}, ResultArrays.sequenceApplicative(successes, Integer[]::new).value());
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void test_sequenceMonadic() {
+            Result<Integer, String>[] results = new Result[]{success(1), failure("a"), failure("b")};
+            assertEquals(failure("a"), ResultArrays.sequenceMonadic(results, Integer[]::new));
+            Result<Integer, String>[] successes = new Result[]{success(1), success(2)};
+            assertArrayEquals(new Integer[]{1, 2}, ResultArrays.sequenceMonadic(successes, Integer[]::new).value());
+        }
+
+        @Test
+        void test_result_array_has_the_input_length() {
+            List<Integer> lengths = new ArrayList<>();
+            var result = ResultArrays.traverseApplicative(TestHelpers::tryParseInt, length -> {
+                lengths.add(length);
+                return new Integer[length];
+            }).apply(new String[]{"1", "2", "3"});
+            assertEquals(List.of(3), lengths);
+            assertEquals(3, result.value().length);
+        }
+    }
+
+    @Nested
+    class Ints {
+        @Test
+        void test_traverseIntApplicative_success() {
+            assertArrayEquals(new int[]{0, 20, 40}, ResultArrays.traverseIntApplicative(evenInt).apply(new int[]{0, 2, 4}).value());
+        }
+
+        @Test
+        void test_traverseIntApplicative_failure() {
+            var result = ResultArrays.traverseIntApplicative(evenInt).apply(new int[]{1, 2, 3});
+            assertEquals(failure(List.of("odd 1", "odd 3")), result);
+            assertThrows(UnsupportedOperationException.class, () -> result.failure().add("Z"));
+            assertEquals(List.of(1, 2, 3), mapped);
+        }
+
+        @Test
+        void test_traverseIntMonadic_success() {
+            assertArrayEquals(new int[]{20, 40}, ResultArrays.traverseIntMonadic(evenInt).apply(new int[]{2, 4}).value());
+            assertArrayEquals(new int[0], ResultArrays.traverseIntMonadic(evenInt).apply(new int[0]).value());
+        }
+
+        @Test
+        void test_traverseIntMonadic_stops_at_the_first_failure() {
+            assertEquals(failure("odd 3"), ResultArrays.traverseIntMonadic(evenInt).apply(new int[]{2, 3, 5}));
+            assertEquals(List.of(2, 3), mapped);
+        }
+
+        @Test
+        void test_null_success_has_no_int_value() {
+            assertThrows(NullPointerException.class, () -> ResultArrays.<String>traverseIntApplicative(value -> success(null)).apply(new int[]{1}));
+            assertThrows(NullPointerException.class, () -> ResultArrays.<String>traverseIntMonadic(value -> success(null)).apply(new int[]{1}));
+        }
+
+        @Test
+        void test_unboxed_traverseIntApplicative() {
+            var traversal = ResultArrays.traverseIntApplicative(isEvenInt, value -> value * 10, value -> "odd " + value);
+            assertArrayEquals(new int[]{0, 20, 40}, traversal.apply(new int[]{0, 2, 4}).value());
+            var result = traversal.apply(new int[]{1, 2, 3});
+            assertEquals(failure(List.of("odd 1", "odd 3")), result);
+            assertThrows(UnsupportedOperationException.class, () -> result.failure().add("Z"));
+            assertEquals(List.of(0, 2, 4, 1, 2, 3), mapped);
+        }
+
+        @Test
+        void test_unboxed_traverseIntMonadic() {
+            var traversal = ResultArrays.traverseIntMonadic(isEvenInt, value -> value * 10, value -> "odd " + value);
+            assertArrayEquals(new int[]{20, 40}, traversal.apply(new int[]{2, 4}).value());
+            assertEquals(failure("odd 3"), traversal.apply(new int[]{2, 3, 5}));
+            assertEquals(List.of(2, 4, 2, 3), mapped);
+        }
+    }
+
+    @Nested
+    class Longs {
+        @Test
+        void test_traverseLongApplicative_success() {
+            assertArrayEquals(new long[]{0, 20, 40_000_000_000L}, ResultArrays.traverseLongApplicative(evenLong).apply(new long[]{0, 2, 4_000_000_000L}).value());
+        }
+
+        @Test
+        void test_traverseLongApplicative_failure() {
+            var result = ResultArrays.traverseLongApplicative(evenLong).apply(new long[]{1, 2, 3});
+            assertEquals(failure(List.of("odd 1", "odd 3")), result);
+            assertThrows(UnsupportedOperationException.class, () -> result.failure().add("Z"));
+            assertEquals(List.of(1L, 2L, 3L), mapped);
+        }
+
+        @Test
+        void test_traverseLongMonadic_success() {
+            assertArrayEquals(new long[]{20, 40}, ResultArrays.traverseLongMonadic(evenLong).apply(new long[]{2, 4}).value());
+        }
+
+        @Test
+        void test_traverseLongMonadic_stops_at_the_first_failure() {
+            assertEquals(failure("odd 3"), ResultArrays.traverseLongMonadic(evenLong).apply(new long[]{2, 3, 5}));
+            assertEquals(List.of(2L, 3L), mapped);
+        }
+
+        @Test
+        void test_null_success_has_no_long_value() {
+            assertThrows(NullPointerException.class, () -> ResultArrays.<String>traverseLongApplicative(value -> success(null)).apply(new long[]{1}));
+            assertThrows(NullPointerException.class, () -> ResultArrays.<String>traverseLongMonadic(value -> success(null)).apply(new long[]{1}));
+        }
+
+        @Test
+        void test_unboxed_traverseLongApplicative() {
+            var traversal = ResultArrays.traverseLongApplicative(isEvenLong, value -> value * 10, value -> "odd " + value);
+            assertArrayEquals(new long[]{0, 20, 40_000_000_000L}, traversal.apply(new long[]{0, 2, 4_000_000_000L}).value());
+            var result = traversal.apply(new long[]{1, 2, 3});
+            assertEquals(failure(List.of("odd 1", "odd 3")), result);
+            assertThrows(UnsupportedOperationException.class, () -> result.failure().add("Z"));
+            assertEquals(List.of(0L, 2L, 4_000_000_000L, 1L, 2L, 3L), mapped);
+        }
+
+        @Test
+        void test_unboxed_traverseLongMonadic() {
+            var traversal = ResultArrays.traverseLongMonadic(isEvenLong, value -> value * 10, value -> "odd " + value);
+            assertArrayEquals(new long[]{20, 40}, traversal.apply(new long[]{2, 4}).value());
+            assertEquals(failure("odd 3"), traversal.apply(new long[]{2, 3, 5}));
+            assertEquals(List.of(2L, 4L, 2L, 3L), mapped);
+        }
+    }
+}
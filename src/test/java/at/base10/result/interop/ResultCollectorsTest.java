@@ -0,0 +1,305 @@
+package at.base10.result.interop;
+
+import at.base10.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static at.base10.result.Result.failure;
+import static at.base10.result.Result.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResultCollectorsTest {
+    private final List<Integer> capacities = Collections.synchronizedList(new ArrayList<>());
+    private final IntFunction<List<Integer>> recording = capacity -> {
+        capacities.add(capacity);
+        return new ArrayList<>();
+    };
+    private final List<Integer> failureCapacities = Collections.synchronizedList(new ArrayList<>());
+    private final IntFunction<List<String>> recordingFailures = capacity -> {
+        failureCapacities.add(capacity);
+        return new ArrayList<>();
+    };
+
+    private static Result<Integer, String> parse(int value) {
+        return value % 3 == 0 ? failure("fizz " + value) : success(value);
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        assertThrows(NullPointerException.class, () -> ResultCollectors.partitioning(null, Collectors.toList()));
+        assertThrows(NullPointerException.class, () -> ResultCollectors.partitioning(Collectors.toList(), null));
+        assertThrows(NullPointerException.class, () -> ResultCollectors.countingFailures(null));
+        assertThrows(NullPointerException.class, () -> ResultCollectors.groupingFailures(null, Collectors.toList()));
+        assertThrows(NullPointerException.class, () -> ResultCollectors.groupingFailures(String::length, null));
+        assertThrows(NullPointerException.class, () -> ResultCollectors.countingFailuresConcurrent(null));
+        assertThrows(NullPointerException.class, () -> ResultCollectors.groupingFailuresConcurrent(null, Collectors.toList()));
+        assertThrows(NullPointerException.class, () -> ResultCollectors.groupingFailuresConcurrent(String::length, null));
+        assertThrows(NullPointerException.class, () -> ResultCollectors.summarizingInt(null));
+        assertThrows(NullPointerException.class, () -> ResultCollectors.summarizingLong(null));
+        assertThrows(NullPointerException.class, () -> ResultCollectors.summarizingDouble(null));
+    }
+
+    @Test
+    void test_partitioning() {
+        var partition = IntStream.range(1, 8).mapToObj(ResultCollectorsTest::parse).collect(ResultCollectors.partitioning());
+        assertEquals(List.of(1, 2, 4, 5, 7), partition.successes());
+        assertEquals(List.of("fizz 3", "fizz 6"), partition.failures());
+    }
+
+    @Test
+    void test_partitioning_empty() {
+        assertEquals(new ResultCollectors.Partition<>(List.of(), List.of()), Stream.<Result<Integer, String>>empty().collect(ResultCollectors.partitioning()));
+    }
+
+    @Test
+    void test_partitioning_with_downstream_collectors() {
+        var partition = IntStream.range(1, 8).mapToObj(ResultCollectorsTest::parse)
+                .collect(ResultCollectors.partitioning(Collectors.summingInt(Integer::intValue), Collectors.joining(", ")));
+        assertEquals(19, partition.successes());
+        assertEquals("fizz 3, fizz 6", partition.failures());
+    }
+
+    @Test
+    void test_partitioning_parallel_keeps_encounter_order() {
+        var partition = IntStream.range(0, 100_000).parallel().mapToObj(ResultCollectorsTest::parse).collect(ResultCollectors.partitioning());
+        assertEquals(IntStream.range(0, 100_000).filter(i -> i % 3 != 0).boxed().toList(), partition.successes());
+        assertEquals(IntStream.range(0, 100_000).filter(i -> i % 3 == 0).mapToObj(i -> "fizz " + i).toList(), partition.failures());
+    }
+
+    @Test
+    void test_partition() {
+        var partition = ResultStream.partition(IntStream.range(1, 5).mapToObj(ResultCollectorsTest::parse));
+        assertEquals(new ResultCollectors.Partition<>(List.of(1, 2, 4), List.of("fizz 3")), partition);
+    }
+
+    @Test
+    void test_partition_closes_the_stream() {
+        var closed = new AtomicBoolean();
+        ResultStream.partition(IntStream.range(1, 5).mapToObj(ResultCollectorsTest::parse).onClose(() -> closed.set(true)));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void test_partition_presizes_a_sized_sequential_stream() {
+        var partition = Partitioning.partition(IntStream.range(1, 5).mapToObj(ResultCollectorsTest::parse), recording, recordingFailures);
+        assertEquals(List.of(4), capacities);
+        assertEquals(List.of(4), failureCapacities);
+        assertEquals(List.of(1, 2, 4), partition.successes());
+        assertEquals(List.of("fizz 3"), partition.failures());
+    }
+
+    @Test
+    void test_partition_does_not_presize_unsized_streams() {
+        Partitioning.partition(IntStream.range(1, 5).mapToObj(ResultCollectorsTest::parse).filter(Result::isSuccess), recording, recordingFailures);
+        assertEquals(List.of(0), capacities);
+        assertEquals(List.of(0), failureCapacities);
+    }
+
+    @Test
+    void test_partition_caps_the_capacity() {
+        Spliterator<Result<Integer, String>> huge = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.SIZED) {
+            private int next = 1;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Result<Integer, String>> action) {
+                action.accept(parse(next));
+                return next++ < 3;
+            }
+        };
+        var partition = Partitioning.partition(StreamSupport.stream(huge, false), recording, recordingFailures);
+        assertEquals(List.of(Partitioning.MAX_PRESIZE), capacities);
+        assertEquals(List.of(Partitioning.MAX_PRESIZE), failureCapacities);
+        assertEquals(List.of(1, 2), partition.successes());
+        assertEquals(List.of("fizz 3"), partition.failures());
+    }
+
+    @Test
+    void test_partition_parallel() {
+        var partition = Partitioning.partition(IntStream.range(0, 10_000).parallel().mapToObj(ResultCollectorsTest::parse), recording, recordingFailures);
+        assertEquals(IntStream.range(0, 10_000).filter(i -> i % 3 != 0).boxed().toList(), partition.successes());
+        assertEquals(3_334, partition.failures().size());
+        assertEquals(List.of(0), List.copyOf(capacities).stream().distinct().toList());
+    }
+
+    @Test
+    void test_counting_failures() {
+        var groups = IntStream.range(1, 16).mapToObj(ResultCollectorsTest::parse)
+                .collect(ResultCollectors.countingFailures(failure -> failure.length()));
+        assertEquals(10, groups.successes());
+        assertEquals(List.of(Map.entry(6, 3L), Map.entry(7, 2L)), List.copyOf(groups.failures().entrySet()));
+        assertThrows(UnsupportedOperationException.class, () -> groups.failures().clear());
+    }
+
+    @Test
+    void test_counting_failures_parallel() {
+        var groups = IntStream.range(0, 100_000).parallel().mapToObj(ResultCollectorsTest::parse)
+                .collect(ResultCollectors.countingFailures(failure -> failure.charAt(failure.length() - 1)));
+        assertEquals(66_666, groups.successes());
+        assertEquals(expectedCounts(), groups.failures());
+    }
+
+    @Test
+    void test_counting_failures_combiner() {
+        var groups = combine(ResultCollectors.<Integer, String, Integer>countingFailures(String::length), IntStream.range(1, 10), IntStream.range(6, 16));
+        assertEquals(12, groups.successes());
+        assertEquals(List.of(Map.entry(6, 5L), Map.entry(7, 2L)), List.copyOf(groups.failures().entrySet()));
+    }
+
+    @Test
+    void test_grouping_failures() {
+        var groups = IntStream.range(1, 16).mapToObj(ResultCollectorsTest::parse)
+                .collect(ResultCollectors.groupingFailures(String::length, Collectors.toList()));
+        assertEquals(10, groups.successes());
+        assertEquals(List.of(Map.entry(6, List.of("fizz 3", "fizz 6", "fizz 9")), Map.entry(7, List.of("fizz 12", "fizz 15"))),
+                List.copyOf(groups.failures().entrySet()));
+        assertThrows(UnsupportedOperationException.class, () -> groups.failures().clear());
+    }
+
+    @Test
+    void test_grouping_failures_parallel_keeps_encounter_order() {
+        var groups = IntStream.range(0, 100_000).parallel().mapToObj(ResultCollectorsTest::parse)
+                .collect(ResultCollectors.groupingFailures(failure -> failure.length() % 2, Collectors.toList()));
+        assertEquals(66_666, groups.successes());
+        var fizz = IntStream.range(0, 100_000).filter(i -> i % 3 == 0).mapToObj(i -> "fizz " + i);
+        assertEquals(fizz.collect(Collectors.groupingBy(failure -> failure.length() % 2)), groups.failures());
+    }
+
+    @Test
+    void test_grouping_failures_combiner() {
+        var collector = ResultCollectors.<Integer, String, Integer, String>groupingFailures(String::length, Collectors.joining(", "));
+        var groups = combine(collector, IntStream.range(1, 10), IntStream.range(6, 16));
+        assertEquals(List.of(Map.entry(6, "fizz 3, fizz 6, fizz 9, fizz 6, fizz 9"), Map.entry(7, "fizz 12, fizz 15")), List.copyOf(groups.failures().entrySet()));
+    }
+
+    @Test
+    void test_counting_failures_concurrent() {
+        var collector = ResultCollectors.<Integer, String, Character>countingFailuresConcurrent(failure -> failure.charAt(failure.length() - 1));
+        assertEquals(Set.of(Collector.Characteristics.CONCURRENT, Collector.Characteristics.UNORDERED), collector.characteristics());
+        var groups = IntStream.range(0, 100_000).parallel().mapToObj(ResultCollectorsTest::parse).collect(collector);
+        assertEquals(66_666, groups.successes());
+        assertEquals(expectedCounts(), groups.failures());
+        assertThrows(UnsupportedOperationException.class, () -> groups.failures().clear());
+    }
+
+    @Test
+    void test_counting_failures_concurrent_combiner() {
+        var collector = ResultCollectors.<Integer, String, Integer>countingFailuresConcurrent(String::length);
+        var groups = combine(collector, IntStream.range(1, 10), IntStream.range(10, 16));
+        assertEquals(new ResultCollectors.FailureGroups<>(10, Map.of(6, 3L, 7, 2L)), groups);
+    }
+
+    @Test
+    void test_grouping_failures_concurrent() {
+        var collector = ResultCollectors.<Integer, String, Integer, Long>groupingFailuresConcurrent(failure -> failure.length() % 2, Collectors.counting());
+        assertEquals(Set.of(Collector.Characteristics.CONCURRENT, Collector.Characteristics.UNORDERED), collector.characteristics());
+        var groups = IntStream.range(0, 100_000).parallel().mapToObj(ResultCollectorsTest::parse).collect(collector);
+        assertEquals(66_666, groups.successes());
+        assertEquals(Map.of(0, 30_304L, 1, 3_030L), groups.failures());
+        assertThrows(UnsupportedOperationException.class, () -> groups.failures().clear());
+    }
+
+    @Test
+    void test_grouping_failures_concurrent_combiner() {
+        var collector = ResultCollectors.<Integer, String, Integer, String>groupingFailuresConcurrent(String::length, Collectors.joining(", "));
+        var groups = combine(collector, IntStream.range(1, 13), IntStream.range(13, 16));
+        assertEquals(new ResultCollectors.FailureGroups<>(10, Map.of(6, "fizz 3, fizz 6, fizz 9", 7, "fizz 12, fizz 15")), groups);
+    }
+
+    @Test
+    void test_failures_cannot_be_mapped_to_null() {
+        List<Collector<Result<Integer, String>, ?, ?>> collectors = List.of(
+                ResultCollectors.countingFailures(failure -> null),
+                ResultCollectors.groupingFailures(failure -> null, Collectors.toList()),
+                ResultCollectors.countingFailuresConcurrent(failure -> null),
+                ResultCollectors.groupingFailuresConcurrent(failure -> null, Collectors.toList()));
+        for (var collector : collectors) {
+            var error = assertThrows(NullPointerException.class, () -> Stream.of(parse(3)).collect(collector));
+            assertEquals("element cannot be mapped to a null key", error.getMessage());
+        }
+    }
+
+    @Test
+    void test_summarizing_int() {
+        var summary = IntStream.range(1, 8).mapToObj(ResultCollectorsTest::parse).collect(ResultCollectors.summarizingInt(value -> value * 2));
+        assertEquals(2, summary.failures());
+        assertEquals("IntSummaryStatistics{count=5, sum=38, min=2, average=7.600000, max=14}", summary.successes().toString());
+    }
+
+    @Test
+    void test_summarizing_long() {
+        var summary = IntStream.range(1, 8).mapToObj(ResultCollectorsTest::parse).collect(ResultCollectors.summarizingLong(value -> value * 1_000_000_000L));
+        assertEquals(2, summary.failures());
+        assertEquals("LongSummaryStatistics{count=5, sum=19000000000, min=1000000000, average=3800000000.000000, max=7000000000}", summary.successes().toString());
+    }
+
+    @Test
+    void test_summarizing_double() {
+        var summary = IntStream.range(1, 8).mapToObj(ResultCollectorsTest::parse).collect(ResultCollectors.summarizingDouble(value -> value / 2.0));
+        assertEquals(2, summary.failures());
+        assertEquals("DoubleSummaryStatistics{count=5, sum=9.500000, min=0.500000, average=1.900000, max=3.500000}", summary.successes().toString());
+    }
+
+    @Test
+    void test_summarizing_empty() {
+        var summary = Stream.<Result<Integer, String>>empty().collect(ResultCollectors.summarizingInt(Integer::intValue));
+        assertEquals(0, summary.failures());
+        assertEquals(new IntSummaryStatistics().toString(), summary.successes().toString());
+    }
+
+    @Test
+    void test_summarizing_parallel() {
+        var summary = IntStream.range(0, 10_000).parallel().mapToObj(ResultCollectorsTest::parse).collect(ResultCollectors.summarizingLong(Integer::longValue));
+        assertEquals(3_334, summary.failures());
+        assertEquals(IntStream.range(0, 10_000).filter(i -> i % 3 != 0).asLongStream().summaryStatistics().toString(), summary.successes().toString());
+    }
+
+    @Test
+    void test_summarizing_combiner() {
+        var ints = combine(ResultCollectors.summarizingInt(Integer::intValue), IntStream.range(1, 5), IntStream.range(5, 10));
+        assertEquals(3, ints.failures());
+        assertEquals("IntSummaryStatistics{count=6, sum=27, min=1, average=4.500000, max=8}", ints.successes().toString());
+        var longs = combine(ResultCollectors.summarizingLong(Integer::longValue), IntStream.range(1, 5), IntStream.range(5, 10));
+        assertEquals(6, longs.successes().getCount());
+        assertEquals(27, longs.successes().getSum());
+        var doubles = combine(ResultCollectors.summarizingDouble(Integer::doubleValue), IntStream.range(1, 5), IntStream.range(5, 10));
+        assertEquals(6, doubles.successes().getCount());
+        assertEquals(27, doubles.successes().getSum());
+    }
+
+    private static Map<Character, Long> expectedCounts() {
+        return IntStream.range(0, 100_000).filter(i -> i % 3 == 0).mapToObj(i -> ("fizz " + i).charAt(("fizz " + i).length() - 1))
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+
+    private static <A, R> R combine(Collector<Result<Integer, String>, A, R> collector, IntStream left, IntStream right) {
+        A first = fill(collector, left);
+        A second = fill(collector, right);
+        return collector.finisher().apply(collector.combiner().apply(first, second));
+    }
+
+    private static <A> A fill(Collector<Result<Integer, String>, A, ?> collector, IntStream values) {
+        A container = collector.supplier().get();
+        values.mapToObj(ResultCollectorsTest::parse).forEach(result -> collector.accumulator().accept(container, result));
+        return container;
+    }
+}
@@ -0,0 +1,171 @@
+package at.base10.result.interop;
+
+import at.base10.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+
+import static at.base10.result.Result.failure;
+import static at.base10.result.Result.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResultIteratorTest {
+    private final List<Integer> read = new ArrayList<>();
+    private int closes;
+
+    private final AutoCloseable resource = () -> closes++;
+
+    @SafeVarargs
+    private Iterator<Result<Integer, String>> source(Result<Integer, String>... results) {
+        Iterator<Result<Integer, String>> iterator = List.of(results).iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Result<Integer, String> next() {
+                read.add(read.size());
+                return iterator.next();
+            }
+        };
+    }
+
+    private static List<Integer> remaining(Iterator<Integer> iterator) {
+        List<Integer> values = new ArrayList<>();
+        iterator.forEachRemaining(values::add);
+        return values;
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        assertThrows(NullPointerException.class, () -> ResultIterator.of(null, resource));
+        assertThrows(NullPointerException.class, () -> ResultIterator.of(source(), null));
+        assertThrows(NullPointerException.class, () -> ResultIterator.of((Iterator<Result<Integer, String>>) null));
+        assertThrows(NullPointerException.class, () -> ResultIterator.of((Iterable<Result<Integer, String>>) null));
+    }
+
+    @Test
+    void test_yields_successes_and_closes_when_exhausted() {
+        var iterator = ResultIterator.of(source(success(1), success(2)), resource);
+        assertEquals(List.of(1, 2), remaining(iterator));
+        assertFalse(iterator.failed());
+        assertEquals("No failure met", assertThrows(NoSuchElementException.class, iterator::failure).getMessage());
+        assertEquals(1, closes);
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void test_reads_lazily() {
+        var iterator = ResultIterator.of(source(success(1), success(2), success(3)), resource);
+        assertEquals(List.of(), read);
+        assertEquals(1, iterator.next());
+        assertEquals(1, read.size());
+        assertTrue(iterator.hasNext());
+        assertTrue(iterator.hasNext());
+        assertEquals(2, read.size());
+        assertEquals(2, iterator.next());
+        assertEquals(0, closes);
+    }
+
+    @Test
+    void test_stops_at_the_first_failure() {
+        var iterator = ResultIterator.of(source(success(1), failure("a"), success(3), failure("b")), resource);
+        assertEquals(List.of(1), remaining(iterator));
+        assertTrue(iterator.failed());
+        assertEquals("a", iterator.failure());
+        assertEquals(1, closes);
+        assertFalse(iterator.hasNext());
+        assertEquals(2, read.size());
+    }
+
+    @Test
+    void test_failure_is_known_only_once_reached() {
+        var iterator = ResultIterator.of(source(success(1), failure("a")), resource);
+        assertFalse(iterator.failed());
+        iterator.next();
+        assertFalse(iterator.failed());
+        assertFalse(iterator.hasNext());
+        assertTrue(iterator.failed());
+        assertEquals("a", iterator.failure());
+    }
+
+    @Test
+    void test_null_failure() {
+        var iterator = ResultIterator.of(source(success(1), failure(null)), resource);
+        assertEquals(List.of(1), remaining(iterator));
+        assertTrue(iterator.failed());
+        assertNull(iterator.failure());
+    }
+
+    @Test
+    void test_close_on_early_exit() {
+        try (var iterator = ResultIterator.of(source(success(1), success(2), success(3)), resource)) {
+            assertEquals(1, iterator.next());
+            assertTrue(iterator.hasNext());
+            iterator.close();
+            assertFalse(iterator.hasNext());
+            assertEquals(1, closes);
+        }
+        assertEquals(1, closes);
+        assertEquals(2, read.size());
+    }
+
+    @Test
+    void test_without_resource() {
+        var iterator = ResultIterator.of(List.of(Result.<Integer, String>success(1), failure("a")));
+        assertEquals(List.of(1), remaining(iterator));
+        assertTrue(iterator.failed());
+        assertEquals("a", iterator.failure());
+        iterator.close();
+    }
+
+    @Test
+    void test_stream() {
+        var iterator = ResultIterator.of(source(success(1), success(2), failure("a")), resource);
+        try (Stream<Integer> stream = iterator.stream()) {
+            assertFalse(stream.isParallel());
+            assertEquals(List.of(1, 2), stream.toList());
+        }
+        assertTrue(iterator.failed());
+        assertEquals("a", iterator.failure());
+        assertEquals(1, closes);
+    }
+
+    @Test
+    void test_closing_the_stream_closes_the_traversal() {
+        var iterator = ResultIterator.of(source(success(1), success(2)), resource);
+        try (Stream<Integer> stream = iterator.stream()) {
+            assertEquals(Spliterator.ORDERED, stream.spliterator().characteristics());
+        }
+        assertEquals(1, closes);
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void test_resource_exceptions() {
+        var unchecked = new IllegalArgumentException("unchecked");
+        var error = assertThrows(IllegalArgumentException.class, () -> ResultIterator.of(source(), () -> {
+            throw unchecked;
+        }).hasNext());
+        assertSame(unchecked, error);
+        var checked = new IOException("checked");
+        var wrapped = assertThrows(IllegalStateException.class, () -> ResultIterator.of(source(), () -> {
+            throw checked;
+        }).close());
+        assertSame(checked, wrapped.getCause());
+    }
+}
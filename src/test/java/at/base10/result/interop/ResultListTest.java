@@ -5,12 +5,24 @@ import at.base10.result.TestHelpers;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import static at.base10.result.Result.failure;
 import static at.base10.result.Result.success;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ResultListTest {
 
@@ -452,4 +464,214 @@ public class ResultListTest {
     }
 
 
+    @Nested
+    class WithAccumulation {
+        @Test
+        void test_traverseApplicative_stops_mapping_after_the_error_budget() {
+            List<String> mapped = new ArrayList<>();
+            Function<String, Result<Integer, String>> parse = value -> {
+                mapped.add(value);
+                return TestHelpers.tryParseInt(value);
+            };
+            assertEquals(failure(List.of("'X' is not a number")),
+                    ResultList.traverseApplicative(parse, FailureAccumulation.first(1)).apply(List.of("1", "X", "Y")));
+            assertEquals(List.of("1", "X"), mapped);
+        }
+
+        @Test
+        void test_traverseApplicative_success() {
+            assertEquals(success(List.of(1, 2)),
+                    ResultList.traverseApplicative(TestHelpers::tryParseInt, FailureAccumulation.counting()).apply(List.of("1", "2")));
+        }
+
+        @Test
+        void test_sequenceApplicative() {
+            List<Result<Integer, String>> list = List.of(failure("a"), success(2), failure("b"));
+            assertEquals(failure("a+b"), ResultList.sequenceApplicative(list, FailureAccumulation.combining((a, b) -> a + "+" + b)));
+        }
+
+        @Test
+        void test_successes_are_unmodifiable() {
+            var result = ResultList.sequenceApplicative(List.of(Result.<Integer, String>success(1)));
+            assertThrows(UnsupportedOperationException.class, () -> result.value().add(2));
+        }
+    }
+
+    @Nested
+    class TraverseApplicativeAsync {
+        private final Map<String, CompletableFuture<Result<Integer, String>>> pending = new LinkedHashMap<>();
+
+        private Function<List<String>, CompletableFuture<Result<List<Integer>, List<String>>>> traversal() {
+            return ResultList.traverseApplicativeAsync(value -> pending.computeIfAbsent(value, v -> new CompletableFuture<>()));
+        }
+
+        private void complete(String value) {
+            pending.get(value).complete(TestHelpers.tryParseInt(value));
+        }
+
+        @Test
+        void test_allSuccess_keeps_input_order() {
+            var result = traversal().apply(List.of("1", "2", "3"));
+            complete("3");
+            complete("1");
+            assertFalse(result.isDone());
+            complete("2");
+            assertEquals(success(List.of(1, 2, 3)), result.join());
+        }
+
+        @Test
+        void test_starts_every_computation() {
+            traversal().apply(List.of("1", "2", "3"));
+            assertEquals(List.of("1", "2", "3"), List.copyOf(pending.keySet()));
+        }
+
+        @Test
+        void test_accumulates_failures_in_input_order() {
+            var result = traversal().apply(List.of("X", "2", "Y"));
+            complete("Y");
+            complete("2");
+            complete("X");
+            assertEquals(failure(List.of("'X' is not a number", "'Y' is not a number")), result.join());
+        }
+
+        @Test
+        void test_empty() {
+            var result = traversal().apply(List.of());
+            assertEquals(success(List.of()), result.getNow(null));
+        }
+
+        @Test
+        void test_already_completed() {
+            var result = ResultList.traverseApplicativeAsync((String value) -> CompletableFuture.completedFuture(TestHelpers.tryParseInt(value)))
+                    .apply(List.of("1", "X"));
+            assertEquals(failure(List.of("'X' is not a number")), result.getNow(null));
+        }
+
+        @Test
+        void test_exception_completes_without_waiting() {
+            var exception = new IllegalStateException("boom");
+            var result = traversal().apply(List.of("1", "2"));
+            pending.get("2").completeExceptionally(exception);
+            var error = assertThrows(CompletionException.class, result::join);
+            assertSame(exception, error.getCause());
+            complete("1");
+            assertThrows(CompletionException.class, result::join);
+        }
+
+        @Test
+        void test_null_result_completes_exceptionally() {
+            var result = traversal().apply(List.of("1", "2"));
+            complete("1");
+            pending.get("2").complete(null);
+            var error = assertThrows(CompletionException.class, result::join);
+            assertInstanceOf(NullPointerException.class, error.getCause());
+            assertEquals("computation 1 completed with a null result", error.getCause().getMessage());
+        }
+
+        @Test
+        void test_throwing_mapping_leaves_started_computations_alone() {
+            var exception = new IllegalStateException("boom");
+            var result = ResultList.<String, Integer, String>traverseApplicativeAsync(value -> {
+                if (value.equals("boom")) {
+                    throw exception;
+                }
+                return pending.computeIfAbsent(value, v -> new CompletableFuture<>());
+            }).apply(List.of("1", "2", "boom", "3"));
+            var error = assertThrows(CompletionException.class, result::join);
+            assertSame(exception, error.getCause());
+            assertEquals(List.of("1", "2"), List.copyOf(pending.keySet()));
+            assertFalse(pending.get("1").isDone());
+            complete("1");
+            assertEquals(success(1), pending.get("1").join());
+            assertFalse(pending.get("2").isDone());
+        }
+
+        @Test
+        void test_null_future_completes_exceptionally() {
+            var result = ResultList.<String, Integer, String>traverseApplicativeAsync(value -> null).apply(List.of("1"));
+            var error = assertThrows(CompletionException.class, result::join);
+            assertInstanceOf(NullPointerException.class, error.getCause());
+        }
+
+        @Test
+        void test_lists_are_unmodifiable() {
+            var success = traversal().apply(List.of("1"));
+            complete("1");
+            var failure = traversal().apply(List.of("X"));
+            complete("X");
+            assertThrows(UnsupportedOperationException.class, () -> success.join().value().add(2));
+            assertThrows(UnsupportedOperationException.class, () -> failure.join().failure().add("Y"));
+        }
+
+        @Test
+        void test_large_input() {
+            var values = IntStream.range(0, 100_000).boxed().toList();
+            var result = ResultList.traverseApplicativeAsync((Integer value) -> CompletableFuture.<Result<Integer, String>>completedFuture(success(value)))
+                    .apply(values)
+                    .join();
+            assertEquals(success(values), result);
+        }
+    }
+
+    @Nested
+    class Batched {
+        private final List<List<String>> batches = new ArrayList<>();
+        private final Function<List<String>, List<Result<Integer, String>>> parseAll = values -> {
+            batches.add(values);
+            return values.stream().map(TestHelpers::tryParseInt).toList();
+        };
+
+        @Test
+        void test_traverseBatchedApplicative_success() {
+            assertEquals(success(List.of(1, 2, 3, 4, 5)), ResultList.traverseBatchedApplicative(2, parseAll).apply(List.of("1", "2", "3", "4", "5")));
+            assertEquals(List.of(List.of("1", "2"), List.of("3", "4"), List.of("5")), batches);
+        }
+
+        @Test
+        void test_traverseBatchedApplicative_accumulates_failures_of_every_batch() {
+            assertEquals(failure(List.of("'X' is not a number", "'Y' is not a number", "'Z' is not a number")),
+                    ResultList.traverseBatchedApplicative(2, parseAll).apply(List.of("1", "X", "Y", "4", "Z")));
+            assertEquals(3, batches.size());
+        }
+
+        @Test
+        void test_traverseBatchedMonadic_success() {
+            assertEquals(success(List.of(1, 2, 3)), ResultList.traverseBatchedMonadic(3, parseAll).apply(List.of("1", "2", "3")));
+            assertEquals(List.of(List.of("1", "2", "3")), batches);
+        }
+
+        @Test
+        void test_traverseBatchedMonadic_stops_after_the_batch_with_the_first_failure() {
+            assertEquals(failure("'X' is not a number"), ResultList.traverseBatchedMonadic(2, parseAll).apply(List.of("1", "2", "X", "Y", "5")));
+            assertEquals(List.of(List.of("1", "2"), List.of("X", "Y")), batches);
+        }
+
+        @Test
+        void test_empty_list_maps_no_batch() {
+            assertEquals(success(List.of()), ResultList.traverseBatchedApplicative(2, parseAll).apply(List.of()));
+            assertEquals(success(List.of()), ResultList.traverseBatchedMonadic(2, parseAll).apply(List.of()));
+            assertEquals(List.of(), batches);
+        }
+
+        @Test
+        void test_adaptive_sizing() {
+            var sizing = BatchSizing.adaptive(1, 4, Duration.ofHours(1));
+            var values = IntStream.range(0, 10).mapToObj(Integer::toString).toList();
+            assertEquals(success(IntStream.range(0, 10).boxed().toList()), ResultList.traverseBatchedMonadic(sizing, parseAll).apply(values));
+            assertEquals(List.of(1, 2, 4, 3), batches.stream().map(List::size).toList());
+        }
+
+        @Test
+        void test_mapping_must_return_a_result_per_value() {
+            Function<List<String>, List<Result<Integer, String>>> dropping = values -> List.of(success(1));
+            var error = assertThrows(IllegalStateException.class, () -> ResultList.traverseBatchedApplicative(2, dropping).apply(List.of("1", "2")));
+            assertEquals("mapping returned 1 results for 2 values", error.getMessage());
+        }
+
+        @Test
+        void test_batch_size_must_be_positive() {
+            var error = assertThrows(IllegalArgumentException.class, () -> ResultList.traverseBatchedMonadic(0, parseAll));
+            assertEquals("batchSize must be positive but was 0", error.getMessage());
+        }
+    }
 }
@@ -0,0 +1,462 @@
+package at.base10.result.interop;
+
+import at.base10.result.Result;
+import at.base10.result.interop.ResultProcessor.FailureOverflow;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static at.base10.result.Result.failure;
+import static at.base10.result.Result.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResultProcessorTest {
+    private static final Function<Integer, Result<Integer, String>> EVEN =
+            value -> value % 2 == 0 ? success(value) : failure("odd " + value);
+
+    private final Upstream upstream = new Upstream();
+    private final Probe<Integer> successes = new Probe<>();
+    private final Probe<String> failures = new Probe<>();
+
+    private ResultProcessor<Integer, Integer, String> connect(int bufferSize, FailureOverflow overflow) {
+        var processor = ResultProcessor.of(EVEN, bufferSize, overflow);
+        processor.subscribe(successes);
+        processor.failures().subscribe(failures);
+        processor.onSubscribe(upstream);
+        return processor;
+    }
+
+    private static void send(ResultProcessor<Integer, Integer, String> processor, int... items) {
+        for (int item : items) {
+            processor.onNext(item);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        var processor = ResultProcessor.of(EVEN);
+        assertThrows(NullPointerException.class, () -> ResultProcessor.of(null));
+        assertThrows(NullPointerException.class, () -> ResultProcessor.of(EVEN, 1, null));
+        assertThrows(NullPointerException.class, () -> processor.subscribe(null));
+        assertThrows(NullPointerException.class, () -> processor.failures().subscribe(null));
+        assertThrows(NullPointerException.class, () -> processor.onSubscribe(null));
+        assertThrows(NullPointerException.class, () -> processor.onNext(null));
+        assertThrows(NullPointerException.class, () -> processor.onError(null));
+    }
+
+    @Test
+    void test_buffer_size_must_be_positive() {
+        var thrown = assertThrows(IllegalArgumentException.class, () -> ResultProcessor.of(EVEN, 0, FailureOverflow.DROP));
+        assertEquals("buffer size must be positive but was 0", thrown.getMessage());
+        ResultProcessor.of(EVEN, 1, FailureOverflow.DROP).onSubscribe(upstream);
+        assertEquals(1, upstream.requested);
+    }
+
+    @Test
+    void test_default_buffer() {
+        var processor = ResultProcessor.of(EVEN);
+        processor.onSubscribe(upstream);
+        assertEquals(Flow.defaultBufferSize(), upstream.requested);
+        send(processor, 1);
+        assertEquals(Flow.defaultBufferSize(), upstream.requested);
+    }
+
+    @Test
+    void test_nothing_is_requested_before_upstream_subscribes() {
+        var processor = ResultProcessor.of(EVEN, 4, FailureOverflow.BACKPRESSURE);
+        processor.subscribe(successes);
+        successes.request(10);
+        assertEquals(0, upstream.requested);
+        processor.onSubscribe(upstream);
+        assertEquals(4, upstream.requested);
+    }
+
+    @Test
+    void test_routes_successes_and_failures_honoring_demand() {
+        var processor = connect(4, FailureOverflow.BACKPRESSURE);
+        assertEquals(4, upstream.requested);
+        send(processor, 1, 2, 3, 4);
+        assertEquals(List.of(), successes.items);
+        assertEquals(List.of(), failures.items);
+        assertEquals(6, upstream.requested);
+
+        successes.request(1);
+        assertEquals(List.of(2), successes.items);
+        assertEquals(6, upstream.requested);
+        failures.request(5);
+        assertEquals(List.of("odd 1", "odd 3"), failures.items);
+        assertEquals(7, upstream.requested);
+        send(processor, 5);
+        assertEquals(List.of("odd 1", "odd 3", "odd 5"), failures.items);
+        assertEquals(8, upstream.requested);
+        assertNull(successes.error);
+        assertFalse(upstream.cancelled);
+    }
+
+    @Test
+    void test_backpressure_stalls_on_slow_failure_side() {
+        var processor = connect(2, FailureOverflow.BACKPRESSURE);
+        successes.request(Long.MAX_VALUE);
+        send(processor, 1, 3);
+        assertEquals(2, upstream.requested);
+        failures.request(1);
+        assertEquals(3, upstream.requested);
+    }
+
+    @Test
+    void test_drop_keeps_successes_flowing() {
+        var processor = connect(2, FailureOverflow.DROP);
+        successes.request(Long.MAX_VALUE);
+        send(processor, 1, 3, 5, 2, 4);
+        assertEquals(7, upstream.requested);
+        assertEquals(List.of(2, 4), successes.items);
+        assertEquals(1, processor.droppedFailures());
+        failures.request(5);
+        assertEquals(List.of("odd 1", "odd 3"), failures.items);
+        assertNull(failures.error);
+    }
+
+    @Test
+    void test_error_fails_both_sides_when_failure_side_is_slow() {
+        var processor = connect(2, FailureOverflow.ERROR);
+        send(processor, 1, 3, 2, 5);
+        assertTrue(upstream.cancelled);
+        assertEquals(0, processor.droppedFailures());
+        send(processor, 4);
+        successes.request(5);
+        failures.request(5);
+        assertEquals(List.of(2), successes.items);
+        assertEquals(List.of("odd 1", "odd 3"), failures.items);
+        assertEquals("failure buffer overflow", successes.error.getMessage());
+        assertEquals("failure buffer overflow", failures.error.getMessage());
+        assertFalse(successes.completed);
+    }
+
+    @Test
+    void test_success_overflow_when_upstream_ignores_demand() {
+        var processor = connect(1, FailureOverflow.DROP);
+        send(processor, 2, 4);
+        successes.request(5);
+        assertEquals(List.of(2), successes.items);
+        assertInstanceOf(IllegalStateException.class, successes.error);
+        assertEquals("success buffer overflow", successes.error.getMessage());
+        assertTrue(upstream.cancelled);
+    }
+
+    @Test
+    void test_mapping_exception_cancels_upstream_after_buffered_items() {
+        var boom = new IllegalStateException("boom");
+        var processor = ResultProcessor.<Integer, Integer, String>of(value -> {
+            if (value > 2) {
+                throw boom;
+            }
+            return success(value);
+        }, 4, FailureOverflow.BACKPRESSURE);
+        processor.subscribe(successes);
+        processor.failures().subscribe(failures);
+        processor.onSubscribe(upstream);
+        send(processor, 1, 3);
+        assertTrue(upstream.cancelled);
+        assertEquals(boom, failures.error);
+        assertNull(successes.error);
+        successes.request(1);
+        assertEquals(List.of(1), successes.items);
+        assertEquals(boom, successes.error);
+        assertEquals(4, upstream.requested);
+    }
+
+    @Test
+    void test_completion_waits_for_buffered_items() {
+        var processor = connect(4, FailureOverflow.BACKPRESSURE);
+        send(processor, 2);
+        processor.onComplete();
+        assertTrue(failures.completed);
+        assertFalse(successes.completed);
+        successes.request(1);
+        assertEquals(List.of(2), successes.items);
+        assertTrue(successes.completed);
+        assertFalse(upstream.cancelled);
+        assertEquals(4, upstream.requested);
+        successes.request(1);
+        assertEquals(1, successes.signals);
+    }
+
+    @Test
+    void test_upstream_error_is_passed_to_both_sides() {
+        var processor = connect(4, FailureOverflow.BACKPRESSURE);
+        var boom = new IllegalStateException("boom");
+        processor.onError(boom);
+        assertEquals(boom, successes.error);
+        assertEquals(boom, failures.error);
+        assertFalse(successes.completed);
+    }
+
+    @Test
+    void test_late_subscriber_receives_buffered_items() {
+        var processor = ResultProcessor.of(EVEN, 4, FailureOverflow.DROP);
+        processor.onSubscribe(upstream);
+        send(processor, 2, 4);
+        processor.onComplete();
+        processor.subscribe(successes);
+        successes.request(5);
+        assertEquals(List.of(2, 4), successes.items);
+        assertTrue(successes.completed);
+    }
+
+    @Test
+    void test_single_subscriber_per_side() {
+        var processor = connect(4, FailureOverflow.BACKPRESSURE);
+        var second = new Probe<Integer>();
+        var secondFailures = new Probe<String>();
+        processor.subscribe(second);
+        processor.failures().subscribe(secondFailures);
+        assertEquals("the success side already has a subscriber", second.error.getMessage());
+        assertEquals("the failure side already has a subscriber", secondFailures.error.getMessage());
+        second.request(1);
+        second.subscription.cancel();
+        send(processor, 2);
+        successes.request(1);
+        assertEquals(List.of(2), successes.items);
+        assertEquals(List.of(), second.items);
+    }
+
+    @Test
+    void test_second_upstream_subscription_is_cancelled() {
+        var processor = connect(4, FailureOverflow.BACKPRESSURE);
+        var second = new Upstream();
+        processor.onSubscribe(second);
+        assertTrue(second.cancelled);
+        assertEquals(0, second.requested);
+        assertFalse(upstream.cancelled);
+    }
+
+    @Test
+    void test_cancelled_side_discards_items() {
+        var processor = connect(2, FailureOverflow.BACKPRESSURE);
+        send(processor, 1, 3);
+        assertEquals(2, upstream.requested);
+        failures.subscription.cancel();
+        assertEquals(4, upstream.requested);
+        send(processor, 5, 7, 9, 2);
+        successes.request(5);
+        failures.request(5);
+        assertEquals(List.of(2), successes.items);
+        assertEquals(List.of(), failures.items);
+        assertEquals(0, failures.signals);
+        assertFalse(upstream.cancelled);
+        processor.onComplete();
+        assertTrue(successes.completed);
+        assertFalse(failures.completed);
+    }
+
+    @Test
+    void test_cancelling_both_sides_cancels_upstream() {
+        connect(2, FailureOverflow.BACKPRESSURE);
+        successes.subscription.cancel();
+        assertFalse(upstream.cancelled);
+        failures.subscription.cancel();
+        assertTrue(upstream.cancelled);
+    }
+
+    @Test
+    void test_invalid_request_signals_error_and_cancels() {
+        var processor = connect(2, FailureOverflow.BACKPRESSURE);
+        send(processor, 1);
+        failures.request(0);
+        assertInstanceOf(IllegalArgumentException.class, failures.error);
+        assertEquals("requested 0 failure items", failures.error.getMessage());
+        assertEquals(List.of(), failures.items);
+        successes.request(-1);
+        assertEquals("requested -1 success items", successes.error.getMessage());
+        assertTrue(upstream.cancelled);
+        processor.onComplete();
+        assertEquals(1, failures.signals);
+        assertEquals(1, successes.signals);
+    }
+
+    @Test
+    void test_cancelling_from_on_next_stops_delivery() {
+        var processor = ResultProcessor.of(EVEN, 4, FailureOverflow.BACKPRESSURE);
+        var cancelling = new Probe<Integer>() {
+            @Override
+            public void onNext(Integer item) {
+                super.onNext(item);
+                subscription.cancel();
+            }
+        };
+        processor.subscribe(cancelling);
+        processor.onSubscribe(upstream);
+        send(processor, 2, 4);
+        cancelling.request(2);
+        assertEquals(List.of(2), cancelling.items);
+    }
+
+    @Test
+    void test_requesting_from_on_subscribe() {
+        var processor = ResultProcessor.of(EVEN, 4, FailureOverflow.BACKPRESSURE);
+        processor.onSubscribe(upstream);
+        send(processor, 2, 4);
+        var eager = new Probe<Integer>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                super.onSubscribe(subscription);
+                request(1);
+            }
+        };
+        processor.subscribe(eager);
+        assertEquals(List.of(2), eager.items);
+    }
+
+    @Test
+    void test_demand_does_not_overflow() {
+        var processor = connect(4, FailureOverflow.BACKPRESSURE);
+        successes.request(Long.MAX_VALUE);
+        successes.request(Long.MAX_VALUE);
+        send(processor, 2, 4);
+        assertEquals(List.of(2, 4), successes.items);
+    }
+
+    @Test
+    void test_demand_accumulates() {
+        var processor = connect(4, FailureOverflow.BACKPRESSURE);
+        successes.request(1);
+        successes.request(1);
+        send(processor, 2, 4, 6);
+        assertEquals(List.of(2, 4), successes.items);
+    }
+
+    @Test
+    void test_pending_demand_becomes_unbounded() {
+        var processor = connect(4, FailureOverflow.BACKPRESSURE);
+        successes.request(1);
+        successes.request(Long.MAX_VALUE);
+        send(processor, 2, 4, 6);
+        assertEquals(List.of(2, 4, 6), successes.items);
+    }
+
+    @Test
+    void test_requesting_from_on_next() {
+        var processor = ResultProcessor.of(EVEN, 8, FailureOverflow.BACKPRESSURE);
+        var reentrant = new Probe<Integer>() {
+            @Override
+            public void onNext(Integer item) {
+                super.onNext(item);
+                request(1);
+            }
+        };
+        processor.subscribe(reentrant);
+        processor.failures().subscribe(failures);
+        processor.onSubscribe(upstream);
+        send(processor, 2, 4, 6);
+        assertEquals(List.of(), reentrant.items);
+        reentrant.request(1);
+        assertEquals(List.of(2, 4, 6), reentrant.items);
+    }
+
+    @Test
+    void test_asynchronous_publisher() throws InterruptedException {
+        var processor = ResultProcessor.of(EVEN, 16, FailureOverflow.BACKPRESSURE);
+        var evens = new Counting();
+        var odds = new Counting();
+        processor.subscribe(evens);
+        processor.failures().subscribe(odds);
+        try (var publisher = new SubmissionPublisher<Integer>()) {
+            publisher.subscribe(processor);
+            for (int i = 0; i < 10_000; i++) {
+                publisher.submit(i);
+            }
+        }
+        assertTrue(evens.done.await(10, TimeUnit.SECONDS));
+        assertTrue(odds.done.await(10, TimeUnit.SECONDS));
+        assertEquals(5_000, evens.count);
+        assertEquals(5_000, odds.count);
+    }
+
+    private static final class Upstream implements Flow.Subscription {
+        private long requested;
+        private boolean cancelled;
+
+        @Override
+        public void request(long items) {
+            requested += items;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private static class Probe<T> implements Flow.Subscriber<T> {
+        final List<T> items = new ArrayList<>();
+        Flow.Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+        private int signals;
+
+        void request(long items) {
+            subscription.request(items);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            signals++;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            signals++;
+        }
+    }
+
+    private static final class Counting implements Flow.Subscriber<Object> {
+        private final CountDownLatch done = new CountDownLatch(1);
+        private Flow.Subscription subscription;
+        private int count;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(Object item) {
+            count++;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
+}
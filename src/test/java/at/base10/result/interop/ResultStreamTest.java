@@ -5,6 +5,11 @@ import at.base10.result.TestHelpers;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static at.base10.result.Assert.assertEqualStreamFailure;
@@ -12,6 +17,7 @@ import static at.base10.result.Assert.assertEqualStreamSuccess;
 import static at.base10.result.Result.failure;
 import static at.base10.result.Result.success;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class ResultStreamTest {
 
@@ -450,5 +456,98 @@ public class ResultStreamTest {
 
     }
 
+    @Nested
+    class WithAccumulation {
+        @Test
+        void test_traverseApplicative_stops_consuming_after_the_error_budget() {
+            List<String> consumed = new ArrayList<>();
+            Stream<String> stream = Stream.of("X", "2", "Y", "Z").peek(consumed::add);
+            assertEquals(failure(List.of("'X' is not a number", "'Y' is not a number")),
+                    ResultStream.traverseApplicative(TestHelpers::tryParseInt, FailureAccumulation.first(2)).apply(stream));
+            assertEquals(List.of("X", "2", "Y"), consumed);
+        }
+
+        @Test
+        void test_traverseApplicative_success() {
+            assertEqualStreamSuccess(ResultStream.traverseApplicative(TestHelpers::tryParseInt, FailureAccumulation.counting()).apply(Stream.of("1", "2")),
+                    success(Stream.of(1, 2)));
+        }
+
+        @Test
+        void test_sequenceApplicative() {
+            Stream<Result<Integer, String>> stream = Stream.of(failure("a"), success(2), failure("a"), failure("b"));
+            assertEquals(failure(Map.of("a", 2L, "b", 1L)), ResultStream.sequenceApplicative(stream, FailureAccumulation.distinct()));
+        }
+    }
+
+    @Nested
+    class Streaming {
+        private final List<Integer> successes = new ArrayList<>();
+        private final List<String> failures = new ArrayList<>();
+
+        @Test
+        void test_traverseStreaming_success() {
+            assertEquals(success(3L), ResultStream.traverseStreaming(TestHelpers::tryParseInt, successes::add, failures::add).apply(Stream.of("1", "2", "3")));
+            assertEquals(List.of(1, 2, 3), successes);
+            assertEquals(List.of(), failures);
+        }
+
+        @Test
+        void test_traverseStreaming_failure() {
+            assertEquals(failure(2L), ResultStream.traverseStreaming(TestHelpers::tryParseInt, successes::add, failures::add).apply(Stream.of("X", "2", "Y", "4")));
+            assertEquals(List.of(2, 4), successes);
+            assertEquals(List.of("'X' is not a number", "'Y' is not a number"), failures);
+        }
+
+        @Test
+        void test_sequenceStreaming_empty() {
+            assertEquals(success(0L), ResultStream.sequenceStreaming(Stream.<Result<Integer, String>>empty(), successes::add, failures::add));
+        }
 
+        @Test
+        void test_sequenceStreaming_parallel_keeps_encounter_order() {
+            Stream<Result<Integer, String>> stream = IntStream.range(0, 10_000).parallel().mapToObj(i -> i % 3 == 0 ? failure("fizz " + i) : success(i));
+            assertEquals(failure(3_334L), ResultStream.sequenceStreaming(stream, successes::add, failures::add));
+            assertEquals(IntStream.range(0, 10_000).filter(i -> i % 3 != 0).boxed().toList(), successes);
+            assertEquals(IntStream.range(0, 10_000).filter(i -> i % 3 == 0).mapToObj(i -> "fizz " + i).toList(), failures);
+        }
+    }
+
+    @Nested
+    class Batched {
+        private final List<List<String>> batches = new ArrayList<>();
+        private final Function<List<String>, List<Result<Integer, String>>> parseAll = values -> {
+            batches.add(values);
+            return values.stream().map(TestHelpers::tryParseInt).toList();
+        };
+
+        @Test
+        void test_traverseBatchedApplicative_success() {
+            assertEqualStreamSuccess(ResultStream.traverseBatchedApplicative(2, parseAll).apply(Stream.of("1", "2", "3")), success(Stream.of(1, 2, 3)));
+            assertEquals(List.of(List.of("1", "2"), List.of("3")), batches);
+        }
+
+        @Test
+        void test_traverseBatchedApplicative_failure() {
+            assertEqualStreamFailure(ResultStream.traverseBatchedApplicative(2, parseAll).apply(Stream.of("X", "2", "Y")),
+                    failure(Stream.of("'X' is not a number", "'Y' is not a number")));
+            assertEquals(2, batches.size());
+        }
+
+        @Test
+        void test_traverseBatchedMonadic_success() {
+            assertEqualStreamSuccess(ResultStream.traverseBatchedMonadic(2, parseAll).apply(Stream.of("1", "2", "3")), success(Stream.of(1, 2, 3)));
+        }
+
+        @Test
+        void test_traverseBatchedMonadic_stops_after_the_batch_with_the_first_failure() {
+            assertEquals(failure("'X' is not a number"), ResultStream.traverseBatchedMonadic(2, parseAll).apply(Stream.of("1", "X", "3", "Y")));
+            assertEquals(List.of(List.of("1", "X")), batches);
+        }
+
+        @Test
+        void test_batch_size_must_be_positive() {
+            assertThrows(IllegalArgumentException.class, () -> ResultStream.traverseBatchedApplicative(0, parseAll));
+        }
+    }
 }
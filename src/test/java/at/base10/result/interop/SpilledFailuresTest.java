@@ -0,0 +1,368 @@
+package at.base10.result.interop;
+
+import at.base10.result.Result;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SpilledFailuresTest {
+    @TempDir
+    Path directory;
+
+    private final List<String> events = new ArrayList<>();
+    private String failOn = "";
+
+    /**
+     * Keeps the spill files in the file system, recording when streams are closed and failing the operation named
+     * by {@code failOn}.
+     */
+    private final Spilling.Storage recording = new Spilling.Storage() {
+        @Override
+        public Path create(Path directory) throws IOException {
+            check("create");
+            return Spilling.FileStorage.INSTANCE.create(directory);
+        }
+
+        @Override
+        public OutputStream write(Path file) throws IOException {
+            check("write");
+            return new FilterOutputStream(Spilling.FileStorage.INSTANCE.write(file)) {
+                @Override
+                public void close() throws IOException {
+                    events.add("output closed");
+                    check("close output");
+                    super.close();
+                }
+            };
+        }
+
+        @Override
+        public InputStream read(Path file) throws IOException {
+            check("read");
+            return new FilterInputStream(Spilling.FileStorage.INSTANCE.read(file)) {
+                @Override
+                public void close() throws IOException {
+                    events.add("input closed");
+                    check("close input");
+                    super.close();
+                }
+            };
+        }
+
+        @Override
+        public void delete(Path file) throws IOException {
+            check("delete");
+            Spilling.FileStorage.INSTANCE.delete(file);
+        }
+    };
+
+    private void check(String operation) throws IOException {
+        if (operation.equals(failOn)) {
+            throw new IOException(operation + " failed");
+        }
+    }
+
+    private static <A> A failures(FailureAccumulation<String, A> accumulation, String... failures) {
+        return ResultList.<String, Integer, String, A>traverseApplicative(Result::failure, accumulation).apply(List.of(failures)).failure();
+    }
+
+    private FailureAccumulation<String, SpilledFailures<String>> recorded(int threshold) {
+        return () -> new Spilling<>(threshold, FailureCodec.utf8(), directory, recording);
+    }
+
+    private List<Path> files() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        }
+    }
+
+    private static List<String> list(Iterable<String> failures) {
+        List<String> list = new ArrayList<>();
+        failures.forEach(list::add);
+        return list;
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void test_nonNull() {
+        assertThrows(NullPointerException.class, () -> FailureAccumulation.spilling(1, null));
+        assertThrows(NullPointerException.class, () -> FailureAccumulation.spilling(1, FailureCodec.utf8(), null));
+    }
+
+    @Test
+    void test_threshold_must_be_positive() {
+        var error = assertThrows(IllegalArgumentException.class, () -> FailureAccumulation.spilling(0, FailureCodec.utf8()));
+        assertEquals("threshold must be positive but was 0", error.getMessage());
+    }
+
+    @Test
+    void test_failures_up_to_the_threshold_stay_in_memory() throws IOException {
+        try (var failures = failures(FailureAccumulation.spilling(3, FailureCodec.utf8(), directory), "a", "b", "c")) {
+            assertEquals(List.of("a", "b", "c"), list(failures));
+            assertEquals(3, failures.size());
+            assertEquals(0, failures.spilled());
+            assertEquals(List.of(), files());
+        }
+    }
+
+    @Test
+    void test_failures_beyond_the_threshold_are_spilled() throws IOException {
+        var failures = failures(FailureAccumulation.spilling(2, FailureCodec.utf8(), directory), "a", "b", "", "ünïcødé", "e");
+        assertEquals(5, failures.size());
+        assertEquals(3, failures.spilled());
+        assertEquals(1, files().size());
+        assertEquals(List.of("a", "b", "", "ünïcødé", "e"), list(failures));
+        assertEquals(List.of("a", "b", "", "ünïcødé", "e"), list(failures));
+        failures.close();
+        assertEquals(List.of(), files());
+        var iterator = failures.iterator();
+        assertEquals("a", iterator.next());
+        assertEquals("b", iterator.next());
+        assertThrows(UncheckedIOException.class, iterator::next);
+    }
+
+    @Test
+    void test_default_directory() {
+        try (var failures = failures(FailureAccumulation.spilling(1, FailureCodec.utf8()), "a", "b")) {
+            assertEquals(1, failures.spilled());
+            assertEquals(List.of("a", "b"), list(failures));
+        }
+    }
+
+    @Test
+    void test_many_failures() {
+        var expected = IntStream.range(0, 50_000).mapToObj(i -> "failure " + i).toList();
+        try (var failures = failures(FailureAccumulation.spilling(100, FailureCodec.utf8(), directory), expected.toArray(String[]::new))) {
+            assertEquals(49_900, failures.spilled());
+            assertEquals(expected, list(failures));
+        }
+    }
+
+    @Test
+    void test_exhausted_iterator() {
+        try (var failures = failures(FailureAccumulation.spilling(1, FailureCodec.utf8(), directory), "a", "b")) {
+            Iterator<String> iterator = failures.iterator();
+            iterator.next();
+            iterator.next();
+            assertFalse(iterator.hasNext());
+            assertThrows(NoSuchElementException.class, iterator::next);
+        }
+    }
+
+    @Test
+    void test_iterator_releases_the_file_when_exhausted() {
+        var failures = failures(recorded(1), "a", "b", "c");
+        assertEquals(List.of("output closed"), events);
+        Iterator<String> iterator = failures.iterator();
+        iterator.next();
+        iterator.next();
+        assertEquals(List.of("output closed"), events);
+        iterator.next();
+        assertEquals(List.of("output closed", "input closed"), events);
+        failures.close();
+        assertEquals(List.of("output closed", "input closed"), events);
+    }
+
+    @Test
+    void test_close_releases_abandoned_iterators() throws IOException {
+        var failures = failures(recorded(1), "a", "b", "c");
+        var first = failures.iterator();
+        first.next();
+        first.next();
+        failures.iterator().next();
+        failures.close();
+        assertEquals(List.of("output closed", "input closed"), events);
+        assertEquals(List.of(), files());
+    }
+
+    @Test
+    void test_spilling_fails_with_the_file() throws IOException {
+        for (String operation : List.of("create", "write", "close output")) {
+            failOn = operation;
+            var error = assertThrows(UncheckedIOException.class, () -> failures(recorded(1), "a", "b"));
+            assertEquals(operation + " failed", error.getCause().getMessage());
+            assertEquals(List.of(), files());
+        }
+    }
+
+    private List<Integer> traverse(FailureAccumulation<String, SpilledFailures<String>> accumulation, String... values) {
+        return ResultList.<String, Integer, String, SpilledFailures<String>>traverseApplicative(value -> {
+            if (value.equals("boom")) {
+                throw new IllegalStateException(value);
+            }
+            return Result.failure(value);
+        }, accumulation).apply(List.of(values)).orThrow();
+    }
+
+    @Test
+    void test_failed_traversal_deletes_the_file() throws IOException {
+        var error = assertThrows(IllegalStateException.class, () -> traverse(recorded(1), "a", "b", "c", "boom", "d"));
+        assertEquals("boom", error.getMessage());
+        assertEquals(List.of("output closed"), events);
+        assertEquals(List.of(), files());
+        assertEquals(0, error.getSuppressed().length);
+    }
+
+    @Test
+    void test_error_in_traversal_deletes_the_file() throws IOException {
+        var error = assertThrows(AssertionError.class, () -> ResultList.<String, Integer, String, SpilledFailures<String>>traverseApplicative(value -> {
+            if (value.equals("fatal")) {
+                throw new AssertionError(value);
+            }
+            return Result.failure(value);
+        }, recorded(1)).apply(List.of("a", "b", "fatal")));
+        assertEquals("fatal", error.getMessage());
+        assertEquals(List.of("output closed"), events);
+        assertEquals(List.of(), files());
+    }
+
+    @Test
+    void test_failed_close_deletes_the_file() throws IOException {
+        var spilling = new Spilling<>(1, FailureCodec.utf8(), directory, recording);
+        spilling.add("a");
+        spilling.add("b");
+        failOn = "close output";
+        var error = assertThrows(UncheckedIOException.class, spilling::result);
+        assertEquals("close output failed", error.getCause().getMessage());
+        assertEquals(0, error.getSuppressed().length);
+        assertEquals(List.of(), files());
+    }
+
+    @Test
+    void test_failed_delete_after_failed_close_is_suppressed() throws IOException {
+        var spilling = new Spilling<>(1, FailureCodec.utf8(), directory, new Spilling.Storage() {
+            @Override
+            public Path create(Path directory) throws IOException {
+                return recording.create(directory);
+            }
+
+            @Override
+            public OutputStream write(Path file) throws IOException {
+                return recording.write(file);
+            }
+
+            @Override
+            public InputStream read(Path file) throws IOException {
+                return recording.read(file);
+            }
+
+            @Override
+            public void delete(Path file) throws IOException {
+                throw new IOException("delete failed");
+            }
+        });
+        spilling.add("a");
+        spilling.add("b");
+        failOn = "close output";
+        var error = assertThrows(UncheckedIOException.class, spilling::result);
+        assertEquals("close output failed", error.getCause().getMessage());
+        assertEquals("delete failed", error.getSuppressed()[0].getMessage());
+        assertEquals(1, files().size());
+    }
+
+    @Test
+    void test_failed_traversal_before_the_first_spill() throws IOException {
+        var error = assertThrows(IllegalStateException.class, () -> traverse(recorded(2), "a", "boom"));
+        assertEquals(0, error.getSuppressed().length);
+        assertEquals(List.of(), events);
+        assertEquals(List.of(), files());
+    }
+
+    @Test
+    void test_failed_cleanup_is_suppressed() {
+        failOn = "close output";
+        var error = assertThrows(IllegalStateException.class, () -> traverse(recorded(1), "a", "b", "boom"));
+        var suppressed = error.getSuppressed()[0];
+        assertEquals(UncheckedIOException.class, suppressed.getClass());
+        assertEquals("close output failed", suppressed.getCause().getMessage());
+        assertEquals(List.of("output closed"), events);
+    }
+
+    @Test
+    void test_abandoned_through_and_then() throws IOException {
+        var joined = recorded(1).andThen(SpilledFailures::size);
+        assertThrows(IllegalStateException.class, () -> ResultList.<String, Integer, String, Long>traverseApplicative(value -> {
+            if (value.equals("boom")) {
+                throw new IllegalStateException(value);
+            }
+            return Result.failure(value);
+        }, joined).apply(List.of("a", "b", "boom")));
+        assertEquals(List.of("output closed"), events);
+        assertEquals(List.of(), files());
+    }
+
+    @Test
+    void test_held_failures_are_unmodifiable() {
+        try (var failures = failures(FailureAccumulation.spilling(2, FailureCodec.utf8(), directory), "a", "b", "c")) {
+            assertEquals(List.of("a", "b"), failures.held());
+            assertThrows(UnsupportedOperationException.class, () -> failures.held().remove(0));
+            var iterator = failures.iterator();
+            iterator.next();
+            assertThrows(UnsupportedOperationException.class, iterator::remove);
+            assertEquals(3, failures.size());
+            assertEquals(List.of("a", "b", "c"), list(failures));
+        }
+    }
+
+    @Test
+    void test_reading_fails_with_the_file() {
+        var failures = failures(recorded(1), "a", "b");
+        failOn = "read";
+        var iterator = failures.iterator();
+        assertEquals("a", iterator.next());
+        var error = assertThrows(UncheckedIOException.class, iterator::next);
+        assertEquals("read failed", error.getCause().getMessage());
+    }
+
+    @Test
+    void test_closing_fails_with_the_file() {
+        var failures = failures(recorded(1), "a", "b");
+        failOn = "delete";
+        assertEquals("delete failed", assertThrows(UncheckedIOException.class, failures::close).getCause().getMessage());
+        failOn = "close input";
+        var iterator = failures.iterator();
+        iterator.next();
+        assertEquals("close input failed", assertThrows(UncheckedIOException.class, iterator::next).getCause().getMessage());
+    }
+
+    @Test
+    void test_codec_failures() {
+        var broken = new FailureCodec<String>() {
+            @Override
+            public void write(String failure, DataOutput out) throws IOException {
+                out.writeUTF(failure);
+            }
+
+            @Override
+            public String read(DataInput in) throws IOException {
+                throw new IOException("unreadable");
+            }
+        };
+        try (var failures = failures(FailureAccumulation.spilling(1, broken, directory), "a", "b")) {
+            var iterator = failures.iterator();
+            iterator.next();
+            assertEquals("unreadable", assertThrows(UncheckedIOException.class, iterator::next).getCause().getMessage());
+        }
+    }
+}